@@ -14,6 +14,7 @@ import com.jockie.bot.core.command.parser.ParseContext;
 import com.jockie.bot.core.parser.IParsableComponent;
 import com.jockie.bot.core.parser.IParser;
 import com.jockie.bot.core.parser.ParsedResult;
+import com.jockie.bot.core.parser.ParserGuard;
 import com.jockie.bot.core.property.IPropertyContainer;
 
 import net.dv8tion.jda.api.entities.Message;
@@ -92,7 +93,12 @@ public interface IArgument<Type> extends IPropertyContainer, IParsableComponent<
 	 */
 	@Nonnull
 	public default ParsedResult<Type> parse(@Nonnull ParseContext context, @Nonnull String content) {
-		return this.getParser().parse(context, this, content);
+		IParser<Type, IArgument<Type>> parser = this.getParser();
+		if(!ParserGuard.isPossible(parser, content)) {
+			return new ParsedResult<>(false, null);
+		}
+		
+		return parser.parse(context, this, content);
 	}
 	
 	public abstract class Builder<Type, ArgumentType extends IArgument<Type>, BuilderType extends Builder<Type, ArgumentType, BuilderType>> {
@@ -13,10 +13,6 @@ public class EndlessArgumentImpl<Type> extends ArgumentImpl<Type[]> implements I
 		public Builder(@Nonnull Class<Type> componentType) {
 			super(componentType);
 			
-			if(componentType.isPrimitive()) {
-				throw new IllegalArgumentException("Primitve types are currently not supported for endless arguments");
-			}
-			
 			this.parser = EndlessArgumentParser.getInstance();
 		}
 		
@@ -1,14 +1,25 @@
 package com.jockie.bot.core.argument.impl;
 
 import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Set;
 
 import com.jockie.bot.core.argument.IArgument;
 import com.jockie.bot.core.command.ICommand.ArgumentTrimType;
 import com.jockie.bot.core.command.parser.ParseContext;
 import com.jockie.bot.core.command.parser.impl.CommandParserImpl;
+import com.jockie.bot.core.parser.IAsyncParser;
+import com.jockie.bot.core.parser.IBatchParser;
+import com.jockie.bot.core.parser.IDoubleParser;
+import com.jockie.bot.core.parser.IIntParser;
+import com.jockie.bot.core.parser.ILongParser;
 import com.jockie.bot.core.parser.IParser;
 import com.jockie.bot.core.parser.ParsedResult;
+import com.jockie.bot.core.parser.ParserGuard;
+import com.jockie.bot.core.parser.PrimitiveResult;
+import com.jockie.bot.core.utility.CommandUtility;
 import com.jockie.bot.core.utility.StringUtility;
 
 import net.dv8tion.jda.internal.utils.tuple.Pair;
@@ -17,40 +28,458 @@ public class EndlessArgumentParser<Type> implements IParser<Type[], IArgument<Ty
 	
 	public static final EndlessArgumentParser<Object> INSTANCE = new EndlessArgumentParser<>();
 	
+	/* The initial capacity of the buffer if the argument does not have a maximum amount of arguments */
+	private static final int DEFAULT_CAPACITY = 10;
+	
 	@SuppressWarnings("unchecked")
 	public static <T> EndlessArgumentParser<T> getInstance() {
 		return (EndlessArgumentParser<T>) INSTANCE;
 	}
 	
+	/**
+	 * A buffer of parsed arguments which grows geometrically, the values are stored in an array of the 
+	 * component type so they only have to be copied once all of them have been parsed
+	 */
+	private abstract static class ArgumentBuffer {
+		
+		protected final IArgument<?> argument;
+		
+		/* Only needed by buffers which use the parser directly, rather than through IArgument#parse which checks it */
+		protected final ParserGuard guard;
+		
+		protected int size;
+		
+		protected ArgumentBuffer(IArgument<?> argument) {
+			this.argument = argument;
+			this.guard = argument.getParser().getGuard();
+		}
+		
+		protected boolean isPossible(String content) {
+			return this.guard == null || this.guard.test(content);
+		}
+		
+		protected static int grow(int capacity) {
+			return capacity + (capacity >> 1) + 1;
+		}
+		
+		public int size() {
+			return this.size;
+		}
+		
+		/**
+		 * @return whether or not the content was a valid argument
+		 */
+		public abstract boolean add(ParseContext context, String content);
+		
+		/**
+		 * Resolve the arguments which have been added but not yet parsed, this is called once every argument has been added
+		 * 
+		 * @return whether or not every argument was valid
+		 */
+		public boolean resolve(ParseContext context) {
+			return true;
+		}
+		
+		/**
+		 * @return the parsed arguments as an array of the component type
+		 */
+		public abstract Object toArray();
+	}
+	
+	/**
+	 * A buffer which parses every argument as soon as it is added
+	 */
+	private abstract static class ValueBuffer extends ArgumentBuffer {
+		
+		protected ValueBuffer(IArgument<?> argument) {
+			super(argument);
+		}
+		
+		/**
+		 * Add an already parsed argument, used for arguments which handle all the content
+		 */
+		public abstract void add(Object value);
+	}
+	
+	private static class ObjectBuffer extends ValueBuffer {
+		
+		private final Class<?> componentType;
+		
+		private Object[] values;
+		
+		public ObjectBuffer(IArgument<?> argument, Class<?> componentType, int capacity) {
+			super(argument);
+			
+			this.componentType = componentType;
+			
+			/* Primitive types without a specialized buffer are stored boxed and converted at the end */
+			Class<?> bufferType = componentType.isPrimitive() ? CommandUtility.getBoxedClass(componentType) : componentType;
+			
+			this.values = (Object[]) Array.newInstance(bufferType, capacity);
+		}
+		
+		@Override
+		public boolean add(ParseContext context, String content) {
+			ParsedResult<?> parsed = this.argument.parse(context, content);
+			if(!parsed.isValid()) {
+				return false;
+			}
+			
+			this.add(parsed.getObject());
+			
+			return true;
+		}
+		
+		@Override
+		public void add(Object value) {
+			if(this.size == this.values.length) {
+				this.values = Arrays.copyOf(this.values, ArgumentBuffer.grow(this.values.length));
+			}
+			
+			this.values[this.size++] = value;
+		}
+		
+		@Override
+		public Object toArray() {
+			if(this.componentType.isPrimitive()) {
+				Object array = Array.newInstance(this.componentType, this.size);
+				for(int i = 0; i < this.size; i++) {
+					Array.set(array, i, this.values[i]);
+				}
+				
+				return array;
+			}
+			
+			return this.size == this.values.length ? this.values : Arrays.copyOf(this.values, this.size);
+		}
+	}
+	
+	/**
+	 * A buffer which only collects the content of every argument, the arguments are then parsed together 
+	 * by the {@link IBatchParser} once every argument has been added
+	 */
+	private static class BatchBuffer extends ArgumentBuffer {
+		
+		private final IBatchParser<Object, IArgument<?>> parser;
+		
+		private final List<String> contents;
+		
+		private Object[] values;
+		
+		@SuppressWarnings("unchecked")
+		public BatchBuffer(IArgument<?> argument, Class<?> componentType, int capacity) {
+			super(argument);
+			
+			this.parser = (IBatchParser<Object, IArgument<?>>) argument.getParser();
+			this.contents = new ArrayList<>(capacity);
+			this.values = (Object[]) Array.newInstance(componentType, 0);
+		}
+		
+		@Override
+		public boolean add(ParseContext context, String content) {
+			if(!this.isPossible(content)) {
+				return false;
+			}
+			
+			this.contents.add(content);
+			this.size++;
+			
+			return true;
+		}
+		
+		@Override
+		public boolean resolve(ParseContext context) {
+			if(this.contents.isEmpty()) {
+				return true;
+			}
+			
+			List<ParsedResult<Object>> parsed = IAsyncParser.await(this.parser.parseAllAsync(context, this.argument, this.contents), this.parser.getTimeout(this.size));
+			if(parsed == null || parsed.size() != this.size) {
+				return false;
+			}
+			
+			Object[] values = Arrays.copyOf(this.values, this.size);
+			for(int i = 0; i < values.length; i++) {
+				ParsedResult<Object> result = parsed.get(i);
+				if(!result.isValid()) {
+					return false;
+				}
+				
+				values[i] = result.getObject();
+			}
+			
+			this.values = values;
+			
+			return true;
+		}
+		
+		@Override
+		public Object toArray() {
+			return this.values;
+		}
+	}
+	
+	private static class IntBuffer extends ValueBuffer {
+		
+		private final IIntParser<IArgument<?>> parser;
+		private final PrimitiveResult result = new PrimitiveResult();
+		
+		private int[] values;
+		
+		@SuppressWarnings("unchecked")
+		public IntBuffer(IArgument<?> argument, int capacity) {
+			super(argument);
+			
+			IParser<?, ?> parser = argument.getParser();
+			this.parser = parser instanceof IIntParser ? (IIntParser<IArgument<?>>) parser : null;
+			this.values = new int[capacity];
+		}
+		
+		private void add(int value) {
+			if(this.size == this.values.length) {
+				this.values = Arrays.copyOf(this.values, ArgumentBuffer.grow(this.values.length));
+			}
+			
+			this.values[this.size++] = value;
+		}
+		
+		@Override
+		public boolean add(ParseContext context, String content) {
+			if(this.parser == null) {
+				ParsedResult<?> parsed = this.argument.parse(context, content);
+				if(!parsed.isValid()) {
+					return false;
+				}
+				
+				this.add(parsed.getObject());
+				
+				return true;
+			}
+			
+			if(!this.isPossible(content) || !this.parser.parseInt(context, this.argument, content, this.result)) {
+				return false;
+			}
+			
+			this.add(this.result.getInt());
+			
+			return true;
+		}
+		
+		@Override
+		public void add(Object value) {
+			this.add(((Integer) value).intValue());
+		}
+		
+		@Override
+		public Object toArray() {
+			return this.size == this.values.length ? this.values : Arrays.copyOf(this.values, this.size);
+		}
+	}
+	
+	private static class LongBuffer extends ValueBuffer {
+		
+		private final ILongParser<IArgument<?>> parser;
+		private final PrimitiveResult result = new PrimitiveResult();
+		
+		private long[] values;
+		
+		@SuppressWarnings("unchecked")
+		public LongBuffer(IArgument<?> argument, int capacity) {
+			super(argument);
+			
+			IParser<?, ?> parser = argument.getParser();
+			this.parser = parser instanceof ILongParser ? (ILongParser<IArgument<?>>) parser : null;
+			this.values = new long[capacity];
+		}
+		
+		private void add(long value) {
+			if(this.size == this.values.length) {
+				this.values = Arrays.copyOf(this.values, ArgumentBuffer.grow(this.values.length));
+			}
+			
+			this.values[this.size++] = value;
+		}
+		
+		@Override
+		public boolean add(ParseContext context, String content) {
+			if(this.parser == null) {
+				ParsedResult<?> parsed = this.argument.parse(context, content);
+				if(!parsed.isValid()) {
+					return false;
+				}
+				
+				this.add(parsed.getObject());
+				
+				return true;
+			}
+			
+			if(!this.isPossible(content) || !this.parser.parseLong(context, this.argument, content, this.result)) {
+				return false;
+			}
+			
+			this.add(this.result.getLong());
+			
+			return true;
+		}
+		
+		@Override
+		public void add(Object value) {
+			this.add(((Long) value).longValue());
+		}
+		
+		@Override
+		public Object toArray() {
+			return this.size == this.values.length ? this.values : Arrays.copyOf(this.values, this.size);
+		}
+	}
+	
+	private static class DoubleBuffer extends ValueBuffer {
+		
+		private final IDoubleParser<IArgument<?>> parser;
+		private final PrimitiveResult result = new PrimitiveResult();
+		
+		private double[] values;
+		
+		@SuppressWarnings("unchecked")
+		public DoubleBuffer(IArgument<?> argument, int capacity) {
+			super(argument);
+			
+			IParser<?, ?> parser = argument.getParser();
+			this.parser = parser instanceof IDoubleParser ? (IDoubleParser<IArgument<?>>) parser : null;
+			this.values = new double[capacity];
+		}
+		
+		private void add(double value) {
+			if(this.size == this.values.length) {
+				this.values = Arrays.copyOf(this.values, ArgumentBuffer.grow(this.values.length));
+			}
+			
+			this.values[this.size++] = value;
+		}
+		
+		@Override
+		public boolean add(ParseContext context, String content) {
+			if(this.parser == null) {
+				ParsedResult<?> parsed = this.argument.parse(context, content);
+				if(!parsed.isValid()) {
+					return false;
+				}
+				
+				this.add(parsed.getObject());
+				
+				return true;
+			}
+			
+			if(!this.isPossible(content) || !this.parser.parseDouble(context, this.argument, content, this.result)) {
+				return false;
+			}
+			
+			this.add(this.result.getDouble());
+			
+			return true;
+		}
+		
+		@Override
+		public void add(Object value) {
+			this.add(((Double) value).doubleValue());
+		}
+		
+		@Override
+		public Object toArray() {
+			return this.size == this.values.length ? this.values : Arrays.copyOf(this.values, this.size);
+		}
+	}
+	
+	private static ArgumentBuffer createBuffer(IArgument<?> argument, Class<?> componentType, int capacity) {
+		/* Batch parsers can not be used for arguments which handle all of the content as they determine their own span */
+		IParser<?, ?> parser = argument.getParser();
+		if(!componentType.isPrimitive() && parser instanceof IBatchParser && !parser.isHandleAll()) {
+			return new BatchBuffer(argument, componentType, capacity);
+		}
+		
+		return EndlessArgumentParser.createValueBuffer(argument, componentType, capacity);
+	}
+	
+	private static ValueBuffer createValueBuffer(IArgument<?> argument, Class<?> componentType, int capacity) {
+		if(componentType.equals(int.class)) {
+			return new IntBuffer(argument, capacity);
+		}else if(componentType.equals(long.class)) {
+			return new LongBuffer(argument, capacity);
+		}else if(componentType.equals(double.class)) {
+			return new DoubleBuffer(argument, capacity);
+		}
+		
+		return new ObjectBuffer(argument, componentType, capacity);
+	}
+	
+	/* Whether or not everything from the index is whitespace, the same as String#trim would remove */
+	private static boolean isBlank(String value, int index) {
+		for(int i = index; i < value.length(); i++) {
+			if(value.charAt(i) > ' ') {
+				return false;
+			}
+		}
+		
+		return true;
+	}
+	
 	private EndlessArgumentParser() {}
 	
+	/**
+	 * Parses the content as a stream of arguments, every argument is read from its span of the content
+	 * and is added to a buffer of the component type, primitive component types with a primitive
+	 * parser, such as {@link IIntParser}, are parsed without boxing and component types with an 
+	 * {@link IBatchParser} are parsed together once the content of every argument has been read
+	 */
 	@SuppressWarnings("unchecked")
-	/* TODO: Probably need to look over and re-make this */
 	public ParsedResult<Type[]> parse(ParseContext context, IArgument<Type[]> argument, String value) {
 		if(!(argument instanceof EndlessArgumentImpl)) {
 			throw new UnsupportedOperationException();
 		}
 		
 		EndlessArgumentImpl<Type> self = (EndlessArgumentImpl<Type>) argument;
+		IArgument<Type> componentArgument = self.getArgument();
+		
+		int minArguments = self.getMinArguments();
+		int maxArguments = self.getMaxArguments();
 		
-		int argumentCount = 0;
+		ArgumentTrimType trimType = context.getCommand().getArgumentTrimType();
 		
-		int maxArguments = self.getMaxArguments() > 0 ? self.getMaxArguments() : (int) value.codePoints().filter(c2 -> c2 == ' ').count() + 1;
-		Type[] parsedArguments = (Type[]) Array.newInstance(self.getComponentType(), maxArguments);
+		boolean handleAll = componentArgument.getParser().isHandleAll();
 		
-		for(int i = 0; i < parsedArguments.length; i++) {
-			if(value.trim().length() == 0) {
-				break;
+		int capacity = maxArguments > 0 ? Math.min(maxArguments, DEFAULT_CAPACITY) : DEFAULT_CAPACITY;
+		
+		/* Arguments which handle all of the content are parsed before they are added to the buffer */
+		ValueBuffer parsedBuffer = handleAll ? EndlessArgumentParser.createValueBuffer(componentArgument, self.getComponentType(), capacity) : null;
+		ArgumentBuffer buffer = handleAll ? parsedBuffer : EndlessArgumentParser.createBuffer(componentArgument, self.getComponentType(), capacity);
+		
+		Set<Pair<Character, Character>> quotesCharacters = null;
+		if(!handleAll && componentArgument.acceptQuote()) {
+			if(context.getCommandParser() instanceof CommandParserImpl) {
+				quotesCharacters = ((CommandParserImpl) context.getCommandParser()).getQuoteCharacters();
+			}else{
+				/* TODO: Unsure of what to do if it's not a CommandParserImpl */
+				quotesCharacters = Set.of(Pair.of('"', '"'));
+			}
+		}
+		
+		/* The index of the content which is left to parse */
+		int index = 0;
+		
+		while(!EndlessArgumentParser.isBlank(value, index)) {
+			/* There is content left but there may not be any more arguments */
+			if(maxArguments > 0 && buffer.size() == maxArguments) {
+				return new ParsedResult<>(false, null);
 			}
 			
-			if(i != 0 && value.length() > 0) {
-				if(value.startsWith(" ")) {
-					ArgumentTrimType trimType = context.getCommand().getArgumentTrimType();
-					
+			if(buffer.size() != 0 && index < value.length()) {
+				if(value.charAt(index) == ' ') {
 					if(!trimType.equals(ArgumentTrimType.NONE)) {
-						value = StringUtility.stripLeading(value);
+						while(index < value.length() && value.charAt(index) == ' ') {
+							index++;
+						}
 					}else{
-						value = value.substring(1);
+						index++;
 					}
 				}else{
 					/* 
@@ -63,81 +492,76 @@ public class EndlessArgumentParser<Type> implements IParser<Type[], IArgument<Ty
 				}
 			}
 			
-			String content = null;
-			ParsedResult<Type> parsedArgument;
-			if(self.getArgument().getParser().isHandleAll()) {
-				parsedArgument = self.getArgument().parse(context, content = value);
-				
-				if(parsedArgument.getContentLeft() != null) {
-					value = parsedArgument.getContentLeft();
-				}else{
-					value = "";
+			if(handleAll) {
+				ParsedResult<Type> parsedArgument = componentArgument.parse(context, value.substring(index));
+				if(!parsedArgument.isValid()) {
+					return new ParsedResult<>(false, null);
 				}
-			}else{
-				if(value.length() > 0) {
-					if(self.getArgument().acceptQuote()) {
-						Set<Pair<Character, Character>> quotesCharacters;
-						if(context.getCommandParser() instanceof CommandParserImpl) {
-							quotesCharacters = ((CommandParserImpl) context.getCommandParser()).getQuoteCharacters();
-						}else{
-							/* TODO: Unsure of what to do if it's not a CommandParserImpl */
-							quotesCharacters = Set.of(Pair.of('"', '"'));
-						}
-						
-						for(Pair<Character, Character> quotes : quotesCharacters) {
-							content = StringUtility.parseWrapped(value, quotes.getLeft(), quotes.getRight());
-							if(content != null) {
-								value = value.substring(content.length());
-								content = StringUtility.unwrap(content, quotes.getLeft(), quotes.getRight());
-								
-								if(context.getCommand().getArgumentTrimType().equals(ArgumentTrimType.STRICT)) {
-									content = StringUtility.strip(content);
-								}
-								
-								break;
+				
+				parsedBuffer.add(parsedArgument.getObject());
+				
+				value = parsedArgument.getContentLeft() != null ? parsedArgument.getContentLeft() : "";
+				index = 0;
+				
+				continue;
+			}
+			
+			String content = null;
+			if(index < value.length()) {
+				if(quotesCharacters != null) {
+					for(Pair<Character, Character> quotes : quotesCharacters) {
+						int end = StringUtility.parseWrappedEnd(value, index, quotes.getLeft(), quotes.getRight());
+						if(end != -1) {
+							content = StringUtility.unwrap(value.substring(index, end), quotes.getLeft(), quotes.getRight());
+							index = end;
+							
+							if(trimType.equals(ArgumentTrimType.STRICT)) {
+								content = StringUtility.strip(content);
 							}
+							
+							break;
 						}
 					}
-					
-					if(content == null) {
-						content = value.substring(0, (value.contains(" ")) ? value.indexOf(" ") : value.length());
-						value = value.substring(content.length());
-					}
-				}else{
-					content = "";
 				}
 				
-				if(content.length() == 0 && !self.getArgument().acceptEmpty()) {
-					/* Content may not be empty */
-					return new ParsedResult<>(false, null);
+				if(content == null) {
+					int end = value.indexOf(' ', index);
+					if(end == -1) {
+						end = value.length();
+					}
+					
+					content = value.substring(index, end);
+					index = end;
 				}
-				
-				parsedArgument = self.getArgument().parse(context, content);
+			}else{
+				content = "";
 			}
 			
-			if(parsedArgument.isValid()) {
-				parsedArguments[argumentCount++] = (Type) parsedArgument.getObject();
-			}else{
-				/* "argument at index " + (i + 1) + " is not valid" */
+			if(content.length() == 0 && !componentArgument.acceptEmpty()) {
+				/* Content may not be empty */
+				return new ParsedResult<>(false, null);
+			}
+			
+			if(!buffer.add(context, content)) {
+				/* "argument at index " + (buffer.size() + 1) + " is not valid" */
 				return new ParsedResult<>(false, null);
 			}
 		}
 		
-		if(value.length() > 0) {
-			/* Content overflow, when does this happen? */
-			
+		if(index < value.length()) {
+			/* Content overflow, there is only whitespace left */
 			return new ParsedResult<>(false, null);
 		}
 		
-		if(argumentCount < self.getMinArguments() || ((self.getMaxArguments() > 0) ? argumentCount > self.getMaxArguments() : false)) {
+		if(buffer.size() < minArguments) {
 			return new ParsedResult<>(false, null);
 		}
 		
-		Type[] objects = (Type[]) Array.newInstance(self.getComponentType(), argumentCount);
-		for(int i2 = 0; i2 < objects.length; i2++) {
-			objects[i2] = (Type) parsedArguments[i2];
+		if(!buffer.resolve(context)) {
+			return new ParsedResult<>(false, null);
 		}
 		
-		return new ParsedResult<>(true, objects);
+		/* The array may be primitive, in which case it is not actually a Type[] */
+		return (ParsedResult<Type[]>) (ParsedResult<?>) new ParsedResult<>(true, buffer.toArray());
 	}
 }
\ No newline at end of file
@@ -0,0 +1,126 @@
+package com.jockie.bot.core.cache;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.Nonnull;
+
+import net.dv8tion.jda.api.entities.Guild;
+import net.dv8tion.jda.api.events.GenericEvent;
+import net.dv8tion.jda.api.events.ReconnectedEvent;
+import net.dv8tion.jda.api.events.channel.category.CategoryCreateEvent;
+import net.dv8tion.jda.api.events.channel.category.CategoryDeleteEvent;
+import net.dv8tion.jda.api.events.channel.category.GenericCategoryEvent;
+import net.dv8tion.jda.api.events.channel.category.update.CategoryUpdateNameEvent;
+import net.dv8tion.jda.api.events.channel.text.GenericTextChannelEvent;
+import net.dv8tion.jda.api.events.channel.text.TextChannelCreateEvent;
+import net.dv8tion.jda.api.events.channel.text.TextChannelDeleteEvent;
+import net.dv8tion.jda.api.events.channel.text.update.TextChannelUpdateNameEvent;
+import net.dv8tion.jda.api.events.channel.voice.GenericVoiceChannelEvent;
+import net.dv8tion.jda.api.events.channel.voice.VoiceChannelCreateEvent;
+import net.dv8tion.jda.api.events.channel.voice.VoiceChannelDeleteEvent;
+import net.dv8tion.jda.api.events.channel.voice.update.VoiceChannelUpdateNameEvent;
+import net.dv8tion.jda.api.events.emote.EmoteAddedEvent;
+import net.dv8tion.jda.api.events.emote.EmoteRemovedEvent;
+import net.dv8tion.jda.api.events.emote.GenericEmoteEvent;
+import net.dv8tion.jda.api.events.emote.update.EmoteUpdateNameEvent;
+import net.dv8tion.jda.api.events.guild.GuildLeaveEvent;
+import net.dv8tion.jda.api.events.guild.GuildReadyEvent;
+import net.dv8tion.jda.api.events.role.GenericRoleEvent;
+import net.dv8tion.jda.api.events.role.RoleCreateEvent;
+import net.dv8tion.jda.api.events.role.RoleDeleteEvent;
+import net.dv8tion.jda.api.events.role.update.RoleUpdateNameEvent;
+import net.dv8tion.jda.api.hooks.EventListener;
+import net.dv8tion.jda.internal.utils.Checks;
+
+/**
+ * An index of the roles, text channels, voice channels, categories and emotes of every guild by their names, 
+ * this allows them to be looked up by name without scanning the caches of the guild.
+ * <br><br>
+ * The indexes of a guild are built the first time they are requested and are invalidated by the create, 
+ * delete and name update events of each type as well as when the guild is ready or its shard reconnects, 
+ * for this to work the index has to be registered as an event listener.
+ * <br><br>
+ * <b>NOTE:</b> An index of a guild is also built again if its size no longer matches the cache it was built from
+ */
+public class EntityIndex implements EventListener {
+	
+	protected final Map<Long, GuildEntityIndex> indexes = new ConcurrentHashMap<>();
+	
+	/**
+	 * @param guild the guild to get the index for
+	 * 
+	 * @return the index of the guild, the indexes of each type are built once they are requested
+	 */
+	@Nonnull
+	public GuildEntityIndex getIndex(@Nonnull Guild guild) {
+		Checks.notNull(guild, "guild");
+		
+		return this.indexes.computeIfAbsent(guild.getIdLong(), GuildEntityIndex::new);
+	}
+	
+	/**
+	 * Remove the index of a guild, the index will be built again the next time it is requested
+	 * 
+	 * @param guildId the id of the guild
+	 * 
+	 * @return the {@link EntityIndex} instance, useful for chaining
+	 */
+	@Nonnull
+	public EntityIndex invalidate(long guildId) {
+		this.indexes.remove(guildId);
+		
+		return this;
+	}
+	
+	/**
+	 * Remove the index of every guild
+	 * 
+	 * @return the {@link EntityIndex} instance, useful for chaining
+	 */
+	@Nonnull
+	public EntityIndex invalidateAll() {
+		this.indexes.clear();
+		
+		return this;
+	}
+	
+	@Override
+	public void onEvent(GenericEvent event) {
+		if(event instanceof RoleCreateEvent || event instanceof RoleDeleteEvent || event instanceof RoleUpdateNameEvent) {
+			GuildEntityIndex index = this.indexes.get(((GenericRoleEvent) event).getGuild().getIdLong());
+			if(index != null) {
+				index.invalidateRoles();
+			}
+		}else if(event instanceof TextChannelCreateEvent || event instanceof TextChannelDeleteEvent || event instanceof TextChannelUpdateNameEvent) {
+			GuildEntityIndex index = this.indexes.get(((GenericTextChannelEvent) event).getGuild().getIdLong());
+			if(index != null) {
+				index.invalidateTextChannels();
+			}
+		}else if(event instanceof VoiceChannelCreateEvent || event instanceof VoiceChannelDeleteEvent || event instanceof VoiceChannelUpdateNameEvent) {
+			GuildEntityIndex index = this.indexes.get(((GenericVoiceChannelEvent) event).getGuild().getIdLong());
+			if(index != null) {
+				index.invalidateVoiceChannels();
+			}
+		}else if(event instanceof CategoryCreateEvent || event instanceof CategoryDeleteEvent || event instanceof CategoryUpdateNameEvent) {
+			GuildEntityIndex index = this.indexes.get(((GenericCategoryEvent) event).getGuild().getIdLong());
+			if(index != null) {
+				index.invalidateCategories();
+			}
+		}else if(event instanceof EmoteAddedEvent || event instanceof EmoteRemovedEvent || event instanceof EmoteUpdateNameEvent) {
+			GuildEntityIndex index = this.indexes.get(((GenericEmoteEvent) event).getGuild().getIdLong());
+			if(index != null) {
+				index.invalidateEmotes();
+			}
+		}else if(event instanceof GuildLeaveEvent) {
+			this.invalidate(((GuildLeaveEvent) event).getGuild().getIdLong());
+		}else if(event instanceof GuildReadyEvent) {
+			this.invalidate(((GuildReadyEvent) event).getGuild().getIdLong());
+		}else if(event instanceof ReconnectedEvent) {
+			/* The cache of the shard is re-built when reconnecting, without any events for the entities which changed */
+			for(Guild guild : event.getJDA().getGuildCache()) {
+				this.invalidate(guild.getIdLong());
+			}
+		}
+	}
+}
\ No newline at end of file
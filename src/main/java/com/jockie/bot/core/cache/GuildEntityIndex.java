@@ -0,0 +1,177 @@
+package com.jockie.bot.core.cache;
+
+import java.util.function.Function;
+
+import javax.annotation.Nonnull;
+
+import net.dv8tion.jda.api.entities.Category;
+import net.dv8tion.jda.api.entities.Emote;
+import net.dv8tion.jda.api.entities.Guild;
+import net.dv8tion.jda.api.entities.Role;
+import net.dv8tion.jda.api.entities.TextChannel;
+import net.dv8tion.jda.api.entities.VoiceChannel;
+import net.dv8tion.jda.api.utils.cache.CacheView;
+import net.dv8tion.jda.internal.utils.Checks;
+
+/**
+ * The name indexes of the roles, text channels, voice channels, categories and emotes of a single guild, 
+ * each index is built the first time it is requested and is invalidated by the {@link EntityIndex} it belongs to 
+ * whenever an entity of that type is created, deleted or renamed.
+ * <br><br>
+ * <b>NOTE:</b> Lookups are lock-free, an index is only built again once it has been invalidated
+ * or its size no longer matches the cache of the guild
+ */
+public class GuildEntityIndex {
+	
+	/* Holds the index of one type, an index built while it was invalidated is not stored since it may be out of date */
+	private static class IndexHolder<T> {
+		
+		private volatile NameIndex<T> index;
+		
+		private long generation;
+		
+		private NameIndex<T> get(CacheView<T> cache, Function<T, String> nameFunction) {
+			NameIndex<T> index = this.index;
+			if(index != null && index.size() == cache.size()) {
+				return index;
+			}
+			
+			long generation;
+			synchronized(this) {
+				generation = this.generation;
+			}
+			
+			index = new NameIndex<>(cache, nameFunction);
+			
+			synchronized(this) {
+				if(this.generation == generation) {
+					this.index = index;
+				}
+			}
+			
+			return index;
+		}
+		
+		private synchronized void invalidate() {
+			this.generation++;
+			this.index = null;
+		}
+	}
+	
+	private final long guildId;
+	
+	private final IndexHolder<Role> roles = new IndexHolder<>();
+	private final IndexHolder<TextChannel> textChannels = new IndexHolder<>();
+	private final IndexHolder<VoiceChannel> voiceChannels = new IndexHolder<>();
+	private final IndexHolder<Category> categories = new IndexHolder<>();
+	private final IndexHolder<Emote> emotes = new IndexHolder<>();
+	
+	/**
+	 * @param guildId the id of the guild this index is for
+	 */
+	public GuildEntityIndex(long guildId) {
+		this.guildId = guildId;
+	}
+	
+	/**
+	 * @return the id of the guild this index is for
+	 */
+	public long getGuildId() {
+		return this.guildId;
+	}
+	
+	/**
+	 * @param guild the guild of this index
+	 * 
+	 * @return the name index of the guild's roles
+	 */
+	@Nonnull
+	public NameIndex<Role> getRoles(@Nonnull Guild guild) {
+		Checks.notNull(guild, "guild");
+		
+		return this.roles.get(guild.getRoleCache(), Role::getName);
+	}
+	
+	/**
+	 * @param guild the guild of this index
+	 * 
+	 * @return the name index of the guild's text channels
+	 */
+	@Nonnull
+	public NameIndex<TextChannel> getTextChannels(@Nonnull Guild guild) {
+		Checks.notNull(guild, "guild");
+		
+		return this.textChannels.get(guild.getTextChannelCache(), TextChannel::getName);
+	}
+	
+	/**
+	 * @param guild the guild of this index
+	 * 
+	 * @return the name index of the guild's voice channels
+	 */
+	@Nonnull
+	public NameIndex<VoiceChannel> getVoiceChannels(@Nonnull Guild guild) {
+		Checks.notNull(guild, "guild");
+		
+		return this.voiceChannels.get(guild.getVoiceChannelCache(), VoiceChannel::getName);
+	}
+	
+	/**
+	 * @param guild the guild of this index
+	 * 
+	 * @return the name index of the guild's categories
+	 */
+	@Nonnull
+	public NameIndex<Category> getCategories(@Nonnull Guild guild) {
+		Checks.notNull(guild, "guild");
+		
+		return this.categories.get(guild.getCategoryCache(), Category::getName);
+	}
+	
+	/**
+	 * @param guild the guild of this index
+	 * 
+	 * @return the name index of the guild's emotes
+	 */
+	@Nonnull
+	public NameIndex<Emote> getEmotes(@Nonnull Guild guild) {
+		Checks.notNull(guild, "guild");
+		
+		return this.emotes.get(guild.getEmoteCache(), Emote::getName);
+	}
+	
+	/**
+	 * Invalidate the role index, it will be built again the next time it is requested
+	 */
+	public void invalidateRoles() {
+		this.roles.invalidate();
+	}
+	
+	/**
+	 * Invalidate the text channel index, it will be built again the next time it is requested
+	 */
+	public void invalidateTextChannels() {
+		this.textChannels.invalidate();
+	}
+	
+	/**
+	 * Invalidate the voice channel index, it will be built again the next time it is requested
+	 */
+	public void invalidateVoiceChannels() {
+		this.voiceChannels.invalidate();
+	}
+	
+	/**
+	 * Invalidate the category index, it will be built again the next time it is requested
+	 */
+	public void invalidateCategories() {
+		this.categories.invalidate();
+	}
+	
+	/**
+	 * Invalidate the emote index, it will be built again the next time it is requested
+	 */
+	public void invalidateEmotes() {
+		this.emotes.invalidate();
+	}
+}
\ No newline at end of file
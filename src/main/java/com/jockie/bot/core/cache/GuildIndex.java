@@ -0,0 +1,310 @@
+package com.jockie.bot.core.cache;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import javax.annotation.Nonnull;
+
+import com.jockie.bot.core.utility.StringUtility;
+
+import net.dv8tion.jda.api.JDA;
+import net.dv8tion.jda.api.entities.Guild;
+import net.dv8tion.jda.api.events.GenericEvent;
+import net.dv8tion.jda.api.events.ReadyEvent;
+import net.dv8tion.jda.api.events.ReconnectedEvent;
+import net.dv8tion.jda.api.events.guild.GuildJoinEvent;
+import net.dv8tion.jda.api.events.guild.GuildLeaveEvent;
+import net.dv8tion.jda.api.events.guild.GuildReadyEvent;
+import net.dv8tion.jda.api.events.guild.update.GuildUpdateNameEvent;
+import net.dv8tion.jda.api.hooks.EventListener;
+import net.dv8tion.jda.api.sharding.ShardManager;
+import net.dv8tion.jda.internal.utils.Checks;
+
+/**
+ * An index of the guilds of every shard by their name, this allows guilds to be looked up by name 
+ * without scanning the guild cache of every shard.
+ * <br><br>
+ * The index is kept up to date by guild ready, join, leave and name update events, for this to work
+ * the index has to be registered as an event listener on the {@link ShardManager} (or {@link JDA}) it was created for.
+ * <br><br>
+ * <b>NOTE:</b> The guilds of a shard are re-synchronized when the shard is ready or reconnects and whenever 
+ * {@link #synchronize()} is called, which can be scheduled through {@link #scheduleSynchronization(ScheduledExecutorService, long, TimeUnit)}, 
+ * lookups never synchronize other than the first one, which builds the index
+ */
+public class GuildIndex implements EventListener {
+	
+	/* The key a guild was indexed by, this is needed to remove the guild once its name changes */
+	private static class IndexedGuild {
+		
+		/* The shard instance the guild was indexed from, a restarted shard replaces it with a new instance */
+		private final JDA shard;
+		private final Guild guild;
+		
+		private final String name;
+		
+		private IndexedGuild(JDA shard, Guild guild) {
+			this.shard = shard;
+			this.guild = guild;
+			this.name = StringUtility.foldCase(guild.getName());
+		}
+	}
+	
+	protected final Supplier<List<JDA>> shards;
+	
+	/* The ids of the guilds indexed from each shard */
+	private final Map<JDA, Set<Long>> shardGuilds = new ConcurrentHashMap<>();
+	
+	private final Map<Long, IndexedGuild> guilds = new ConcurrentHashMap<>();
+	
+	/* The names are case folded, case sensitive lookups are filtered afterwards */
+	private final Map<String, Set<Guild>> names = new ConcurrentHashMap<>();
+	
+	/* Whether or not every shard has been synchronized at least once */
+	private volatile boolean initialized = false;
+	
+	/**
+	 * @param shardManager the shard manager whose guilds should be indexed
+	 */
+	public GuildIndex(@Nonnull ShardManager shardManager) {
+		Checks.notNull(shardManager, "shardManager");
+		
+		this.shards = shardManager::getShards;
+	}
+	
+	/**
+	 * @param jda the JDA instance whose guilds should be indexed
+	 */
+	public GuildIndex(@Nonnull JDA jda) {
+		Checks.notNull(jda, "jda");
+		
+		List<JDA> shards = List.of(jda);
+		
+		this.shards = () -> shards;
+	}
+	
+	/**
+	 * @return the amount of guilds in this index
+	 */
+	public int size() {
+		return this.guilds.size();
+	}
+	
+	/**
+	 * Add a guild to this index, if the guild is already in the index it is re-indexed by its current name
+	 * 
+	 * @param shard the shard the guild belongs to
+	 * @param guild the guild to add
+	 * 
+	 * @return the {@link GuildIndex} instance, useful for chaining
+	 */
+	@Nonnull
+	public synchronized GuildIndex add(@Nonnull JDA shard, @Nonnull Guild guild) {
+		Checks.notNull(shard, "shard");
+		Checks.notNull(guild, "guild");
+		
+		IndexedGuild previous = this.guilds.get(guild.getIdLong());
+		if(previous != null) {
+			this.remove(previous.shard, guild.getIdLong());
+		}
+		
+		IndexedGuild indexed = new IndexedGuild(shard, guild);
+		this.guilds.put(guild.getIdLong(), indexed);
+		this.names.computeIfAbsent(indexed.name, (key) -> ConcurrentHashMap.newKeySet()).add(guild);
+		this.shardGuilds.computeIfAbsent(shard, (key) -> ConcurrentHashMap.newKeySet()).add(guild.getIdLong());
+		
+		return this;
+	}
+	
+	/**
+	 * Remove a guild from this index, the guild is only removed if it was indexed from the provided shard
+	 * 
+	 * @param shard the shard the guild belonged to
+	 * @param guildId the id of the guild
+	 * 
+	 * @return the {@link GuildIndex} instance, useful for chaining
+	 */
+	@Nonnull
+	public synchronized GuildIndex remove(@Nonnull JDA shard, long guildId) {
+		Checks.notNull(shard, "shard");
+		
+		Set<Long> shardGuilds = this.shardGuilds.get(shard);
+		if(shardGuilds != null) {
+			shardGuilds.remove(guildId);
+		}
+		
+		IndexedGuild indexed = this.guilds.get(guildId);
+		if(indexed != null && indexed.shard == shard) {
+			this.guilds.remove(guildId);
+			this.names.computeIfPresent(indexed.name, (key, guilds) -> {
+				guilds.remove(indexed.guild);
+				
+				return guilds.isEmpty() ? null : guilds;
+			});
+		}
+		
+		return this;
+	}
+	
+	private static int getShardId(JDA shard) {
+		JDA.ShardInfo shardInfo = shard.getShardInfo();
+		
+		return shardInfo != null ? shardInfo.getShardId() : 0;
+	}
+	
+	/* The cache of the shard is walked without holding the lock of the index, only each add and remove holds it */
+	private void synchronizeShard(JDA shard) {
+		Set<Long> shardGuilds = this.shardGuilds.computeIfAbsent(shard, (key) -> ConcurrentHashMap.newKeySet());
+		
+		for(Guild guild : shard.getGuildCache()) {
+			if(!shardGuilds.contains(guild.getIdLong())) {
+				this.add(shard, guild);
+			}
+		}
+		
+		for(Long guildId : new ArrayList<>(shardGuilds)) {
+			if(shard.getGuildCache().getElementById(guildId) == null) {
+				this.remove(shard, guildId);
+			}
+		}
+	}
+	
+	/* Remove every guild indexed from a shard which is no longer used, such as a shard which has been restarted */
+	private void removeShard(JDA shard) {
+		Set<Long> shardGuilds = this.shardGuilds.get(shard);
+		if(shardGuilds == null) {
+			return;
+		}
+		
+		for(Long guildId : new ArrayList<>(shardGuilds)) {
+			this.remove(shard, guildId);
+		}
+		
+		this.shardGuilds.remove(shard);
+	}
+	
+	/**
+	 * Synchronize every shard whose guild cache no longer matches the guilds indexed for it, 
+	 * this only requires checking the size of each shard's cache
+	 * 
+	 * @return the {@link GuildIndex} instance, useful for chaining
+	 */
+	@Nonnull
+	public GuildIndex synchronize() {
+		List<JDA> shards = this.shards.get();
+		
+		for(JDA shard : shards) {
+			Set<Long> shardGuilds = this.shardGuilds.get(shard);
+			
+			long indexed = shardGuilds != null ? shardGuilds.size() : 0;
+			if(indexed != shard.getGuildCache().size()) {
+				this.synchronizeShard(shard);
+			}
+		}
+		
+		/* Shards which have been restarted are replaced by new instances */
+		if(this.shardGuilds.size() > shards.size()) {
+			for(JDA shard : new ArrayList<>(this.shardGuilds.keySet())) {
+				if(!shards.contains(shard)) {
+					this.removeShard(shard);
+				}
+			}
+		}
+		
+		this.initialized = true;
+		
+		return this;
+	}
+	
+	/**
+	 * Periodically synchronize this index, see {@link #synchronize()}
+	 * 
+	 * @param executor the executor to synchronize on
+	 * @param period the time between each synchronization
+	 * @param unit the unit of the period
+	 * 
+	 * @return the scheduled synchronization, this can be used to cancel it
+	 */
+	@Nonnull
+	public ScheduledFuture<?> scheduleSynchronization(@Nonnull ScheduledExecutorService executor, long period, @Nonnull TimeUnit unit) {
+		Checks.notNull(executor, "executor");
+		Checks.positive(period, "period");
+		Checks.notNull(unit, "unit");
+		
+		return executor.scheduleWithFixedDelay(this::synchronize, period, period, unit);
+	}
+	
+	/**
+	 * @param name the name of the guilds
+	 * @param ignoreCase whether or not the name should be case sensitive
+	 * 
+	 * @return the guilds with the provided name
+	 */
+	@Nonnull
+	public List<Guild> getGuildsByName(@Nonnull String name, boolean ignoreCase) {
+		Checks.notNull(name, "name");
+		
+		/* The index is built by the first lookup, after that it is only kept up to date by events and synchronizations */
+		if(!this.initialized) {
+			this.synchronize();
+		}
+		
+		Set<Guild> guilds = this.names.get(StringUtility.foldCase(name));
+		if(guilds == null) {
+			return Collections.emptyList();
+		}
+		
+		List<Guild> result = new ArrayList<>(guilds.size());
+		for(Guild guild : guilds) {
+			if(ignoreCase || name.equals(guild.getName())) {
+				result.add(guild);
+			}
+		}
+		
+		return Collections.unmodifiableList(result);
+	}
+	
+	@Override
+	public void onEvent(GenericEvent event) {
+		if(event instanceof GuildReadyEvent || event instanceof GuildJoinEvent || event instanceof GuildUpdateNameEvent) {
+			Guild guild = event instanceof GuildReadyEvent ? ((GuildReadyEvent) event).getGuild() 
+				: event instanceof GuildJoinEvent ? ((GuildJoinEvent) event).getGuild() 
+				: ((GuildUpdateNameEvent) event).getGuild();
+			
+			/* Only shards which have been indexed, the others are synchronized once they are looked up */
+			if(this.shardGuilds.containsKey(event.getJDA())) {
+				this.add(event.getJDA(), guild);
+			}
+		}else if(event instanceof GuildLeaveEvent) {
+			this.remove(event.getJDA(), ((GuildLeaveEvent) event).getGuild().getIdLong());
+		}else if(event instanceof ReadyEvent) {
+			if(!this.initialized) {
+				return;
+			}
+			
+			/* Only the shard which is ready is synchronized, a restarted shard is a new instance which replaces the one with the same id */
+			JDA shard = event.getJDA();
+			int shardId = GuildIndex.getShardId(shard);
+			
+			for(JDA indexed : new ArrayList<>(this.shardGuilds.keySet())) {
+				if(indexed != shard && GuildIndex.getShardId(indexed) == shardId) {
+					this.removeShard(indexed);
+				}
+			}
+			
+			this.synchronizeShard(shard);
+		}else if(event instanceof ReconnectedEvent) {
+			/* The cache is re-built when reconnecting, without any join or leave events for the guilds which changed */
+			if(this.shardGuilds.containsKey(event.getJDA())) {
+				this.synchronizeShard(event.getJDA());
+			}
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,543 @@
+package com.jockie.bot.core.cache;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import com.jockie.bot.core.utility.StringUtility;
+
+import net.dv8tion.jda.api.entities.Guild;
+import net.dv8tion.jda.api.entities.Member;
+import net.dv8tion.jda.api.entities.User;
+import net.dv8tion.jda.api.utils.cache.MemberCacheView;
+import net.dv8tion.jda.internal.utils.Checks;
+
+/**
+ * An index of the members of a single guild by their tag, name and effective name, 
+ * the index is kept up to date by the {@link MemberIndex} it belongs to.
+ * <br><br>
+ * Other than exact lookups the names can also be searched by prefix, see {@link #searchByPrefix(String, int)}, 
+ * or by edit distance, see {@link #search(String, int, int)}
+ * <br><br>
+ * <b>NOTE:</b> Lookups are lock-free, updates are synchronized on the index, a re-build swaps in 
+ * a complete index at once so lookups never see a partially built index
+ */
+public class GuildMemberIndex {
+	
+	/* The keys a member was indexed by, these are needed to remove the member once their names change */
+	private static class IndexedMember {
+		
+		private final Member member;
+		
+		private final String tag;
+		private final String name;
+		private final String effectiveName;
+		
+		private IndexedMember(Member member) {
+			User user = member.getUser();
+			
+			this.member = member;
+			this.tag = user.getAsTag();
+			this.name = StringUtility.foldCase(user.getName());
+			this.effectiveName = StringUtility.foldCase(member.getEffectiveName());
+		}
+	}
+	
+	/**
+	 * A member found by {@link GuildMemberIndex#search(String, int, int)}
+	 */
+	public static class Match {
+		
+		private final Member member;
+		private final int distance;
+		
+		private Match(Member member, int distance) {
+			this.member = member;
+			this.distance = distance;
+		}
+		
+		/**
+		 * @return the member which was found
+		 */
+		@Nonnull
+		public Member getMember() {
+			return this.member;
+		}
+		
+		/**
+		 * @return the edit distance between the query and the closest name of the member
+		 */
+		public int getDistance() {
+			return this.distance;
+		}
+	}
+	
+	/* The maps of the index, a re-build fills new maps and swaps them in so lookups never see a partial index */
+	private static class Entries {
+		
+		private final Map<Long, IndexedMember> members = new ConcurrentHashMap<>();
+		
+		private final Map<String, Member> tags = new ConcurrentHashMap<>();
+		
+		/* The names and effective names are case folded, case sensitive lookups are filtered afterwards */
+		private final Map<String, Set<Member>> names = new ConcurrentHashMap<>();
+		private final Map<String, Set<Member>> effectiveNames = new ConcurrentHashMap<>();
+		
+		/* Both the case folded names and effective names sorted, used for prefix and edit distance searches */
+		private final ConcurrentNavigableMap<String, Set<Member>> sortedNames = new ConcurrentSkipListMap<>();
+	}
+	
+	private final long guildId;
+	
+	private volatile Entries entries = new Entries();
+	
+	private volatile boolean built = false;
+	
+	public GuildMemberIndex(long guildId) {
+		this.guildId = guildId;
+	}
+	
+	/**
+	 * @return the id of the guild this index belongs to
+	 */
+	public long getGuildId() {
+		return this.guildId;
+	}
+	
+	/**
+	 * @return the amount of members in this index
+	 */
+	public int size() {
+		return this.entries.members.size();
+	}
+	
+	/**
+	 * @return whether or not this index has been built from the member cache of the guild, see {@link #rebuild(Guild)}
+	 */
+	public boolean isBuilt() {
+		return this.built;
+	}
+	
+	/**
+	 * @param userId the id of the member
+	 * 
+	 * @return whether or not the member is in this index
+	 */
+	public boolean contains(long userId) {
+		return this.entries.members.containsKey(userId);
+	}
+	
+	private static void addKey(Map<String, Set<Member>> map, String key, Member member) {
+		map.computeIfAbsent(key, (k) -> ConcurrentHashMap.newKeySet()).add(member);
+	}
+	
+	private static void removeKey(Map<String, Set<Member>> map, String key, Member member) {
+		map.computeIfPresent(key, (k, members) -> {
+			members.remove(member);
+			
+			return members.isEmpty() ? null : members;
+		});
+	}
+	
+	/**
+	 * Add a member to this index, if the member is already in the index they are re-indexed
+	 * by their current names
+	 * 
+	 * @param member the member to add
+	 * 
+	 * @return the {@link GuildMemberIndex} instance, useful for chaining
+	 */
+	@Nonnull
+	public synchronized GuildMemberIndex add(@Nonnull Member member) {
+		Checks.notNull(member, "member");
+		
+		this.remove(member.getUser().getIdLong());
+		
+		GuildMemberIndex.index(this.entries, member);
+		
+		return this;
+	}
+	
+	/**
+	 * Re-index a member which is already in this index by their current names
+	 * 
+	 * @param userId the id of the member
+	 * 
+	 * @return the {@link GuildMemberIndex} instance, useful for chaining
+	 */
+	@Nonnull
+	public synchronized GuildMemberIndex update(long userId) {
+		IndexedMember indexed = this.entries.members.get(userId);
+		if(indexed != null) {
+			this.add(indexed.member);
+		}
+		
+		return this;
+	}
+	
+	/**
+	 * Remove a member from this index
+	 * 
+	 * @param userId the id of the member
+	 * 
+	 * @return the {@link GuildMemberIndex} instance, useful for chaining
+	 */
+	@Nonnull
+	public synchronized GuildMemberIndex remove(long userId) {
+		Entries entries = this.entries;
+		
+		IndexedMember indexed = entries.members.remove(userId);
+		if(indexed == null) {
+			return this;
+		}
+		
+		entries.tags.remove(indexed.tag, indexed.member);
+		
+		GuildMemberIndex.removeKey(entries.names, indexed.name, indexed.member);
+		GuildMemberIndex.removeKey(entries.effectiveNames, indexed.effectiveName, indexed.member);
+		GuildMemberIndex.removeKey(entries.sortedNames, indexed.name, indexed.member);
+		GuildMemberIndex.removeKey(entries.sortedNames, indexed.effectiveName, indexed.member);
+		
+		return this;
+	}
+	
+	private static void index(Entries entries, Member member) {
+		IndexedMember indexed = new IndexedMember(member);
+		entries.members.put(member.getUser().getIdLong(), indexed);
+		entries.tags.put(indexed.tag, member);
+		
+		GuildMemberIndex.addKey(entries.names, indexed.name, member);
+		GuildMemberIndex.addKey(entries.effectiveNames, indexed.effectiveName, member);
+		GuildMemberIndex.addKey(entries.sortedNames, indexed.name, member);
+		GuildMemberIndex.addKey(entries.sortedNames, indexed.effectiveName, member);
+	}
+	
+	/**
+	 * Re-build this index from the member cache of the guild, the new index is built separately 
+	 * and replaces the current one once it is complete, lookups during the re-build use the current index
+	 * 
+	 * @param guild the guild this index belongs to
+	 * 
+	 * @return the {@link GuildMemberIndex} instance, useful for chaining
+	 */
+	@Nonnull
+	public synchronized GuildMemberIndex rebuild(@Nonnull Guild guild) {
+		Checks.notNull(guild, "guild");
+		
+		Entries entries = new Entries();
+		for(Member member : guild.getMemberCache()) {
+			GuildMemberIndex.index(entries, member);
+		}
+		
+		this.entries = entries;
+		this.built = true;
+		
+		return this;
+	}
+	
+	/**
+	 * Reconcile this index with the member cache of the guild, only the members which are missing 
+	 * from the index are added and only the members which are no longer cached are removed.
+	 * <br><br>
+	 * The member cache is walked without holding the lock of this index, each change is then applied 
+	 * on its own, that way updates from events are not blocked while a large guild is being reconciled
+	 * 
+	 * @param guild the guild this index belongs to
+	 * 
+	 * @return the {@link GuildMemberIndex} instance, useful for chaining
+	 */
+	@Nonnull
+	public GuildMemberIndex reconcile(@Nonnull Guild guild) {
+		Checks.notNull(guild, "guild");
+		
+		MemberCacheView cache = guild.getMemberCache();
+		
+		List<Member> missing = new ArrayList<>();
+		for(Member member : cache) {
+			if(!this.contains(member.getUser().getIdLong())) {
+				missing.add(member);
+			}
+		}
+		
+		List<Long> stale = new ArrayList<>();
+		for(Long userId : this.entries.members.keySet()) {
+			if(cache.getElementById(userId) == null) {
+				stale.add(userId);
+			}
+		}
+		
+		/* The cache may have changed since it was walked, every change is checked against it again before it is applied */
+		for(Member member : missing) {
+			long userId = member.getUser().getIdLong();
+			
+			synchronized(this) {
+				if(!this.contains(userId) && cache.getElementById(userId) != null) {
+					this.add(member);
+				}
+			}
+		}
+		
+		for(Long userId : stale) {
+			synchronized(this) {
+				if(cache.getElementById(userId) == null) {
+					this.remove(userId);
+				}
+			}
+		}
+		
+		return this;
+	}
+	
+	private static List<Member> getMembers(Map<String, Set<Member>> map, String name, boolean ignoreCase, boolean effectiveName) {
+		Set<Member> members = map.get(StringUtility.foldCase(name));
+		if(members == null) {
+			return Collections.emptyList();
+		}
+		
+		List<Member> result = new ArrayList<>(members.size());
+		for(Member member : members) {
+			if(ignoreCase || name.equals(effectiveName ? member.getEffectiveName() : member.getUser().getName())) {
+				result.add(member);
+			}
+		}
+		
+		return Collections.unmodifiableList(result);
+	}
+	
+	/**
+	 * @param tag the tag of the member, <b>name#discriminator</b>
+	 * 
+	 * @return the member with the provided tag or null if there is no such member
+	 */
+	@Nullable
+	public Member getMemberByTag(@Nonnull String tag) {
+		Checks.notNull(tag, "tag");
+		
+		return this.entries.tags.get(tag);
+	}
+	
+	/**
+	 * @param name the username of the members
+	 * @param ignoreCase whether or not the name should be case sensitive
+	 * 
+	 * @return the members with the provided username
+	 */
+	@Nonnull
+	public List<Member> getMembersByName(@Nonnull String name, boolean ignoreCase) {
+		Checks.notNull(name, "name");
+		
+		return GuildMemberIndex.getMembers(this.entries.names, name, ignoreCase, false);
+	}
+	
+	/**
+	 * @param name the effective name of the members, see {@link Member#getEffectiveName()}
+	 * @param ignoreCase whether or not the name should be case sensitive
+	 * 
+	 * @return the members with the provided effective name
+	 */
+	@Nonnull
+	public List<Member> getMembersByEffectiveName(@Nonnull String name, boolean ignoreCase) {
+		Checks.notNull(name, "name");
+		
+		return GuildMemberIndex.getMembers(this.entries.effectiveNames, name, ignoreCase, true);
+	}
+	
+	/**
+	 * Search for members whose name or effective name starts with the provided prefix, ignoring case
+	 * 
+	 * @param prefix the prefix of the names
+	 * @param limit the maximum amount of members to return
+	 * 
+	 * @return the found members, in the order of their names
+	 */
+	@Nonnull
+	public List<Member> searchByPrefix(@Nonnull String prefix, int limit) {
+		Checks.notNull(prefix, "prefix");
+		Checks.positive(limit, "limit");
+		
+		String folded = StringUtility.foldCase(prefix);
+		
+		Set<Member> result = Collections.newSetFromMap(new LinkedHashMap<>());
+		
+		NAMES:
+		for(Map.Entry<String, Set<Member>> entry : this.entries.sortedNames.tailMap(folded).entrySet()) {
+			if(!entry.getKey().startsWith(folded)) {
+				break;
+			}
+			
+			for(Member member : entry.getValue()) {
+				result.add(member);
+				
+				if(result.size() == limit) {
+					break NAMES;
+				}
+			}
+		}
+		
+		return Collections.unmodifiableList(new ArrayList<>(result));
+	}
+	
+	/* Add a match while keeping at most limit matches, the furthest and latest found match is replaced by a closer one */
+	private static void offer(Map<Member, Integer> distances, Member member, int distance, int limit) {
+		Integer current = distances.get(member);
+		if(current != null) {
+			if(distance < current) {
+				distances.put(member, distance);
+			}
+			
+			return;
+		}
+		
+		if(distances.size() < limit) {
+			distances.put(member, distance);
+			
+			return;
+		}
+		
+		Member furthest = null;
+		int furthestDistance = -1;
+		for(Map.Entry<Member, Integer> entry : distances.entrySet()) {
+			if(entry.getValue() >= furthestDistance) {
+				furthest = entry.getKey();
+				furthestDistance = entry.getValue();
+			}
+		}
+		
+		if(distance < furthestDistance) {
+			distances.remove(furthest);
+			distances.put(member, distance);
+		}
+	}
+	
+	/**
+	 * Search for members whose name or effective name is within the provided edit (Levenshtein) distance 
+	 * of the query, ignoring case.
+	 * <br><br>
+	 * The sorted names are walked as if they were a trie, the distances of a shared prefix are only 
+	 * computed once and every name starting with a prefix which is already too far away from the query is skipped
+	 * 
+	 * @param query the name to search for
+	 * @param maxDistance the maximum edit distance
+	 * @param limit the maximum amount of members to return
+	 * 
+	 * @return the found members, ordered by their distance to the query
+	 */
+	@Nonnull
+	public List<Match> search(@Nonnull String query, int maxDistance, int limit) {
+		Checks.notNull(query, "query");
+		Checks.notNegative(maxDistance, "maxDistance");
+		Checks.positive(limit, "limit");
+		
+		String folded = StringUtility.foldCase(query);
+		int length = folded.length();
+		
+		/* rows[i] is the distance between the query and the first i characters of the current name */
+		int[][] rows = new int[16][];
+		rows[0] = new int[length + 1];
+		for(int j = 0; j <= length; j++) {
+			rows[0][j] = j;
+		}
+		
+		/* The closest members found so far, this never holds more than the limit */
+		Map<Member, Integer> distances = new LinkedHashMap<>();
+		
+		/* The maximum distance a name can have to still be a match, this shrinks once the limit has been reached */
+		int bound = maxDistance;
+		
+		ConcurrentNavigableMap<String, Set<Member>> sortedNames = this.entries.sortedNames;
+		
+		String previous = "";
+		String name = sortedNames.ceilingKey("");
+		
+		while(name != null) {
+			int common = 0, maxCommon = Math.min(previous.length(), name.length());
+			while(common < maxCommon && previous.charAt(common) == name.charAt(common)) {
+				common++;
+			}
+			
+			int pruned = -1;
+			for(int i = common + 1; i <= name.length(); i++) {
+				if(i >= rows.length) {
+					int[][] grown = new int[rows.length * 2][];
+					System.arraycopy(rows, 0, grown, 0, rows.length);
+					rows = grown;
+				}
+				
+				int[] above = rows[i - 1];
+				int[] row = rows[i];
+				if(row == null) {
+					rows[i] = row = new int[length + 1];
+				}
+				
+				char character = name.charAt(i - 1);
+				
+				row[0] = i;
+				int minimum = i;
+				for(int j = 1; j <= length; j++) {
+					int cost = folded.charAt(j - 1) == character ? 0 : 1;
+					
+					row[j] = Math.min(Math.min(above[j] + 1, row[j - 1] + 1), above[j - 1] + cost);
+					minimum = Math.min(minimum, row[j]);
+				}
+				
+				if(minimum > bound) {
+					pruned = i;
+					
+					break;
+				}
+			}
+			
+			if(pruned != -1) {
+				/* No name starting with this prefix can be close enough, skip all of them */
+				String prefix = name.substring(0, pruned);
+				char last = prefix.charAt(prefix.length() - 1);
+				
+				previous = prefix.substring(0, prefix.length() - 1);
+				name = last == Character.MAX_VALUE ? sortedNames.higherKey(name) 
+					: sortedNames.ceilingKey(previous + (char) (last + 1));
+				
+				continue;
+			}
+			
+			int distance = rows[name.length()][length];
+			if(distance <= bound) {
+				Set<Member> members = sortedNames.get(name);
+				if(members != null) {
+					for(Member member : members) {
+						GuildMemberIndex.offer(distances, member, distance, limit);
+					}
+					
+					if(distances.size() >= limit) {
+						/* Only a member closer than the furthest one found can replace it */
+						bound = Collections.max(distances.values()) - 1;
+						if(bound < 0) {
+							break;
+						}
+					}
+				}
+			}
+			
+			previous = name;
+			name = sortedNames.higherKey(name);
+		}
+		
+		List<Match> matches = new ArrayList<>(distances.size());
+		for(Map.Entry<Member, Integer> entry : distances.entrySet()) {
+			matches.add(new Match(entry.getKey(), entry.getValue()));
+		}
+		
+		matches.sort(Comparator.comparingInt(Match::getDistance));
+		
+		return Collections.unmodifiableList(matches.size() > limit ? matches.subList(0, limit) : matches);
+	}
+}
\ No newline at end of file
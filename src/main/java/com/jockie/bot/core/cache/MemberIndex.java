@@ -0,0 +1,192 @@
+package com.jockie.bot.core.cache;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+
+import javax.annotation.Nonnull;
+
+import net.dv8tion.jda.api.entities.Guild;
+import net.dv8tion.jda.api.entities.Member;
+import net.dv8tion.jda.api.events.GenericEvent;
+import net.dv8tion.jda.api.events.ReconnectedEvent;
+import net.dv8tion.jda.api.events.guild.GuildLeaveEvent;
+import net.dv8tion.jda.api.events.guild.GuildReadyEvent;
+import net.dv8tion.jda.api.events.guild.member.GuildMemberJoinEvent;
+import net.dv8tion.jda.api.events.guild.member.GuildMemberRemoveEvent;
+import net.dv8tion.jda.api.events.guild.member.update.GuildMemberUpdateNicknameEvent;
+import net.dv8tion.jda.api.events.user.update.GenericUserUpdateEvent;
+import net.dv8tion.jda.api.events.user.update.UserUpdateDiscriminatorEvent;
+import net.dv8tion.jda.api.events.user.update.UserUpdateNameEvent;
+import net.dv8tion.jda.api.hooks.EventListener;
+import net.dv8tion.jda.internal.utils.Checks;
+
+/**
+ * An index of the members of every guild, this allows members to be looked up by their tag, name 
+ * or effective name without scanning the member cache of the guild.
+ * <br><br>
+ * The index of a guild is built the first time it is requested and is then kept up to date by 
+ * member join, remove and nickname events as well as user name and discriminator events, it is built again 
+ * once the guild is ready or its shard reconnects, for this to work the index has to be registered as an event listener.
+ * <br><br>
+ * <b>NOTE:</b> Members can be cached without any event, for instance when they are chunked, 
+ * because of this the index of a guild is reconciled with the member cache in the background, 
+ * see {@link #setExecutor(Executor)}, if its size no longer matches the member cache
+ */
+public class MemberIndex implements EventListener {
+	
+	protected final Map<Long, GuildMemberIndex> indexes = new ConcurrentHashMap<>();
+	
+	/* The guilds which currently have a reconciliation scheduled */
+	protected final Set<Long> reconciling = ConcurrentHashMap.newKeySet();
+	
+	protected Executor executor = ForkJoinPool.commonPool();
+	
+	/**
+	 * @param executor the executor used to reconcile the index of a guild with its member cache
+	 * 
+	 * @return the {@link MemberIndex} instance, useful for chaining
+	 */
+	@Nonnull
+	public MemberIndex setExecutor(@Nonnull Executor executor) {
+		Checks.notNull(executor, "executor");
+		
+		this.executor = executor;
+		
+		return this;
+	}
+	
+	/**
+	 * @return the executor used to reconcile the index of a guild with its member cache
+	 */
+	@Nonnull
+	public Executor getExecutor() {
+		return this.executor;
+	}
+	
+	/**
+	 * @param guild the guild to get the index for
+	 * 
+	 * @return the index of the guild, this will be built if it does not already exist
+	 */
+	@Nonnull
+	public GuildMemberIndex getIndex(@Nonnull Guild guild) {
+		Checks.notNull(guild, "guild");
+		
+		GuildMemberIndex index = this.indexes.computeIfAbsent(guild.getIdLong(), GuildMemberIndex::new);
+		if(!index.isBuilt()) {
+			synchronized(index) {
+				if(!index.isBuilt()) {
+					index.rebuild(guild);
+				}
+			}
+		}else if(index.size() != guild.getMemberCache().size()) {
+			/* The index is still usable, it is only missing the members which were cached without an event */
+			this.reconcile(guild, index);
+		}
+		
+		return index;
+	}
+	
+	/**
+	 * Reconcile the index of a guild with its member cache in the background, 
+	 * this does nothing if a reconciliation of the guild is already scheduled
+	 * 
+	 * @param guild the guild the index belongs to
+	 * @param index the index to reconcile
+	 */
+	protected void reconcile(@Nonnull Guild guild, @Nonnull GuildMemberIndex index) {
+		long guildId = guild.getIdLong();
+		if(!this.reconciling.add(guildId)) {
+			return;
+		}
+		
+		try {
+			this.executor.execute(() -> {
+				try {
+					index.reconcile(guild);
+				}finally{
+					this.reconciling.remove(guildId);
+				}
+			});
+		}catch(RejectedExecutionException e) {
+			this.reconciling.remove(guildId);
+		}
+	}
+	
+	/**
+	 * Remove the index of a guild, the index will be built again the next time it is requested
+	 * 
+	 * @param guildId the id of the guild
+	 * 
+	 * @return the {@link MemberIndex} instance, useful for chaining
+	 */
+	@Nonnull
+	public MemberIndex invalidate(long guildId) {
+		this.indexes.remove(guildId);
+		
+		return this;
+	}
+	
+	/**
+	 * Remove the index of every guild
+	 * 
+	 * @return the {@link MemberIndex} instance, useful for chaining
+	 */
+	@Nonnull
+	public MemberIndex invalidateAll() {
+		this.indexes.clear();
+		
+		return this;
+	}
+	
+	protected void onMemberUpdate(Guild guild, Member member) {
+		/* Only update guilds which have been indexed, the others are built once they are requested */
+		GuildMemberIndex index = this.indexes.get(guild.getIdLong());
+		if(index != null) {
+			index.add(member);
+		}
+	}
+	
+	protected void onUserUpdate(long userId) {
+		for(GuildMemberIndex index : this.indexes.values()) {
+			if(index.contains(userId)) {
+				index.update(userId);
+			}
+		}
+	}
+	
+	@Override
+	public void onEvent(GenericEvent event) {
+		if(event instanceof GuildMemberJoinEvent) {
+			GuildMemberJoinEvent joinEvent = (GuildMemberJoinEvent) event;
+			
+			this.onMemberUpdate(joinEvent.getGuild(), joinEvent.getMember());
+		}else if(event instanceof GuildMemberUpdateNicknameEvent) {
+			GuildMemberUpdateNicknameEvent updateEvent = (GuildMemberUpdateNicknameEvent) event;
+			
+			this.onMemberUpdate(updateEvent.getGuild(), updateEvent.getMember());
+		}else if(event instanceof GuildMemberRemoveEvent) {
+			GuildMemberRemoveEvent removeEvent = (GuildMemberRemoveEvent) event;
+			
+			GuildMemberIndex index = this.indexes.get(removeEvent.getGuild().getIdLong());
+			if(index != null) {
+				index.remove(removeEvent.getUser().getIdLong());
+			}
+		}else if(event instanceof UserUpdateNameEvent || event instanceof UserUpdateDiscriminatorEvent) {
+			this.onUserUpdate(((GenericUserUpdateEvent<?>) event).getUser().getIdLong());
+		}else if(event instanceof GuildLeaveEvent) {
+			this.invalidate(((GuildLeaveEvent) event).getGuild().getIdLong());
+		}else if(event instanceof GuildReadyEvent) {
+			this.invalidate(((GuildReadyEvent) event).getGuild().getIdLong());
+		}else if(event instanceof ReconnectedEvent) {
+			/* The member cache of the shard is re-built when reconnecting, the index would otherwise keep the old members */
+			for(Guild guild : event.getJDA().getGuildCache()) {
+				this.invalidate(guild.getIdLong());
+			}
+		}
+	}
+}
\ No newline at end of file
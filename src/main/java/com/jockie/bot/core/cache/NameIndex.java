@@ -0,0 +1,120 @@
+package com.jockie.bot.core.cache;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+import javax.annotation.Nonnull;
+
+import com.jockie.bot.core.utility.StringUtility;
+
+import net.dv8tion.jda.internal.utils.Checks;
+
+/**
+ * An immutable index of entities by their case folded names, this is built once from a cache 
+ * and is replaced, rather than updated, when the cache changes
+ * 
+ * @param <Type> the type of the entities
+ */
+public class NameIndex<Type> {
+	
+	private final NavigableMap<String, List<Type>> names;
+	
+	private final Function<Type, String> nameFunction;
+	
+	private final int size;
+	
+	/**
+	 * @param entities the entities to index
+	 * @param nameFunction the function used to get the name of an entity
+	 */
+	public NameIndex(@Nonnull Iterable<Type> entities, @Nonnull Function<Type, String> nameFunction) {
+		Checks.notNull(entities, "entities");
+		Checks.notNull(nameFunction, "nameFunction");
+		
+		NavigableMap<String, List<Type>> names = new TreeMap<>();
+		
+		int size = 0;
+		for(Type entity : entities) {
+			names.computeIfAbsent(StringUtility.foldCase(nameFunction.apply(entity)), (key) -> new ArrayList<>(1)).add(entity);
+			size++;
+		}
+		
+		this.names = names;
+		this.nameFunction = nameFunction;
+		this.size = size;
+	}
+	
+	/**
+	 * @return the amount of entities in this index
+	 */
+	public int size() {
+		return this.size;
+	}
+	
+	/**
+	 * @param name the name of the entities
+	 * @param ignoreCase whether or not the name should be case sensitive
+	 * 
+	 * @return the entities with the provided name
+	 */
+	@Nonnull
+	public List<Type> getByName(@Nonnull String name, boolean ignoreCase) {
+		Checks.notNull(name, "name");
+		
+		List<Type> entities = this.names.get(StringUtility.foldCase(name));
+		if(entities == null) {
+			return Collections.emptyList();
+		}
+		
+		if(ignoreCase) {
+			return Collections.unmodifiableList(entities);
+		}
+		
+		List<Type> result = new ArrayList<>(entities.size());
+		for(Type entity : entities) {
+			if(name.equals(this.nameFunction.apply(entity))) {
+				result.add(entity);
+			}
+		}
+		
+		return Collections.unmodifiableList(result);
+	}
+	
+	/**
+	 * Search for entities whose name starts with the provided prefix, ignoring case
+	 * 
+	 * @param prefix the prefix of the names
+	 * @param limit the maximum amount of entities to return
+	 * 
+	 * @return the found entities, in the order of their names
+	 */
+	@Nonnull
+	public List<Type> searchByPrefix(@Nonnull String prefix, int limit) {
+		Checks.notNull(prefix, "prefix");
+		Checks.positive(limit, "limit");
+		
+		String folded = StringUtility.foldCase(prefix);
+		
+		List<Type> result = new ArrayList<>(Math.min(limit, 16));
+		for(Map.Entry<String, List<Type>> entry : this.names.tailMap(folded, true).entrySet()) {
+			if(!entry.getKey().startsWith(folded)) {
+				break;
+			}
+			
+			for(Type entity : entry.getValue()) {
+				result.add(entity);
+				
+				if(result.size() >= limit) {
+					return Collections.unmodifiableList(result);
+				}
+			}
+		}
+		
+		return Collections.unmodifiableList(result);
+	}
+}
\ No newline at end of file
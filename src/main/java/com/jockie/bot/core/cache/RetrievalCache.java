@@ -0,0 +1,354 @@
+package com.jockie.bot.core.cache;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import javax.annotation.Nonnull;
+
+import net.dv8tion.jda.internal.utils.Checks;
+
+/**
+ * Coalesces retrievals of entities which are not cached, such as members retrieved from Discord, 
+ * concurrent retrievals of the same key share the same request. Keys which could not be found are 
+ * remembered for a short amount of time so repeated lookups of them do not make any requests.
+ * <br><br>
+ * A retrieval which completes with null is treated as not found, a retrieval which completes 
+ * exceptionally is not remembered and will be retried the next time the key is retrieved, 
+ * the failure of one key never fails the retrieval of any other key
+ * 
+ * @param <Key> the type of the key
+ * @param <Value> the type of the retrieved entity
+ */
+public class RetrievalCache<Key, Value> {
+	
+	/* The amount of remembered misses at which expired misses are removed */
+	private static final int MISSES_CLEANUP_THRESHOLD = 1000;
+	
+	public static final long DEFAULT_MISS_DURATION = TimeUnit.SECONDS.toNanos(30);
+	
+	/**
+	 * The default maximum amount of requests in progress at a time for {@link #retrieveEach(List, int, Function)}
+	 */
+	public static final int DEFAULT_PARALLELISM = 4;
+	
+	protected final long missDuration;
+	
+	private final Map<Key, CompletableFuture<Value>> pending = new ConcurrentHashMap<>();
+	
+	/* The keys which could not be found and the time, as System#nanoTime(), when they expire */
+	private final Map<Key, Long> misses = new ConcurrentHashMap<>();
+	
+	public RetrievalCache() {
+		this(DEFAULT_MISS_DURATION, TimeUnit.NANOSECONDS);
+	}
+	
+	/**
+	 * @param missDuration how long a key which could not be found should be remembered for
+	 * @param unit the unit of the duration
+	 */
+	public RetrievalCache(long missDuration, @Nonnull TimeUnit unit) {
+		Checks.notNegative(missDuration, "missDuration");
+		Checks.notNull(unit, "unit");
+		
+		this.missDuration = unit.toNanos(missDuration);
+	}
+	
+	/**
+	 * @return how long, in nanoseconds, a key which could not be found is remembered for
+	 */
+	public long getMissDuration() {
+		return this.missDuration;
+	}
+	
+	/**
+	 * @param key the key
+	 * 
+	 * @return whether or not the key could not be found the last time it was retrieved, 
+	 * and that has not yet expired
+	 */
+	public boolean isMiss(@Nonnull Key key) {
+		Checks.notNull(key, "key");
+		
+		Long expiry = this.misses.get(key);
+		if(expiry == null) {
+			return false;
+		}
+		
+		if(System.nanoTime() - expiry >= 0) {
+			this.misses.remove(key, expiry);
+			
+			return false;
+		}
+		
+		return true;
+	}
+	
+	/**
+	 * Retrieve the entity of a key, if the key is already being retrieved the pending retrieval is returned instead
+	 * 
+	 * @param key the key
+	 * @param retriever the function used to retrieve the entity if it is not already being retrieved
+	 * 
+	 * @return a future which completes with the retrieved entity, null if it could not be found
+	 */
+	@Nonnull
+	public CompletableFuture<Value> retrieve(@Nonnull Key key, @Nonnull Function<Key, CompletableFuture<Value>> retriever) {
+		Checks.notNull(key, "key");
+		Checks.notNull(retriever, "retriever");
+		
+		if(this.isMiss(key)) {
+			return CompletableFuture.completedFuture(null);
+		}
+		
+		CompletableFuture<Value> future = new CompletableFuture<>();
+		
+		CompletableFuture<Value> pending = this.pending.putIfAbsent(key, future);
+		if(pending != null) {
+			return pending;
+		}
+		
+		CompletableFuture<Value> retrieval;
+		try {
+			retrieval = retriever.apply(key);
+		}catch(Throwable e) {
+			this.pending.remove(key, future);
+			future.completeExceptionally(e);
+			
+			return future;
+		}
+		
+		/* This is registered after the future has been put in the map since the retrieval may already be complete */
+		retrieval.whenComplete((value, failure) -> {
+			if(failure == null && value == null) {
+				this.addMiss(key);
+			}
+			
+			this.pending.remove(key, future);
+			
+			if(failure != null) {
+				future.completeExceptionally(failure);
+			}else{
+				future.complete(value);
+			}
+		});
+		
+		return future;
+	}
+	
+	/**
+	 * Retrieve the entities of multiple keys, keys which are already being retrieved use the pending retrieval 
+	 * and every other key, other than those which are remembered as not found, is retrieved together
+	 * 
+	 * @param keys the keys
+	 * @param retriever the function used to retrieve the entities of every key which is not already being retrieved, 
+	 * keys which are mapped to null in the returned map are treated as not found and keys which are not in the 
+	 * returned map are treated as not retrieved, such as when the retrieval of that key failed, and are not remembered
+	 * 
+	 * @return a future which completes with the retrieved entities, keys which could not be found or 
+	 * whose retrieval failed are not in the map, this future never completes exceptionally
+	 */
+	@Nonnull
+	public CompletableFuture<Map<Key, Value>> retrieveAll(@Nonnull Collection<Key> keys, @Nonnull Function<List<Key>, CompletableFuture<Map<Key, Value>>> retriever) {
+		Checks.notNull(keys, "keys");
+		Checks.notNull(retriever, "retriever");
+		
+		Map<Key, CompletableFuture<Value>> futures = new HashMap<>();
+		Map<Key, CompletableFuture<Value>> created = new HashMap<>();
+		
+		for(Key key : keys) {
+			if(futures.containsKey(key)) {
+				continue;
+			}
+			
+			if(this.isMiss(key)) {
+				futures.put(key, CompletableFuture.completedFuture(null));
+				
+				continue;
+			}
+			
+			CompletableFuture<Value> future = new CompletableFuture<>();
+			
+			CompletableFuture<Value> pending = this.pending.putIfAbsent(key, future);
+			if(pending != null) {
+				futures.put(key, pending);
+			}else{
+				futures.put(key, future);
+				created.put(key, future);
+			}
+		}
+		
+		if(!created.isEmpty()) {
+			CompletableFuture<Map<Key, Value>> retrieval;
+			try {
+				retrieval = retriever.apply(new ArrayList<>(created.keySet()));
+			}catch(Throwable e) {
+				retrieval = CompletableFuture.failedFuture(e);
+			}
+			
+			retrieval.whenComplete((values, failure) -> {
+				created.forEach((key, future) -> {
+					Value value = failure == null && values != null ? values.get(key) : null;
+					if(failure == null && value == null && values != null && values.containsKey(key)) {
+						this.addMiss(key);
+					}
+					
+					this.pending.remove(key, future);
+					
+					if(failure != null) {
+						future.completeExceptionally(failure);
+					}else{
+						future.complete(value);
+					}
+				});
+			});
+		}
+		
+		/* Each key is handled on its own so that a failed retrieval, which may be shared with another caller, only affects that key */
+		CompletableFuture<?>[] handled = new CompletableFuture<?>[futures.size()];
+		
+		Map<Key, Value> values = new ConcurrentHashMap<>();
+		
+		int i = 0;
+		for(Map.Entry<Key, CompletableFuture<Value>> entry : futures.entrySet()) {
+			Key key = entry.getKey();
+			
+			handled[i++] = entry.getValue().handle((value, failure) -> {
+				if(value != null) {
+					values.put(key, value);
+				}
+				
+				return null;
+			});
+		}
+		
+		return CompletableFuture.allOf(handled).thenApply((ignored) -> values);
+	}
+	
+	/* Retrieves the keys one by one with at most a fixed amount of retrievals in progress at a time */
+	private static class BoundedRetrieval<Key, Value> {
+		
+		private final List<Key> keys;
+		private final Function<Key, CompletableFuture<Value>> retriever;
+		
+		/* Keys which could not be found are mapped to null, keys whose retrieval failed are left out */
+		private final Map<Key, Value> values = Collections.synchronizedMap(new HashMap<>());
+		private final CompletableFuture<Map<Key, Value>> future = new CompletableFuture<>();
+		
+		private final AtomicInteger next = new AtomicInteger();
+		private final AtomicInteger remaining;
+		
+		private BoundedRetrieval(List<Key> keys, Function<Key, CompletableFuture<Value>> retriever) {
+			this.keys = keys;
+			this.retriever = retriever;
+			this.remaining = new AtomicInteger(keys.size());
+		}
+		
+		private void retrieveNext() {
+			int index = this.next.getAndIncrement();
+			if(index >= this.keys.size() || this.future.isDone()) {
+				return;
+			}
+			
+			Key key = this.keys.get(index);
+			
+			CompletableFuture<Value> retrieval;
+			try {
+				retrieval = this.retriever.apply(key);
+			}catch(Throwable e) {
+				retrieval = CompletableFuture.failedFuture(e);
+			}
+			
+			retrieval.whenComplete((value, failure) -> {
+				/* A failed key is left out, it does not stop the other keys from being retrieved */
+				if(failure == null) {
+					this.values.put(key, value);
+				}
+				
+				if(this.remaining.decrementAndGet() == 0) {
+					this.future.complete(this.values);
+				}else{
+					this.retrieveNext();
+				}
+			});
+		}
+	}
+	
+	/**
+	 * Retrieve the entities of multiple keys one by one, this can be used as the retriever 
+	 * for {@link #retrieveAll(Collection, Function)} when the entities can not be retrieved together
+	 * 
+	 * @param keys the keys
+	 * @param parallelism the maximum amount of retrievals in progress at a time
+	 * @param retriever the function used to retrieve the entity of a key, null if it could not be found
+	 * 
+	 * @return a future which completes with the retrieved entities, keys which could not be found are mapped to null 
+	 * and keys whose retrieval failed are not in the map, this future never completes exceptionally
+	 */
+	@Nonnull
+	public static <Key, Value> CompletableFuture<Map<Key, Value>> retrieveEach(@Nonnull List<Key> keys, int parallelism, @Nonnull Function<Key, CompletableFuture<Value>> retriever) {
+		Checks.notNull(keys, "keys");
+		Checks.positive(parallelism, "parallelism");
+		Checks.notNull(retriever, "retriever");
+		
+		if(keys.isEmpty()) {
+			return CompletableFuture.completedFuture(new HashMap<>());
+		}
+		
+		BoundedRetrieval<Key, Value> retrieval = new BoundedRetrieval<>(keys, retriever);
+		for(int i = 0, count = Math.min(parallelism, keys.size()); i < count; i++) {
+			retrieval.retrieveNext();
+		}
+		
+		return retrieval.future;
+	}
+	
+	private void addMiss(Key key) {
+		if(this.missDuration == 0) {
+			return;
+		}
+		
+		long now = System.nanoTime();
+		if(this.misses.size() >= MISSES_CLEANUP_THRESHOLD) {
+			this.misses.values().removeIf((expiry) -> now - expiry >= 0);
+		}
+		
+		this.misses.put(key, now + this.missDuration);
+	}
+	
+	/**
+	 * Forget that a key could not be found, this should be called when the entity of the key is known to exist
+	 * 
+	 * @param key the key
+	 * 
+	 * @return the {@link RetrievalCache} instance, useful for chaining
+	 */
+	@Nonnull
+	public RetrievalCache<Key, Value> invalidate(@Nonnull Key key) {
+		Checks.notNull(key, "key");
+		
+		this.misses.remove(key);
+		
+		return this;
+	}
+	
+	/**
+	 * Forget every key which could not be found
+	 * 
+	 * @return the {@link RetrievalCache} instance, useful for chaining
+	 */
+	@Nonnull
+	public RetrievalCache<Key, Value> invalidateAll() {
+		this.misses.clear();
+		
+		return this;
+	}
+}
\ No newline at end of file
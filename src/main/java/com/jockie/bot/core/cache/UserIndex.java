@@ -0,0 +1,422 @@
+package com.jockie.bot.core.cache;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import com.jockie.bot.core.utility.StringUtility;
+
+import net.dv8tion.jda.api.JDA;
+import net.dv8tion.jda.api.entities.Member;
+import net.dv8tion.jda.api.entities.User;
+import net.dv8tion.jda.api.events.GenericEvent;
+import net.dv8tion.jda.api.events.ReadyEvent;
+import net.dv8tion.jda.api.events.ReconnectedEvent;
+import net.dv8tion.jda.api.events.guild.GuildLeaveEvent;
+import net.dv8tion.jda.api.events.guild.member.GuildMemberJoinEvent;
+import net.dv8tion.jda.api.events.guild.member.GuildMemberRemoveEvent;
+import net.dv8tion.jda.api.events.user.update.GenericUserUpdateEvent;
+import net.dv8tion.jda.api.events.user.update.UserUpdateDiscriminatorEvent;
+import net.dv8tion.jda.api.events.user.update.UserUpdateNameEvent;
+import net.dv8tion.jda.api.hooks.EventListener;
+import net.dv8tion.jda.api.sharding.ShardManager;
+import net.dv8tion.jda.internal.utils.Checks;
+
+/**
+ * An index of the users of every shard by their tag and name, this allows users to be looked up without 
+ * scanning the user cache of every shard. A user cached by several shards is only indexed once.
+ * <br><br>
+ * The index is kept up to date by member join and remove events, guild leave events as well as user name and 
+ * discriminator events, for this to work the index has to be registered as an event listener 
+ * on the {@link ShardManager} (or {@link JDA}) it was created for.
+ * <br><br>
+ * <b>NOTE:</b> Users can be cached without any event, for instance when members are chunked, 
+ * because of this the users of a shard are re-synchronized when the shard is ready or reconnects
+ * and whenever {@link #synchronize()} is called, which can be scheduled through 
+ * {@link #scheduleSynchronization(ScheduledExecutorService, long, TimeUnit)}, lookups never synchronize 
+ * other than the first one, which builds the index
+ */
+public class UserIndex implements EventListener {
+	
+	/* The keys a user was indexed by together with the amount of shards which have the user cached */
+	private static class IndexedUser {
+		
+		/* The shard the instance of the user belongs to */
+		private final JDA shard;
+		private final User user;
+		
+		private final String tag;
+		private final String name;
+		
+		private int shards;
+		
+		private IndexedUser(JDA shard, User user, int shards) {
+			this.shard = shard;
+			this.user = user;
+			this.tag = user.getAsTag();
+			this.name = StringUtility.foldCase(user.getName());
+			this.shards = shards;
+		}
+	}
+	
+	protected final Supplier<List<JDA>> shards;
+	
+	/* The ids of the users indexed from each shard */
+	private final Map<JDA, Set<Long>> shardUsers = new ConcurrentHashMap<>();
+	
+	private final Map<Long, IndexedUser> users = new ConcurrentHashMap<>();
+	
+	private final Map<String, User> tags = new ConcurrentHashMap<>();
+	
+	/* The names are case folded, case sensitive lookups are filtered afterwards */
+	private final Map<String, Set<User>> names = new ConcurrentHashMap<>();
+	
+	/* Whether or not every shard has been synchronized at least once */
+	private volatile boolean initialized = false;
+	
+	/**
+	 * @param shardManager the shard manager whose users should be indexed
+	 */
+	public UserIndex(@Nonnull ShardManager shardManager) {
+		Checks.notNull(shardManager, "shardManager");
+		
+		this.shards = shardManager::getShards;
+	}
+	
+	/**
+	 * @param jda the JDA instance whose users should be indexed
+	 */
+	public UserIndex(@Nonnull JDA jda) {
+		Checks.notNull(jda, "jda");
+		
+		List<JDA> shards = List.of(jda);
+		
+		this.shards = () -> shards;
+	}
+	
+	/**
+	 * @return the amount of distinct users in this index
+	 */
+	public int size() {
+		return this.users.size();
+	}
+	
+	private static void addKey(Map<String, Set<User>> map, String key, User user) {
+		map.computeIfAbsent(key, (k) -> ConcurrentHashMap.newKeySet()).add(user);
+	}
+	
+	private static void removeKey(Map<String, Set<User>> map, String key, User user) {
+		map.computeIfPresent(key, (k, users) -> {
+			users.remove(user);
+			
+			return users.isEmpty() ? null : users;
+		});
+	}
+	
+	private void index(IndexedUser indexed) {
+		this.users.put(indexed.user.getIdLong(), indexed);
+		this.tags.put(indexed.tag, indexed.user);
+		
+		UserIndex.addKey(this.names, indexed.name, indexed.user);
+	}
+	
+	private void unindex(IndexedUser indexed) {
+		this.users.remove(indexed.user.getIdLong(), indexed);
+		this.tags.remove(indexed.tag, indexed.user);
+		
+		UserIndex.removeKey(this.names, indexed.name, indexed.user);
+	}
+	
+	/**
+	 * Add a user cached by the provided shard
+	 * 
+	 * @param shard the shard which has the user cached
+	 * @param user the user to add
+	 * 
+	 * @return the {@link UserIndex} instance, useful for chaining
+	 */
+	@Nonnull
+	public synchronized UserIndex add(@Nonnull JDA shard, @Nonnull User user) {
+		Checks.notNull(shard, "shard");
+		Checks.notNull(user, "user");
+		
+		Set<Long> shardUsers = this.shardUsers.computeIfAbsent(shard, (key) -> ConcurrentHashMap.newKeySet());
+		if(!shardUsers.add(user.getIdLong())) {
+			return this;
+		}
+		
+		IndexedUser indexed = this.users.get(user.getIdLong());
+		if(indexed != null) {
+			indexed.shards++;
+		}else{
+			this.index(new IndexedUser(shard, user, 1));
+		}
+		
+		return this;
+	}
+	
+	/**
+	 * Remove a user which is no longer cached by the provided shard, 
+	 * the user is only removed from the index once no shard has the user cached
+	 * 
+	 * @param shard the shard which no longer has the user cached
+	 * @param userId the id of the user
+	 * 
+	 * @return the {@link UserIndex} instance, useful for chaining
+	 */
+	@Nonnull
+	public synchronized UserIndex remove(@Nonnull JDA shard, long userId) {
+		Checks.notNull(shard, "shard");
+		
+		Set<Long> shardUsers = this.shardUsers.get(shard);
+		if(shardUsers == null || !shardUsers.remove(userId)) {
+			return this;
+		}
+		
+		IndexedUser indexed = this.users.get(userId);
+		if(indexed == null) {
+			return this;
+		}
+		
+		if(--indexed.shards <= 0) {
+			this.unindex(indexed);
+		}else if(indexed.shard == shard) {
+			/* The user is still cached by another shard, the instance of that shard is indexed instead so this shard is not kept */
+			for(Map.Entry<JDA, Set<Long>> entry : this.shardUsers.entrySet()) {
+				User user = entry.getValue().contains(userId) ? entry.getKey().getUserCache().getElementById(userId) : null;
+				if(user != null) {
+					this.unindex(indexed);
+					this.index(new IndexedUser(entry.getKey(), user, indexed.shards));
+					
+					break;
+				}
+			}
+		}
+		
+		return this;
+	}
+	
+	/**
+	 * Re-index a user by their current tag and name
+	 * 
+	 * @param user the user to re-index
+	 * 
+	 * @return the {@link UserIndex} instance, useful for chaining
+	 */
+	@Nonnull
+	public synchronized UserIndex update(@Nonnull User user) {
+		Checks.notNull(user, "user");
+		
+		IndexedUser indexed = this.users.get(user.getIdLong());
+		if(indexed != null) {
+			this.unindex(indexed);
+			this.index(new IndexedUser(user.getJDA(), user, indexed.shards));
+		}
+		
+		return this;
+	}
+	
+	private static int getShardId(JDA shard) {
+		JDA.ShardInfo shardInfo = shard.getShardInfo();
+		
+		return shardInfo != null ? shardInfo.getShardId() : 0;
+	}
+	
+	/* 
+	 * The cache of the shard is walked without holding the lock of the index, only each add and remove holds it, 
+	 * that way events of other shards are not blocked while a shard is synchronized
+	 */
+	private void synchronizeShard(JDA shard) {
+		Set<Long> shardUsers = this.shardUsers.computeIfAbsent(shard, (key) -> ConcurrentHashMap.newKeySet());
+		
+		for(User user : shard.getUserCache()) {
+			this.add(shard, user);
+		}
+		
+		for(Long userId : new ArrayList<>(shardUsers)) {
+			if(shard.getUserCache().getElementById(userId) == null) {
+				this.remove(shard, userId);
+			}
+		}
+	}
+	
+	/* Remove every user indexed from a shard which is no longer used, such as a shard which has been restarted */
+	private void removeShard(JDA shard) {
+		Set<Long> shardUsers = this.shardUsers.get(shard);
+		if(shardUsers == null) {
+			return;
+		}
+		
+		for(Long userId : new ArrayList<>(shardUsers)) {
+			this.remove(shard, userId);
+		}
+		
+		this.shardUsers.remove(shard);
+	}
+	
+	/**
+	 * Synchronize every shard whose user cache no longer matches the users indexed for it, 
+	 * this only requires checking the size of each shard's cache
+	 * 
+	 * @return the {@link UserIndex} instance, useful for chaining
+	 */
+	@Nonnull
+	public UserIndex synchronize() {
+		List<JDA> shards = this.shards.get();
+		
+		for(JDA shard : shards) {
+			Set<Long> shardUsers = this.shardUsers.get(shard);
+			
+			long indexed = shardUsers != null ? shardUsers.size() : 0;
+			if(indexed != shard.getUserCache().size()) {
+				this.synchronizeShard(shard);
+			}
+		}
+		
+		/* Shards which have been restarted are replaced by new instances */
+		if(this.shardUsers.size() > shards.size()) {
+			for(JDA shard : new ArrayList<>(this.shardUsers.keySet())) {
+				if(!shards.contains(shard)) {
+					this.removeShard(shard);
+				}
+			}
+		}
+		
+		this.initialized = true;
+		
+		return this;
+	}
+	
+	/**
+	 * Periodically synchronize this index, see {@link #synchronize()}
+	 * 
+	 * @param executor the executor to synchronize on
+	 * @param period the time between each synchronization
+	 * @param unit the unit of the period
+	 * 
+	 * @return the scheduled synchronization, this can be used to cancel it
+	 */
+	@Nonnull
+	public ScheduledFuture<?> scheduleSynchronization(@Nonnull ScheduledExecutorService executor, long period, @Nonnull TimeUnit unit) {
+		Checks.notNull(executor, "executor");
+		Checks.positive(period, "period");
+		Checks.notNull(unit, "unit");
+		
+		return executor.scheduleWithFixedDelay(this::synchronize, period, period, unit);
+	}
+	
+	/* The index is built by the first lookup, after that it is only kept up to date by events and synchronizations */
+	private void initialize() {
+		if(!this.initialized) {
+			this.synchronize();
+		}
+	}
+	
+	/**
+	 * @param tag the tag of the user, <b>name#discriminator</b>
+	 * 
+	 * @return the user with the provided tag or null if there is no such user
+	 */
+	@Nullable
+	public User getUserByTag(@Nonnull String tag) {
+		Checks.notNull(tag, "tag");
+		
+		this.initialize();
+		
+		return this.tags.get(tag);
+	}
+	
+	/**
+	 * @param name the name of the users
+	 * @param ignoreCase whether or not the name should be case sensitive
+	 * 
+	 * @return the users with the provided name
+	 */
+	@Nonnull
+	public List<User> getUsersByName(@Nonnull String name, boolean ignoreCase) {
+		Checks.notNull(name, "name");
+		
+		this.initialize();
+		
+		Set<User> users = this.names.get(StringUtility.foldCase(name));
+		if(users == null) {
+			return Collections.emptyList();
+		}
+		
+		List<User> result = new ArrayList<>(users.size());
+		for(User user : users) {
+			if(ignoreCase || name.equals(user.getName())) {
+				result.add(user);
+			}
+		}
+		
+		return Collections.unmodifiableList(result);
+	}
+	
+	@Override
+	public void onEvent(GenericEvent event) {
+		if(event instanceof GuildMemberJoinEvent) {
+			GuildMemberJoinEvent joinEvent = (GuildMemberJoinEvent) event;
+			
+			/* Only shards which have been indexed, the others are synchronized once they are looked up */
+			if(this.shardUsers.containsKey(event.getJDA())) {
+				this.add(event.getJDA(), joinEvent.getUser());
+			}
+		}else if(event instanceof GuildMemberRemoveEvent) {
+			GuildMemberRemoveEvent removeEvent = (GuildMemberRemoveEvent) event;
+			
+			long userId = removeEvent.getUser().getIdLong();
+			
+			/* The user is still cached if they share another guild with the shard */
+			if(event.getJDA().getUserCache().getElementById(userId) == null) {
+				this.remove(event.getJDA(), userId);
+			}
+		}else if(event instanceof UserUpdateNameEvent || event instanceof UserUpdateDiscriminatorEvent) {
+			this.update(((GenericUserUpdateEvent<?>) event).getUser());
+		}else if(event instanceof GuildLeaveEvent) {
+			JDA shard = event.getJDA();
+			if(!this.shardUsers.containsKey(shard)) {
+				return;
+			}
+			
+			/* The users of the guild are still cached if they share another guild with the shard */
+			for(Member member : ((GuildLeaveEvent) event).getGuild().getMemberCache()) {
+				long userId = member.getUser().getIdLong();
+				if(shard.getUserCache().getElementById(userId) == null) {
+					this.remove(shard, userId);
+				}
+			}
+		}else if(event instanceof ReadyEvent) {
+			if(!this.initialized) {
+				return;
+			}
+			
+			/* Only the shard which is ready is synchronized, a restarted shard is a new instance which replaces the one with the same id */
+			JDA shard = event.getJDA();
+			int shardId = UserIndex.getShardId(shard);
+			
+			for(JDA indexed : new ArrayList<>(this.shardUsers.keySet())) {
+				if(indexed != shard && UserIndex.getShardId(indexed) == shardId) {
+					this.removeShard(indexed);
+				}
+			}
+			
+			this.synchronizeShard(shard);
+		}else if(event instanceof ReconnectedEvent) {
+			/* The cache is re-built when reconnecting, without any events for the users which were cached again */
+			if(this.shardUsers.containsKey(event.getJDA())) {
+				this.synchronizeShard(event.getJDA());
+			}
+		}
+	}
+}
\ No newline at end of file
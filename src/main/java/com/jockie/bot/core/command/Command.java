@@ -8,6 +8,7 @@ import java.util.concurrent.TimeUnit;
 
 import com.jockie.bot.core.command.ICommand.ArgumentParsingType;
 import com.jockie.bot.core.command.ICommand.ArgumentTrimType;
+import com.jockie.bot.core.command.ICommand.ConcurrencyLimitPolicy;
 import com.jockie.bot.core.command.ICommand.ContentOverflowPolicy;
 import com.jockie.bot.core.command.ICommand.DuplicateOptionPolicy;
 import com.jockie.bot.core.command.ICommand.OptionParsingFailurePolicy;
@@ -112,6 +113,31 @@ public @interface Command {
 	 */
 	public String orderingKey() default "";
 	
+	/**
+	 * @see ICommand#getExecutionLane()
+	 */
+	public String lane() default "";
+	
+	/**
+	 * @see ICommand#getExecutionTimeout()
+	 */
+	public long timeout() default 0;
+	
+	/**
+	 * @return the time unit to use for the execution timeout
+	 */
+	public TimeUnit timeoutUnit() default TimeUnit.SECONDS;
+	
+	/**
+	 * @see ICommand#getConcurrencyLimit()
+	 */
+	public int concurrencyLimit() default 0;
+	
+	/**
+	 * @see ICommand#getConcurrencyLimitPolicy()
+	 */
+	public ConcurrencyLimitPolicy concurrencyLimitPolicy() default ConcurrencyLimitPolicy.QUEUE;
+	
 	/**
 	 * @see ICommand#isNSFW()
 	 */
@@ -161,6 +187,11 @@ public @interface Command {
 		 */
 		public String orderingKey() default "";
 		
+		/**
+		 * @see ICommand#getExecutionLane()
+		 */
+		public String lane() default "";
+		
 	}
 	
 	@Retention(RetentionPolicy.RUNTIME)
@@ -206,6 +237,22 @@ public @interface Command {
 		
 	}
 	
+	@Retention(RetentionPolicy.RUNTIME)
+	@Target(ElementType.METHOD)
+	public static @interface ConcurrencyLimit {
+		
+		/**
+		 * @see ICommand#getConcurrencyLimit()
+		 */
+		public int value() default 0;
+		
+		/**
+		 * @see ICommand#getConcurrencyLimitPolicy()
+		 */
+		public ConcurrencyLimitPolicy policy() default ConcurrencyLimitPolicy.QUEUE;
+		
+	}
+	
 	@Retention(RetentionPolicy.RUNTIME)
 	@Target(ElementType.METHOD)
 	public static @interface Developer {
@@ -239,6 +286,22 @@ public @interface Command {
 		
 	}
 	
+	@Retention(RetentionPolicy.RUNTIME)
+	@Target(ElementType.METHOD)
+	public static @interface Timeout {
+		
+		/**
+		 * @see ICommand#getExecutionTimeout()
+		 */
+		public long value() default 0;
+		
+		/**
+		 * @return the time unit to use for the execution timeout
+		 */
+		public TimeUnit unit() default TimeUnit.SECONDS;
+		
+	}
+	
 	@Retention(RetentionPolicy.RUNTIME)
 	@Target(ElementType.METHOD)
 	public static @interface Policy {
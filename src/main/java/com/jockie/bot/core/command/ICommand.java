@@ -3,6 +3,7 @@ package com.jockie.bot.core.command;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -13,6 +14,7 @@ import com.jockie.bot.core.category.ICategory;
 import com.jockie.bot.core.command.exception.parser.ContentOverflowException;
 import com.jockie.bot.core.command.exception.parser.OptionParseException;
 import com.jockie.bot.core.command.impl.CommandEvent;
+import com.jockie.bot.core.command.impl.CommandEventListener;
 import com.jockie.bot.core.command.impl.CommandListener;
 import com.jockie.bot.core.command.parser.ICommandParser;
 import com.jockie.bot.core.cooldown.ICooldown;
@@ -109,6 +111,19 @@ public interface ICommand extends IPropertyContainer {
 		STRICT;
 	}
 	
+	/**
+	 * This is used to determine how the {@link CommandListener} should handle a command when it has reached its {@link ICommand#getConcurrencyLimit() concurrency limit}
+	 */
+	public static enum ConcurrencyLimitPolicy {
+		/** 
+		 * Waits until one of the currently executing instances of the command has finished executing, no thread is held 
+		 * while waiting and the command is then executed with the {@link CommandListener#getCommandExecutor(ICommand) executor of the command}
+		 */
+		QUEUE,
+		/** Rejects the command, this calls the {@link CommandListener#getConcurrencyLimitFunction() concurrency limit function} */
+		REJECT;
+	}
+	
 	/**
 	 * @return the command which the command listener should look for
 	 */
@@ -256,6 +271,52 @@ public interface ICommand extends IPropertyContainer {
 	@Nullable
 	public Object getAsyncOrderingKey(@Nonnull CommandEvent event);
 	
+	/**
+	 * The name of the execution lane this command should be executed in, execution lanes
+	 * are registered through {@link CommandListener#registerExecutionLane(String, ExecutorService)}
+	 * and allow commands to be isolated from each other, for instance so that a long queue of
+	 * heavy commands does not hold up lightweight ones.
+	 * <br><br>
+	 * If this is null the command will be executed in the {@link CommandListener#PRIORITY_LANE priority lane} 
+	 * if it is a {@link #isDeveloperCommand() developer command} or requires the author to have any 
+	 * {@link #getAuthorDiscordPermissions() Discord permissions}, otherwise it will be executed with
+	 * the {@link CommandListener#getCommandExecutor() default command executor}.
+	 * <br><br>
+	 * <b>NOTE:</b> Commands with an execution lane will always be executed asynchronously
+	 * 
+	 * @return the name of the execution lane this command should be executed in
+	 */
+	@Nullable
+	public String getExecutionLane();
+	
+	/**
+	 * The maximum amount of time this command is allowed to execute for, including any work it started, before the thread executing it 
+	 * is interrupted, or the work cancelled, and {@link CommandEventListener#onCommandExecutionTimeout(ICommand, CommandEvent, long)}
+	 * is called, if this is less than or equal to 0 the {@link CommandListener#getDefaultExecutionTimeout() default execution timeout}
+	 * of the CommandListener will be used.
+	 * <br><br>
+	 * <b>NOTE:</b> Execution timeouts only apply to commands which are executed asynchronously
+	 * 
+	 * @return the execution timeout in milliseconds
+	 */
+	public long getExecutionTimeout();
+	
+	/**
+	 * The maximum amount of times this command can be executing at the same time across the whole
+	 * {@link CommandListener}, no matter how many threads the executor has. This is useful for commands 
+	 * which are heavy on resources, for instance image rendering.
+	 * 
+	 * @return the concurrency limit of this command, if this is less than or equal to 0 there is no limit
+	 */
+	public int getConcurrencyLimit();
+	
+	/**
+	 * @return the policy which determines what happens when this command is executed
+	 * while it is at its {@link #getConcurrencyLimit() concurrency limit}
+	 */
+	@Nonnull
+	public ConcurrencyLimitPolicy getConcurrencyLimitPolicy();
+	
 	/**
 	 * @return the parent of this command, a parent is used to get the full trigger for this command, 
 	 * for instance if the parent's command trigger was "mute" and this command's trigger was "all" the whole trigger would be "mute all"
@@ -68,6 +68,13 @@ public abstract class AbstractCommand implements ICommand {
 	
 	protected Function<CommandEvent, Object> asyncOrderingKey;
 	
+	protected String executionLane;
+	
+	protected long executionTimeout = 0;
+	
+	protected int concurrencyLimit = 0;
+	protected ConcurrencyLimitPolicy concurrencyLimitPolicy = ConcurrencyLimitPolicy.QUEUE;
+	
 	protected long cooldownDuration = 0;
 	protected Scope cooldownScope = Scope.USER;
 	
@@ -224,6 +231,26 @@ public abstract class AbstractCommand implements ICommand {
 		return null;
 	}
 	
+	@Override
+	public String getExecutionLane() {
+		return this.executionLane;
+	}
+	
+	@Override
+	public long getExecutionTimeout() {
+		return this.executionTimeout;
+	}
+	
+	@Override
+	public int getConcurrencyLimit() {
+		return this.concurrencyLimit;
+	}
+	
+	@Override
+	public ConcurrencyLimitPolicy getConcurrencyLimitPolicy() {
+		return this.concurrencyLimitPolicy;
+	}
+	
 	@Override
 	public ICommand getParent() {
 		return this.parent;
@@ -490,6 +517,78 @@ public abstract class AbstractCommand implements ICommand {
 		return this.setAsyncOrderingKey(($) -> key);
 	}
 	
+	/**
+	 * @param lane the name of the execution lane this command should be executed in
+	 * 
+	 * @return the {@link AbstractCommand} instance, useful for chaining
+	 * 
+	 * @see #getExecutionLane()
+	 */
+	@Nonnull
+	public AbstractCommand setExecutionLane(@Nullable String lane) {
+		this.executionLane = lane;
+		
+		return this;
+	}
+	
+	/**
+	 * @param timeout in milliseconds
+	 * 
+	 * @return the {@link AbstractCommand} instance, useful for chaining
+	 * 
+	 * @see #getExecutionTimeout()
+	 */
+	@Nonnull
+	public AbstractCommand setExecutionTimeout(long timeout) {
+		this.executionTimeout = timeout;
+		
+		return this;
+	}
+	
+	/**
+	 * @param timeout in the specified unit
+	 * @param unit the unit of the timeout
+	 * 
+	 * @return the {@link AbstractCommand} instance, useful for chaining
+	 * 
+	 * @see #getExecutionTimeout()
+	 */
+	@Nonnull
+	public AbstractCommand setExecutionTimeout(long timeout, @Nonnull TimeUnit unit) {
+		Checks.notNull(unit, "unit");
+		
+		return this.setExecutionTimeout(unit.toMillis(timeout));
+	}
+	
+	/**
+	 * @param limit the maximum amount of times this command can be executing at the same time
+	 * 
+	 * @return the {@link AbstractCommand} instance, useful for chaining
+	 * 
+	 * @see #getConcurrencyLimit()
+	 */
+	@Nonnull
+	public AbstractCommand setConcurrencyLimit(int limit) {
+		this.concurrencyLimit = limit;
+		
+		return this;
+	}
+	
+	/**
+	 * @param policy the policy to use when the concurrency limit has been reached
+	 * 
+	 * @return the {@link AbstractCommand} instance, useful for chaining
+	 * 
+	 * @see #getConcurrencyLimitPolicy()
+	 */
+	@Nonnull
+	public AbstractCommand setConcurrencyLimitPolicy(@Nonnull ConcurrencyLimitPolicy policy) {
+		Checks.notNull(policy, "policy");
+		this.concurrencyLimitPolicy = policy;
+		
+		return this;
+	}
+	
 	@Nonnull
 	public AbstractCommand setParent(@Nullable ICommand parent) {
 		this.parent = parent;
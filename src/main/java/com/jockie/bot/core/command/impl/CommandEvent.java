@@ -6,6 +6,7 @@ import java.lang.reflect.Type;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
 
 import com.jockie.bot.core.command.ICommand;
@@ -57,6 +58,8 @@ public class CommandEvent implements IPropertyContainer {
 	
 	protected long timeStarted;
 	
+	protected volatile CompletionStage<?> completionStage;
+	
 	protected Map<String, Object> properties = new HashMap<>();
 	
 	/**
@@ -282,6 +285,29 @@ public class CommandEvent implements IPropertyContainer {
 		return System.nanoTime() - this.timeStarted;
 	}
 	
+	/**
+	 * Set the work which the command started and which has not yet completed, the command is not considered 
+	 * finished until the stage has completed and if the stage fails the exception is handled the same way 
+	 * as if the command had thrown it.
+	 * <br><br>
+	 * <b>NOTE:</b> This is set automatically for values returned by command methods, such as a {@link CompletionStage} 
+	 * or {@link RestAction}, which are handled asynchronously by the {@link CommandListener#getReturnManager() return manager}
+	 * 
+	 * @param stage the work which the command started, null if there is none
+	 * 
+	 * @return the {@link CommandEvent} instance, useful for chaining
+	 */
+	public CommandEvent setCompletionStage(CompletionStage<?> stage) {
+		this.completionStage = stage;
+		
+		return this;
+	}
+	
+	/** @return the work which the command started and which it is not considered finished without, may be null */
+	public CompletionStage<?> getCompletionStage() {
+		return this.completionStage;
+	}
+	
 	/** Equivalent to {@link MessageChannel#sendMessage(CharSequence)}, using the event's channel */
 	public MessageAction reply(CharSequence text) {
 		return this.getChannel().sendMessage(text);
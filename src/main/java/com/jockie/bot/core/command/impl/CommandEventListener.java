@@ -39,6 +39,22 @@ public class CommandEventListener {
 	 */
 	public void onCommandMissingPermissions(ICommand command, CommandEvent event, PermissionException exception) {}
 	
+	/** 
+	 * This will be sent if the command did not finish executing within its execution timeout, 
+	 * when this is called the thread executing the command has been interrupted, or the work the command 
+	 * started has been cancelled if it had already returned, and any commands queued after it with the 
+	 * same ordering key will continue to execute.
+	 * <br><br>
+	 * <b>NOTE:</b>
+	 * This means that {@link #onCommandExecutionException(ICommand, CommandEvent, Throwable)} will not 
+	 * be called for any exception caused by the interruption
+	 * 
+	 * @param command the command which timed out
+	 * @param event the context of what was executed
+	 * @param timeout the timeout, in milliseconds, which the command exceeded
+	 */
+	public void onCommandExecutionTimeout(ICommand command, CommandEvent event, long timeout) {}
+	
 	/** 
 	 * This will be sent if a message starts with a registered prefix, 
 	 * this is called no matter if a command was executed or not
@@ -8,18 +8,32 @@ import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
 import java.util.function.BiPredicate;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import javax.annotation.Nonnull;
@@ -30,6 +44,7 @@ import org.slf4j.Logger;
 import com.jockie.bot.core.argument.IArgument;
 import com.jockie.bot.core.command.CommandTrigger;
 import com.jockie.bot.core.command.ICommand;
+import com.jockie.bot.core.command.ICommand.ConcurrencyLimitPolicy;
 import com.jockie.bot.core.command.exception.CancelException;
 import com.jockie.bot.core.command.exception.parser.ArgumentParseException;
 import com.jockie.bot.core.command.exception.parser.OutOfContentException;
@@ -37,6 +52,9 @@ import com.jockie.bot.core.command.exception.parser.ParseException;
 import com.jockie.bot.core.command.exception.parser.PassiveCommandException;
 import com.jockie.bot.core.command.factory.ICommandEventFactory;
 import com.jockie.bot.core.command.factory.impl.CommandEventFactoryImpl;
+import com.jockie.bot.core.command.limiter.IConcurrencyLimiter;
+import com.jockie.bot.core.command.limiter.impl.AIMDConcurrencyLimiter;
+import com.jockie.bot.core.command.impl.CommandResult.Outcome;
 import com.jockie.bot.core.command.impl.DummyCommand.AlternativeCommand;
 import com.jockie.bot.core.command.manager.IErrorManager;
 import com.jockie.bot.core.command.manager.IReturnManager;
@@ -67,6 +85,15 @@ public class CommandListener implements EventListener {
 	
 	public static final Logger LOG = JDALogger.getLog(CommandListener.class);
 	
+	/**
+	 * The name of the default execution lane which {@link ICommand#isDeveloperCommand() developer commands} and 
+	 * moderation commands, commands which require the author to have {@link ICommand#getAuthorDiscordPermissions() Discord permissions}, 
+	 * without an {@link ICommand#getExecutionLane() execution lane} are executed in, this lane is registered by 
+	 * default and is backed by its own high priority thread pool so that these commands are never queued 
+	 * behind other commands.
+	 */
+	public static final String PRIORITY_LANE = "priority";
+	
 	public final BiConsumer<CommandEvent, EnumSet<Permission>> defaultMissingPermissionsFunction = (event, permissions) -> {
 		StringBuilder missingPermissions = new StringBuilder();
 		for(Permission permission : permissions) {
@@ -126,6 +153,10 @@ public class CommandListener implements EventListener {
 		event.reply("NSFW commands are not allowed in non-NSFW channels!").queue();
 	};
 	
+	public final Consumer<CommandEvent> defaultConcurrencyLimitFunction = (event) -> {
+		event.reply("That command is busy right now, try again in a bit").queue();
+	};
+	
 	protected List<ICommand> getCommands(List<Failure> failures) {
 		List<ICommand> commands = failures.stream()
 			.filter(failure -> !(failure.getReason() instanceof PassiveCommandException))
@@ -336,6 +367,7 @@ public class CommandListener implements EventListener {
 	
 	protected BiConsumer<CommandEvent, ICooldown> cooldownFunction = this.defaultCooldownFunction;
 	protected Consumer<CommandEvent> nsfwFunction = this.defaultNsfwFunction;
+	protected Consumer<CommandEvent> concurrencyLimitFunction = this.defaultConcurrencyLimitFunction;
 	protected TriConsumer<Message, String, List<ICommand>> helpFunction = this.defaultHelpFunction;
 	
 	protected TriConsumer<Message, String, List<Failure>> messageParseFailureFunction = this.defaultMessageParseFailureFunction;
@@ -348,6 +380,16 @@ public class CommandListener implements EventListener {
 	
 	protected ExecutorService commandExecutor = Executors.newCachedThreadPool();
 	
+	protected Map<String, ExecutorService> executionLanes = new ConcurrentHashMap<>();
+	
+	protected ScheduledExecutorService timeoutScheduler = Executors.newSingleThreadScheduledExecutor(CommandListener.createThreadFactory("timeout", Thread.MAX_PRIORITY));
+	
+	protected long defaultExecutionTimeout = 0;
+	
+	protected IConcurrencyLimiter concurrencyLimiter;
+	
+	protected Queue<LimitedTask> limitedTasks = new ConcurrentLinkedQueue<>();
+	
 	protected ICooldownManager cooldownManager = new CooldownManagerImpl();
 	
 	protected IReturnManager returnManager = new ReturnManagerImpl();
@@ -371,8 +413,24 @@ public class CommandListener implements EventListener {
 	
 	protected boolean filterStackTrace = true;
 	
+	protected boolean asyncParsing = false;
+	
 	public CommandListener() {
 		this.addDefaultPreExecuteChecks();
+		
+		this.registerExecutionLane(PRIORITY_LANE, Executors.newCachedThreadPool(CommandListener.createThreadFactory(PRIORITY_LANE, Thread.MAX_PRIORITY)));
+	}
+	
+	private static ThreadFactory createThreadFactory(String name, int priority) {
+		AtomicInteger count = new AtomicInteger();
+		
+		return (runnable) -> {
+			Thread thread = new Thread(runnable, "CommandListener-" + name + "-" + count.incrementAndGet());
+			thread.setPriority(priority);
+			thread.setDaemon(true);
+			
+			return thread;
+		};
 	}
 	
 	/**
@@ -636,6 +694,30 @@ public class CommandListener implements EventListener {
 		return this.filterStackTrace;
 	}
 	
+	/**
+	 * Set whether or not received messages should be handled through {@link #handleAsync(Message)} rather than 
+	 * {@link #handle(Message)}, this should be enabled when any {@link com.jockie.bot.core.parser.IAsyncParser} 
+	 * can make requests, such as a member or user parser with a retrieval cache, so that the event thread is 
+	 * not blocked while a request is awaited
+	 * 
+	 * @param asyncParsing whether or not received messages should be parsed on the command executor
+	 * 
+	 * @return the {@link CommandListener} instance, useful for chaining
+	 */
+	@Nonnull
+	public CommandListener setAsyncParsing(boolean asyncParsing) {
+		this.asyncParsing = asyncParsing;
+		
+		return this;
+	}
+	
+	/**
+	 * @return whether or not received messages are parsed on the command executor, see {@link #setAsyncParsing(boolean)}
+	 */
+	public boolean isAsyncParsing() {
+		return this.asyncParsing;
+	}
+	
 	/**
 	 * Register an array of ids as developers
 	 * 
@@ -980,6 +1062,32 @@ public class CommandListener implements EventListener {
 		return this.nsfwFunction;
 	}
 	
+	/**
+	 * @param consumer the function which will be called if a command has reached its {@link ICommand#getConcurrencyLimit() concurrency limit}
+	 * and its {@link ICommand#getConcurrencyLimitPolicy() policy} is {@link ConcurrencyLimitPolicy#REJECT}
+	 * <br><br>
+	 * <b>Parameter type definitions:</b>
+	 * <br><b>CommandEvent</b> - The command which was triggered's event
+	 * 
+	 * @return the {@link CommandListener} instance, useful for chaining
+	 */
+	@Nonnull
+	public CommandListener setConcurrencyLimitFunction(@Nullable Consumer<CommandEvent> consumer) {
+		this.concurrencyLimitFunction = consumer;
+		
+		return this;
+	}
+	
+	/**
+	 * @return the current concurrency limit function
+	 * 
+	 * @see #setConcurrencyLimitFunction(Consumer)
+	 */
+	@Nullable
+	public Consumer<CommandEvent> getConcurrencyLimitFunction() {
+		return this.concurrencyLimitFunction;
+	}
+	
 	/**
 	 * @param consumer the function that will be called when a message could not be parsed correctly
 	 * <br><br>
@@ -1056,6 +1164,214 @@ public class CommandListener implements EventListener {
 		return this.commandExecutor;
 	}
 	
+	/**
+	 * Register an execution lane, commands which have this lane as their {@link ICommand#getExecutionLane() execution lane}
+	 * will be executed using the provided executor service instead of the {@link #getCommandExecutor() default command executor}
+	 * <br><br>
+	 * <b>NOTE:</b> Registering a lane with the name of an already registered lane will replace it, the old executor service 
+	 * will not be shutdown
+	 * 
+	 * @param name the name of the lane
+	 * @param executorService the executor service which commands in this lane will be executed with
+	 * 
+	 * @return the {@link CommandListener} instance, useful for chaining
+	 */
+	@Nonnull
+	public CommandListener registerExecutionLane(@Nonnull String name, @Nonnull ExecutorService executorService) {
+		Checks.notNull(name, "name");
+		Checks.notNull(executorService, "executorService");
+		
+		this.executionLanes.put(name, executorService);
+		
+		return this;
+	}
+	
+	/**
+	 * Register an execution lane backed by a thread pool of a fixed size with its own queue
+	 * 
+	 * @param name the name of the lane
+	 * @param poolSize the maximum amount of commands which can be executed at the same time in this lane
+	 * 
+	 * @return the {@link CommandListener} instance, useful for chaining
+	 * 
+	 * @see #registerExecutionLane(String, ExecutorService)
+	 */
+	@Nonnull
+	public CommandListener registerExecutionLane(@Nonnull String name, int poolSize) {
+		Checks.notNull(name, "name");
+		Checks.positive(poolSize, "poolSize");
+		
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(poolSize, poolSize, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), 
+			CommandListener.createThreadFactory(name, Thread.NORM_PRIORITY));
+		
+		executor.allowCoreThreadTimeOut(true);
+		
+		return this.registerExecutionLane(name, executor);
+	}
+	
+	/**
+	 * Unregister an execution lane, commands which are in this lane will be executed with the 
+	 * {@link #getCommandExecutor() default command executor} instead
+	 * <br><br>
+	 * <b>NOTE:</b> The executor service of the lane will not be shutdown
+	 * 
+	 * @param name the name of the lane
+	 * 
+	 * @return the {@link CommandListener} instance, useful for chaining
+	 */
+	@Nonnull
+	public CommandListener unregisterExecutionLane(@Nonnull String name) {
+		Checks.notNull(name, "name");
+		
+		this.executionLanes.remove(name);
+		
+		return this;
+	}
+	
+	/**
+	 * @param name the name of the lane
+	 * 
+	 * @return the executor service of the execution lane with the provided name or null
+	 * if there is no lane registered with that name
+	 */
+	@Nullable
+	public ExecutorService getExecutionLane(@Nonnull String name) {
+		Checks.notNull(name, "name");
+		
+		return this.executionLanes.get(name);
+	}
+	
+	/**
+	 * @return an unmodifiable map of all the registered execution lanes
+	 */
+	@Nonnull
+	public Map<String, ExecutorService> getExecutionLanes() {
+		return Collections.unmodifiableMap(this.executionLanes);
+	}
+	
+	/**
+	 * @param command the command to get the execution lane for
+	 * 
+	 * @return the name of the execution lane the provided command is executed in, this is the command's 
+	 * {@link ICommand#getExecutionLane() execution lane} if it has one, otherwise the {@link #PRIORITY_LANE priority lane}, 
+	 * as long as it is registered, for developer and moderation commands, or null if the command has no lane
+	 */
+	@Nullable
+	public String getExecutionLane(@Nonnull ICommand command) {
+		Checks.notNull(command, "command");
+		
+		String lane = command.getExecutionLane();
+		if(lane != null) {
+			return lane;
+		}
+		
+		if(command.isDeveloperCommand() || !command.getAuthorDiscordPermissions().isEmpty()) {
+			return this.executionLanes.containsKey(PRIORITY_LANE) ? PRIORITY_LANE : null;
+		}
+		
+		return null;
+	}
+	
+	/**
+	 * @param command the command to get the executor for
+	 * 
+	 * @return the executor service which the provided command should be executed with, this is the
+	 * executor of the command's {@link #getExecutionLane(ICommand) execution lane} if it has one
+	 * and otherwise the {@link #getCommandExecutor() default command executor}
+	 */
+	@Nonnull
+	public ExecutorService getCommandExecutor(@Nonnull ICommand command) {
+		Checks.notNull(command, "command");
+		
+		String lane = this.getExecutionLane(command);
+		if(lane != null) {
+			ExecutorService executor = this.executionLanes.get(lane);
+			if(executor != null) {
+				return executor;
+			}
+			
+			if(command.getExecutionLane() != null) {
+				LOG.warn("Command (" + command.getCommandTrigger() + ") has the execution lane " + lane + " which is not registered, using the default command executor");
+			}
+		}
+		
+		return this.commandExecutor;
+	}
+	
+	/**
+	 * Set the concurrency limiter which will be used to limit how many commands can be executing 
+	 * at the same time on the {@link #getCommandExecutor() default command executor}, commands which
+	 * exceed the limit wait in a queue until a permit is released. Using an adaptive limiter, 
+	 * such as {@link AIMDConcurrencyLimiter}, allows the amount of concurrently executing commands 
+	 * to follow the latency of the commands instead of having to tune the executor by hand.
+	 * <br><br>
+	 * <b>NOTE:</b> Execution lanes are not affected by the concurrency limiter
+	 * 
+	 * @param limiter the concurrency limiter, null to not limit the default command executor
+	 * 
+	 * @return the {@link CommandListener} instance, useful for chaining
+	 */
+	@Nonnull
+	public CommandListener setConcurrencyLimiter(@Nullable IConcurrencyLimiter limiter) {
+		this.concurrencyLimiter = limiter;
+		
+		return this;
+	}
+	
+	/**
+	 * @return the current concurrency limiter
+	 * 
+	 * @see #setConcurrencyLimiter(IConcurrencyLimiter)
+	 */
+	@Nullable
+	public IConcurrencyLimiter getConcurrencyLimiter() {
+		return this.concurrencyLimiter;
+	}
+	
+	/**
+	 * Set the default execution timeout, this will be used for all commands which do not have
+	 * an {@link ICommand#getExecutionTimeout() execution timeout} of their own
+	 * 
+	 * @param timeout the timeout, if this is less than or equal to 0 commands will not have a timeout by default
+	 * @param unit the unit of the timeout
+	 * 
+	 * @return the {@link CommandListener} instance, useful for chaining
+	 */
+	@Nonnull
+	public CommandListener setDefaultExecutionTimeout(long timeout, @Nonnull TimeUnit unit) {
+		Checks.notNull(unit, "unit");
+		
+		this.defaultExecutionTimeout = unit.toMillis(timeout);
+		
+		return this;
+	}
+	
+	/**
+	 * @return the default execution timeout in milliseconds
+	 * 
+	 * @see #setDefaultExecutionTimeout(long, TimeUnit)
+	 */
+	public long getDefaultExecutionTimeout() {
+		return this.defaultExecutionTimeout;
+	}
+	
+	/**
+	 * @param command the command to get the execution timeout for
+	 * 
+	 * @return the execution timeout, in milliseconds, which will be used for the provided command, 
+	 * less than or equal to 0 if the command should not have a timeout
+	 */
+	public long getExecutionTimeout(@Nonnull ICommand command) {
+		Checks.notNull(command, "command");
+		
+		long timeout = command.getExecutionTimeout();
+		if(timeout > 0) {
+			return timeout;
+		}
+		
+		return this.defaultExecutionTimeout;
+	}
+	
 	/**
 	 * Set the cooldown manager which will be used to handle command cooldowns
 	 * 
@@ -1291,7 +1607,18 @@ public class CommandListener implements EventListener {
 	@Override
 	public void onEvent(GenericEvent event) {
 		if(event instanceof MessageReceivedEvent) {
-			this.handle(((MessageReceivedEvent) event).getMessage());
+			Message message = ((MessageReceivedEvent) event).getMessage();
+			if(!this.asyncParsing) {
+				this.handle(message);
+				
+				return;
+			}
+			
+			this.handleAsync(message).whenComplete((result, failure) -> {
+				if(failure != null) {
+					LOG.error("Failed to handle message (" + message.getIdLong() + ")", failure);
+				}
+			});
 		}
 	}
 	
@@ -1357,11 +1684,16 @@ public class CommandListener implements EventListener {
 	
 	protected static class QueuedCommand {
 		
-		public QueuedCommand(ICommand command, CommandEvent event, long timeStarted, Object[] arguments) {
+		public QueuedCommand(ICommand command, CommandEvent event, long timeStarted, Object[] arguments, CompletableFuture<CommandResult> future) {
 			this.command = command;
 			this.event = event;
 			this.timeStarted = timeStarted;
 			this.arguments = arguments;
+			this.future = future;
+		}
+		
+		public QueuedCommand(ICommand command, CommandEvent event, long timeStarted, Object[] arguments) {
+			this(command, event, timeStarted, arguments, null);
 		}
 		
 		public ICommand command;
@@ -1372,80 +1704,540 @@ public class CommandListener implements EventListener {
 		
 		public Object[] arguments;
 		
+		public CompletableFuture<CommandResult> future;
+		
 	}
 	
 	protected Map<Object, BlockingQueue<QueuedCommand>> queuedCommands = Collections.synchronizedMap(new HashMap<>());
 	
 	/**
-	 * Parse the message and execute the command (if any)
-	 * 
-	 * @param message the message to parse
-	 * 
-	 * @return the {@link CommandEvent} which was parsed, may be null if no command could be found
+	 * Executes all the commands queued for an ordering key, one after another.
+	 * <br><br>
+	 * The next command is dispatched once the previous one has finished, no thread is held while waiting
+	 * for a command to finish and since a command is finished once it exceeds its execution timeout the
+	 * queue moves on even if the command never responds to being interrupted
 	 */
-	@Nullable
-	public CommandEvent handle(@Nonnull Message message) {
-		Checks.notNull(message, "message");
+	protected class QueuedCommandRunner implements Runnable {
 		
-		long timeStarted = System.nanoTime();
+		protected final Object key;
+		protected final BlockingQueue<QueuedCommand> queue;
+		protected final ExecutorService executor;
 		
-		for(Predicate<Message> predicate : this.preParseChecks) {
-			try {
-				if(!predicate.test(message)) {
-					return null;
+		public QueuedCommandRunner(Object key, BlockingQueue<QueuedCommand> queue, ExecutorService executor) {
+			this.key = key;
+			this.queue = queue;
+			this.executor = executor;
+		}
+		
+		/**
+		 * Dispatch the next queued command, once it has finished the command after it is dispatched
+		 */
+		@Override
+		public void run() {
+			QueuedCommand queuedCommand;
+			synchronized(CommandListener.this.queuedCommands) {
+				queuedCommand = this.queue.poll();
+				if(queuedCommand == null) {
+					CommandListener.this.queuedCommands.remove(this.key);
+					
+					return;
 				}
-			}catch(Throwable e) {
-				LOG.error("One of the pre-parse checks had an uncaught exception", e);
+			}
+			
+			CompletableFuture<CommandResult> result = CommandListener.this.dispatch(this.executor, () -> {
+				return CommandListener.this.executeCommandSync(queuedCommand.command, queuedCommand.event, queuedCommand.timeStarted, queuedCommand.arguments);
+			});
+			
+			result.whenComplete((value, e) -> {
+				if(e instanceof RejectedExecutionException) {
+					this.reject(queuedCommand, (RejectedExecutionException) e);
+				}else{
+					CommandListener.forward(result, queuedCommand.future);
+					
+					this.run();
+				}
+			});
+		}
+		
+		/**
+		 * Fail the provided command, and every command queued after it, since the executor is no longer accepting them
+		 * 
+		 * @param queuedCommand the command which was rejected
+		 * @param e the reason it was rejected
+		 */
+		protected void reject(QueuedCommand queuedCommand, RejectedExecutionException e) {
+			synchronized(CommandListener.this.queuedCommands) {
+				do {
+					if(queuedCommand.future != null) {
+						queuedCommand.future.completeExceptionally(e);
+					}
+				}while((queuedCommand = this.queue.poll()) != null);
 				
-				return null;
+				CommandListener.this.queuedCommands.remove(this.key);
 			}
 		}
+	}
+	
+	/**
+	 * A semaphore backed bulkhead which limits how many times a command can be executing at the same time, 
+	 * commands which have to wait for a permit are queued and run once a permit has been released rather than
+	 * holding a thread while waiting
+	 */
+	protected static class Bulkhead {
 		
-		String contentRaw = message.getContentRaw();
+		protected final int limit;
+		protected final Semaphore semaphore;
 		
-		String prefix = this.extractPrefix(message);
-		if(prefix == null) {
-			return null;
-		}
+		protected final Queue<Runnable> queued = new ConcurrentLinkedQueue<>();
 		
-		for(CommandEventListener listener : this.commandEventListeners) {
-			try {
-				listener.onPrefixedMessage(message, prefix);
-			}catch(Throwable e) {
-				LOG.error("One of the CommandEventListeners had an uncaught exception", e);
-			}
+		public Bulkhead(int limit) {
+			this.limit = limit;
+			this.semaphore = new Semaphore(limit);
 		}
 		
-		contentRaw = contentRaw.substring(prefix.length());
+		public int getLimit() {
+			return this.limit;
+		}
 		
-		List<Failure> possibleCommands = new ArrayList<>();
+		/**
+		 * @return whether or not a permit was acquired, a permit is never acquired ahead of a queued task
+		 */
+		public boolean tryAcquire() {
+			return this.queued.isEmpty() && this.semaphore.tryAcquire();
+		}
 		
-		/* 
-		 * This accounts for a big part of the execution time and the more commands
-		 * that are registered, including sub commands, the slower it gets.
-		 * 
-		 * This is done to allow commands to be mutable. Meaning that commands
-		 * can change name or sub/parent command and everything would still
-		 * function correctly.
+		/**
+		 * Queue a task which will be run, with a permit acquired for it, once a permit is available. 
+		 * The task is run on the thread which released the permit and should therefore not block
 		 * 
-		 * TODO: Immutable commands (as a performance upgrade)
-		 * An option to have the commands be immutable and that way improve
-		 * performance should be added.
+		 * @param task the task to run once a permit is available
 		 */
-		List<CommandTrigger> commands = this.getCommandStores().stream()
-			.map(CommandStore::getCommands)
-			.flatMap(Set::stream)
-			.map(command -> command.getAllCommandsRecursiveWithTriggers(message))
-			.flatMap(List::stream)
-			.filter(commandTrigger -> commandTrigger.getCommand().isAccessible(message, this))
-			.sorted(CommandTriggerComparator.INSTANCE)
-			.collect(Collectors.toList());
+		public void queue(Runnable task) {
+			this.queued.add(task);
+			this.drain();
+		}
 		
-		for(CommandTrigger commandTrigger : commands) {
-			ICommand command = commandTrigger.getCommand();
-			
-			String contentToParse = contentRaw;
-			String trigger = commandTrigger.getTrigger();
+		public void release() {
+			this.semaphore.release();
+			this.drain();
+		}
+		
+		protected void drain() {
+			/* Both queue and release drain, so a task queued while the last permit is released is still run by one of them */
+			while(!this.queued.isEmpty() && this.semaphore.tryAcquire()) {
+				Runnable task = this.queued.poll();
+				if(task == null) {
+					this.semaphore.release();
+					
+					continue;
+				}
+				
+				task.run();
+			}
+		}
+		
+		public int getInFlightCount() {
+			return this.limit - this.semaphore.availablePermits();
+		}
+		
+		public int getQueuedCount() {
+			return this.queued.size();
+		}
+	}
+	
+	protected Map<ICommand, Bulkhead> bulkheads = new ConcurrentHashMap<>();
+	
+	/**
+	 * @param command the command to get the bulkhead for
+	 * 
+	 * @return the bulkhead of the provided command or null if it does not have a concurrency limit
+	 */
+	@Nullable
+	protected Bulkhead getBulkhead(@Nonnull ICommand command) {
+		int limit = command.getConcurrencyLimit();
+		if(limit <= 0) {
+			this.bulkheads.remove(command);
+			
+			return null;
+		}
+		
+		/* Replace the bulkhead if the limit has changed, any permits of the old one will be released back to it */
+		return this.bulkheads.compute(command, (key, bulkhead) -> bulkhead != null && bulkhead.getLimit() == limit ? bulkhead : new Bulkhead(limit));
+	}
+	
+	/**
+	 * @param command the command to get the in-flight count for
+	 * 
+	 * @return the amount of times the provided command is currently executing, 
+	 * this is only tracked for commands which have a {@link ICommand#getConcurrencyLimit() concurrency limit}
+	 */
+	public int getInFlightCount(@Nonnull ICommand command) {
+		Checks.notNull(command, "command");
+		
+		if(command instanceof DummyCommand) {
+			command = ((DummyCommand) command).getActualCommand();
+		}
+		
+		Bulkhead bulkhead = this.bulkheads.get(command);
+		
+		return bulkhead != null ? bulkhead.getInFlightCount() : 0;
+	}
+	
+	/**
+	 * @param command the command to get the queued count for
+	 * 
+	 * @return an estimate of the amount of times the provided command is waiting to execute because
+	 * it has reached its {@link ICommand#getConcurrencyLimit() concurrency limit}
+	 */
+	public int getQueuedCount(@Nonnull ICommand command) {
+		Checks.notNull(command, "command");
+		
+		if(command instanceof DummyCommand) {
+			command = ((DummyCommand) command).getActualCommand();
+		}
+		
+		Bulkhead bulkhead = this.bulkheads.get(command);
+		
+		return bulkhead != null ? bulkhead.getQueuedCount() : 0;
+	}
+	
+	/**
+	 * A command which is being executed, the command has finished once it has returned and the 
+	 * {@link CommandEvent#getCompletionStage() work it started} has completed, or once it has exceeded
+	 * its {@link #getExecutionTimeout(ICommand) execution timeout}
+	 */
+	protected class CommandExecution {
+		
+		protected final ICommand command;
+		protected final ICommand actualCommand;
+		
+		protected final CommandEvent event;
+		
+		protected final long timeStarted;
+		
+		protected final Object[] arguments;
+		
+		protected final Bulkhead bulkhead;
+		
+		protected final CompletableFuture<CommandResult> future = new CompletableFuture<>();
+		
+		protected long timeExecutionStarted;
+		
+		/* The thread to interrupt if the command exceeds its execution timeout, null once the command has returned */
+		protected Thread thread;
+		protected CompletionStage<?> stage;
+		
+		protected ScheduledFuture<?> timeout;
+		
+		protected boolean finished = false;
+		protected boolean expired = false;
+		
+		public CommandExecution(ICommand command, ICommand actualCommand, CommandEvent event, long timeStarted, Object[] arguments, Bulkhead bulkhead) {
+			this.command = command;
+			this.actualCommand = actualCommand;
+			this.event = event;
+			this.timeStarted = timeStarted;
+			this.arguments = arguments;
+			this.bulkhead = bulkhead;
+		}
+		
+		/**
+		 * @return a future which will be completed with the result of the command once it has finished
+		 */
+		public CompletableFuture<CommandResult> getFuture() {
+			return this.future;
+		}
+		
+		/**
+		 * Execute the command on the current thread
+		 */
+		public void execute() {
+			this.timeExecutionStarted = System.nanoTime();
+			
+			this.startTimeout();
+			
+			Throwable failure = null;
+			try {
+				if(this.command.getCooldownDuration() > 0) {
+					/* Add the cooldown before the command has executed so that in case the command has a long execution time it will not get there */
+					CommandListener.this.cooldownManager.applyCooldown(this.actualCommand, this.event.getMessage());
+				}
+				
+				this.command.execute(this.event, this.arguments);
+			}catch(Throwable e) {
+				failure = e;
+			}
+			
+			CompletionStage<?> stage = this.event.getCompletionStage();
+			synchronized(this) {
+				if(this.thread != null && this.expired) {
+					/* Clear the interrupt so it does not leak to whatever this thread executes next */
+					Thread.interrupted();
+				}
+				
+				this.thread = null;
+				this.stage = stage;
+			}
+			
+			if(failure != null || stage == null) {
+				this.finish(failure);
+			}else{
+				stage.whenComplete((value, e) -> this.finish(e));
+			}
+		}
+		
+		protected void startTimeout() {
+			/* Interrupting a synchronous command would interrupt the thread which dispatched the event */
+			if(!this.command.isExecuteAsync() && CommandListener.this.getExecutionLane(this.command) == null) {
+				return;
+			}
+			
+			long timeout = CommandListener.this.getExecutionTimeout(this.command);
+			if(timeout <= 0) {
+				return;
+			}
+			
+			synchronized(this) {
+				this.thread = Thread.currentThread();
+				this.timeout = CommandListener.this.timeoutScheduler.schedule(() -> this.expire(timeout), timeout, TimeUnit.MILLISECONDS);
+			}
+		}
+		
+		/**
+		 * Called once the command has exceeded its execution timeout, this interrupts the command if it is still 
+		 * executing or cancels the work it started if it has returned
+		 * 
+		 * @param timeout the timeout which was exceeded
+		 */
+		protected void expire(long timeout) {
+			Thread thread;
+			CompletionStage<?> stage;
+			synchronized(this) {
+				if(this.finished) {
+					return;
+				}
+				
+				this.expired = true;
+				
+				thread = this.thread;
+				if(thread != null) {
+					thread.interrupt();
+				}
+				
+				stage = this.stage;
+			}
+			
+			LOG.warn("Command (" + this.event.getCommandTrigger() + ") with arguments " + Arrays.deepToString(this.arguments) + " exceeded its execution timeout of " + timeout + "ms and was " + (thread != null ? "interrupted" : "cancelled"));
+			
+			if(stage != null) {
+				try {
+					stage.toCompletableFuture().cancel(true);
+				}catch(UnsupportedOperationException e) {
+					/* The stage can not be cancelled, the command is still considered finished */
+				}
+			}
+			
+			/* The listeners are not called on the timeout scheduler, a slow listener would otherwise delay the timeout of every other command */
+			Runnable notify = () -> {
+				for(CommandEventListener listener : CommandListener.this.commandEventListeners) {
+					/* Wrapped in a try catch because we don't want the execution of this to fail just because we couldn't rely on an event handler not to throw an exception */
+					try {
+						listener.onCommandExecutionTimeout(this.command, this.event, timeout);
+					}catch(Throwable e) {
+						LOG.error("One of the CommandEventListeners had an uncaught exception", e);
+					}
+				}
+				
+				this.future.complete(new CommandResult(Outcome.TIMED_OUT, this.command, this.event, null, this.timeStarted, this.timeExecutionStarted));
+			};
+			
+			try {
+				CommandListener.this.commandExecutor.execute(notify);
+			}catch(RejectedExecutionException e) {
+				notify.run();
+			}
+		}
+		
+		/**
+		 * Called once the command has returned and the work it started has completed
+		 * 
+		 * @param failure the exception which the command, or the work it started, failed with
+		 */
+		protected void finish(Throwable failure) {
+			boolean expired;
+			synchronized(this) {
+				if(this.finished) {
+					return;
+				}
+				
+				this.finished = true;
+				
+				if(this.timeout != null) {
+					this.timeout.cancel(false);
+				}
+				
+				expired = this.expired;
+			}
+			
+			/* The bulkhead is released once the command has actually stopped, even if it had already timed out */
+			if(this.bulkhead != null) {
+				this.bulkhead.release();
+			}
+			
+			if(failure instanceof CompletionException && failure.getCause() != null) {
+				failure = failure.getCause();
+			}
+			
+			if(expired) {
+				/* The timeout has already been handled, the exception is most likely caused by the interruption */
+				if(failure != null && this.command.getCooldownDuration() > 0) {
+					/* If the command execution fails then no cooldown should be applied */
+					CommandListener.this.cooldownManager.removeCooldown(this.actualCommand, this.event.getMessage());
+				}
+				
+				return;
+			}
+			
+			if(failure != null) {
+				this.future.complete(new CommandResult(CommandListener.this.handleExecutionException(this.event, failure), this.command, this.event, failure, this.timeStarted, this.timeExecutionStarted));
+				
+				return;
+			}
+			
+			for(CommandEventListener listener : CommandListener.this.commandEventListeners) {
+				/* Wrapped in a try catch because we don't want the execution of this to fail just because we couldn't rely on an event handler not to throw an exception */
+				try {
+					listener.onCommandExecuted(this.command, this.event);
+				}catch(Throwable e) {
+					LOG.error("One of the CommandEventListeners had an uncaught exception", e);
+				}
+			}
+			
+			LOG.info("Executed command (" + this.event.getCommandTrigger() + ") with the arguments " + Arrays.deepToString(this.arguments) + ", time elapsed " + (System.nanoTime() - this.timeStarted));
+			
+			this.future.complete(new CommandResult(Outcome.SUCCESS, this.command, this.event, null, this.timeStarted, this.timeExecutionStarted));
+		}
+	}
+	
+	/**
+	 * Parse the message and execute the command (if any)
+	 * 
+	 * @param message the message to parse
+	 * 
+	 * @return the {@link CommandEvent} which was parsed, may be null if no command could be found
+	 */
+	@Nullable
+	public CommandEvent handle(@Nonnull Message message) {
+		Checks.notNull(message, "message");
+		
+		return this.handle(message, System.nanoTime(), null);
+	}
+	
+	/**
+	 * Parse the message and execute the command (if any) without blocking the current thread, 
+	 * the parsing is done on the {@link #getCommandExecutor() default command executor} and the
+	 * command is then executed the same way as through {@link #handle(Message)}
+	 * 
+	 * @param message the message to parse
+	 * 
+	 * @return a future which will be completed, on the executor, with the result of the command
+	 * once it has finished executing or once it has been determined that there is no command to execute
+	 */
+	@Nonnull
+	public CompletableFuture<CommandResult> handleAsync(@Nonnull Message message) {
+		Checks.notNull(message, "message");
+		
+		long timeStarted = System.nanoTime();
+		
+		CompletableFuture<CommandResult> future = new CompletableFuture<>();
+		try {
+			this.commandExecutor.execute(() -> {
+				try {
+					this.handle(message, timeStarted, future);
+				}catch(Throwable e) {
+					future.completeExceptionally(e);
+				}
+			});
+		}catch(RejectedExecutionException e) {
+			future.completeExceptionally(e);
+		}
+		
+		return future;
+	}
+	
+	/**
+	 * @param message the message to parse
+	 * @param timeStarted the time as {@link System#nanoTime()} when this started parsing
+	 * @param future the future to complete with the result of the command, if this is null
+	 * the command will be queued through {@link #queueCommand(ICommand, CommandEvent, long, Object...)}
+	 * 
+	 * @return the {@link CommandEvent} which was parsed, may be null if no command could be found
+	 */
+	@Nullable
+	protected CommandEvent handle(@Nonnull Message message, long timeStarted, @Nullable CompletableFuture<CommandResult> future) {
+		for(Predicate<Message> predicate : this.preParseChecks) {
+			try {
+				if(!predicate.test(message)) {
+					CommandListener.complete(future, new CommandResult(Outcome.IGNORED, null, null, null, timeStarted));
+					
+					return null;
+				}
+			}catch(Throwable e) {
+				LOG.error("One of the pre-parse checks had an uncaught exception", e);
+				
+				CommandListener.complete(future, new CommandResult(Outcome.FAILURE, null, null, e, timeStarted));
+				
+				return null;
+			}
+		}
+		
+		String contentRaw = message.getContentRaw();
+		
+		String prefix = this.extractPrefix(message);
+		if(prefix == null) {
+			CommandListener.complete(future, new CommandResult(Outcome.IGNORED, null, null, null, timeStarted));
+			
+			return null;
+		}
+		
+		for(CommandEventListener listener : this.commandEventListeners) {
+			try {
+				listener.onPrefixedMessage(message, prefix);
+			}catch(Throwable e) {
+				LOG.error("One of the CommandEventListeners had an uncaught exception", e);
+			}
+		}
+		
+		contentRaw = contentRaw.substring(prefix.length());
+		
+		List<Failure> possibleCommands = new ArrayList<>();
+		
+		/* 
+		 * This accounts for a big part of the execution time and the more commands
+		 * that are registered, including sub commands, the slower it gets.
+		 * 
+		 * This is done to allow commands to be mutable. Meaning that commands
+		 * can change name or sub/parent command and everything would still
+		 * function correctly.
+		 * 
+		 * TODO: Immutable commands (as a performance upgrade)
+		 * An option to have the commands be immutable and that way improve
+		 * performance should be added.
+		 */
+		List<CommandTrigger> commands = this.getCommandStores().stream()
+			.map(CommandStore::getCommands)
+			.flatMap(Set::stream)
+			.map(command -> command.getAllCommandsRecursiveWithTriggers(message))
+			.flatMap(List::stream)
+			.filter(commandTrigger -> commandTrigger.getCommand().isAccessible(message, this))
+			.sorted(CommandTriggerComparator.INSTANCE)
+			.collect(Collectors.toList());
+		
+		for(CommandTrigger commandTrigger : commands) {
+			ICommand command = commandTrigger.getCommand();
+			
+			String contentToParse = contentRaw;
+			String trigger = commandTrigger.getTrigger();
 			
 			/* 
 			 * TODO: Should the checking of whether it is the correct command trigger or not (as well as if it starts with a space)
@@ -1481,16 +2273,27 @@ public class CommandListener implements EventListener {
 				continue;
 			}
 			
-			this.queueCommand(command, commandEvent, timeStarted, commandEvent.getArguments());
+			if(future == null) {
+				this.queueCommand(command, commandEvent, timeStarted, commandEvent.getArguments());
+			}else if(!command.isExecuteAsync() && this.getExecutionLane(command) == null) {
+				/* This is already executing on the command executor */
+				CommandListener.forward(this.executeCommandSync(command, commandEvent, timeStarted, commandEvent.getArguments()), future);
+			}else{
+				CommandListener.forward(this.executeCommandAsync(command, commandEvent, timeStarted, commandEvent.getArguments()), future);
+			}
 			
 			return commandEvent;
 		}
 		
 		if(possibleCommands.size() > 0) {
+			CommandListener.complete(future, new CommandResult(Outcome.PARSE_FAILURE, null, null, possibleCommands.get(0).getReason(), timeStarted));
+			
 			if(this.messageParseFailureFunction != null) {
 				this.messageParseFailureFunction.accept(message, prefix, possibleCommands);
 			}
 		}else{
+			CommandListener.complete(future, new CommandResult(Outcome.UNKNOWN_COMMAND, null, null, null, timeStarted));
+			
 			for(CommandEventListener listener : this.commandEventListeners) {
 				try {
 					listener.onUnknownCommand(message, prefix);
@@ -1509,7 +2312,8 @@ public class CommandListener implements EventListener {
 	 * Queue a command
 	 * <br><br>
 	 * This is similar to {@link #executeCommand(ICommand, CommandEvent, long, Object...)} but it checks if
-	 * the command is async and queues it if it is, otherwise it functions the same way.
+	 * the command is async (or has an execution lane) and queues it in the executor of its
+	 * {@link #getCommandExecutor(ICommand) lane} if it is, otherwise it functions the same way.
 	 * 
 	 * @param command the command to execute
 	 * @param event the context
@@ -1521,43 +2325,63 @@ public class CommandListener implements EventListener {
 		Checks.notNull(event, "event");
 		Checks.notNull(arguments, "arguments");
 		
-		if(!command.isExecuteAsync()) {
+		if(!command.isExecuteAsync() && this.getExecutionLane(command) == null) {
 			this.executeCommand(command, event, timeStarted, arguments);
 			
 			return;
 		}
 		
+		this.executeCommandAsync(command, event, timeStarted, arguments);
+	}
+	
+	/**
+	 * <b><font color="red">Used internally, use at your own risk</font></b>
+	 * <br><br>
+	 * Execute a command asynchronously, no matter if the command is async or not, in the executor of its
+	 * {@link #getCommandExecutor(ICommand) lane}, commands with an {@link ICommand#getAsyncOrderingKey(CommandEvent) ordering key} 
+	 * are queued behind any other commands with the same key.
+	 * 
+	 * @param command the command to execute
+	 * @param event the context
+	 * @param timeStarted the time as {@link System#nanoTime()} when this started parsing
+	 * @param arguments the arguments to execute the provided command with
+	 * 
+	 * @return a future which will be completed with the result of the command once it has finished, see {@link #executeCommandSync(ICommand, CommandEvent, long, Object...)}
+	 */
+	@Nonnull
+	public CompletableFuture<CommandResult> executeCommandAsync(@Nonnull ICommand command, @Nonnull CommandEvent event, long timeStarted, @Nonnull Object... arguments) {
+		Checks.notNull(command, "command");
+		Checks.notNull(event, "event");
+		Checks.notNull(arguments, "arguments");
+		
+		ExecutorService executor = this.getCommandExecutor(command);
+		
 		Object orderingKey = command.getAsyncOrderingKey(event);
 		if(orderingKey == null) {
-			this.commandExecutor.execute(() -> this.executeCommand(command, event, timeStarted, arguments));
-			
-			return;
+			return this.dispatch(executor, () -> this.executeCommandSync(command, event, timeStarted, arguments));
 		}
 		
+		CompletableFuture<CommandResult> future = new CompletableFuture<>();
+		
 		if(orderingKey.getClass().isPrimitive() || orderingKey instanceof String) {
 			orderingKey = this.orderingKeys.computeIfAbsent(orderingKey, key -> new Object());
 		}
 		
-		Object finalKey = orderingKey;
+		BlockingQueue<QueuedCommand> queue;
 		synchronized(this.queuedCommands) {
-			boolean created = !this.queuedCommands.containsKey(finalKey);
+			boolean created = !this.queuedCommands.containsKey(orderingKey);
 			
-			BlockingQueue<QueuedCommand> queue = this.queuedCommands.computeIfAbsent(orderingKey, key -> new LinkedBlockingQueue<>());
-			queue.add(new QueuedCommand(command, event, timeStarted, arguments));
+			queue = this.queuedCommands.computeIfAbsent(orderingKey, key -> new LinkedBlockingQueue<>());
+			queue.add(new QueuedCommand(command, event, timeStarted, arguments, future));
 			
 			if(!created) {
-				return;
+				return future;
 			}
-			
-			this.commandExecutor.execute(() -> {
-				QueuedCommand queuedCommand;
-				while((queuedCommand = queue.poll()) != null) {
-					this.executeCommand(queuedCommand.command, queuedCommand.event, queuedCommand.timeStarted, queuedCommand.arguments);
-				}
-				
-				this.queuedCommands.remove(finalKey);
-			});
 		}
+		
+		new QueuedCommandRunner(orderingKey, queue, executor).run();
+		
+		return future;
 	}
 	
 	/**
@@ -1567,6 +2391,10 @@ public class CommandListener implements EventListener {
 	 * <br><br>
 	 * Exceptions caused by the command is not thrown by this method, they are handled
 	 * the same way as the command being executed normally.
+	 * <br><br>
+	 * If the command is async and has an {@link #getExecutionTimeout(ICommand) execution timeout} the 
+	 * current thread will be interrupted if the command has not finished executing before the timeout, 
+	 * see {@link #executeCommandSync(ICommand, CommandEvent, long, Object...)} for a future of the result.
 	 * 
 	 * @param command the command to execute
 	 * @param event the context
@@ -1574,6 +2402,31 @@ public class CommandListener implements EventListener {
 	 * @param arguments the arguments to execute the provided command with
 	 */
 	public void executeCommand(@Nonnull ICommand command, @Nonnull CommandEvent event, long timeStarted, @Nonnull Object... arguments) {
+		this.executeCommandSync(command, event, timeStarted, arguments);
+	}
+	
+	/**
+	 * <b><font color="red">Used internally, use at your own risk</font></b>
+	 * <br><br>
+	 * Execute a command on the current thread
+	 * <br><br>
+	 * Exceptions caused by the command is not thrown by this method, they are handled
+	 * the same way as the command being executed normally.
+	 * <br><br>
+	 * The command has not finished until it has returned and the {@link CommandEvent#getCompletionStage() work it started} 
+	 * has completed, the returned future is not completed, and the command's {@link ICommand#getConcurrencyLimit() concurrency limit}
+	 * permit is not released, until then. If the command is async and has an {@link #getExecutionTimeout(ICommand) execution timeout} 
+	 * the current thread will be interrupted, or the work it started cancelled, if the command has not finished before the timeout.
+	 * 
+	 * @param command the command to execute
+	 * @param event the context
+	 * @param timeStarted the time as {@link System#nanoTime()} when this started parsing
+	 * @param arguments the arguments to execute the provided command with
+	 * 
+	 * @return a future which will be completed with the result of the command once it has finished
+	 */
+	@Nonnull
+	public CompletableFuture<CommandResult> executeCommandSync(@Nonnull ICommand command, @Nonnull CommandEvent event, long timeStarted, @Nonnull Object... arguments) {
 		Checks.notNull(command, "command");
 		Checks.notNull(event, "event");
 		Checks.notNull(arguments, "arguments");
@@ -1588,7 +2441,7 @@ public class CommandListener implements EventListener {
 		for(BiPredicate<CommandEvent, ICommand> predicate : this.preExecuteChecks) {
 			try {
 				if(!predicate.test(event, actualCommand)) {
-					return;
+					return CompletableFuture.completedFuture(new CommandResult(Outcome.CHECK_FAILED, command, event, null, timeStarted));
 				}
 			}catch(Throwable e) {
 				for(CommandEventListener listener : this.commandEventListeners) {
@@ -1603,10 +2456,11 @@ public class CommandListener implements EventListener {
 				LOG.error("Attempted to execute command (" + event.getCommand().getCommandTrigger() + ") with arguments " + Arrays.deepToString(event.getArguments()) + " but failed", e);
 				
 				/* Better to return if a pre-execute check fails than to continue to the command */
-				return;
+				return CompletableFuture.completedFuture(new CommandResult(Outcome.FAILURE, command, event, e, timeStarted));
 			}
 		}
 		
+		Bulkhead bulkhead = null;
 		try {
 			/* TODO: Should this also be added to the pre-execute predicates? */
 			ICooldown cooldown = this.cooldownManager.getCooldown(actualCommand, event.getMessage());
@@ -1615,69 +2469,254 @@ public class CommandListener implements EventListener {
 					this.cooldownFunction.accept(event, cooldown);
 				}
 				
-				return;
+				return CompletableFuture.completedFuture(new CommandResult(Outcome.COOLDOWN, command, event, null, timeStarted));
 			}
 			
-			if(command.getCooldownDuration() > 0) {
-				/* Add the cooldown before the command has executed so that in case the command has a long execution time it will not get there */
-				this.cooldownManager.applyCooldown(actualCommand, event.getMessage());
+			Bulkhead commandBulkhead = this.getBulkhead(actualCommand);
+			if(commandBulkhead != null) {
+				if(!commandBulkhead.tryAcquire()) {
+					if(command.getConcurrencyLimitPolicy() == ConcurrencyLimitPolicy.REJECT) {
+						if(this.concurrencyLimitFunction != null) {
+							this.concurrencyLimitFunction.accept(event);
+						}
+						
+						return CompletableFuture.completedFuture(new CommandResult(Outcome.CONCURRENCY_LIMITED, command, event, null, timeStarted));
+					}
+					
+					return this.queueExecution(new CommandExecution(command, actualCommand, event, timeStarted, arguments, commandBulkhead));
+				}
+				
+				bulkhead = commandBulkhead;
 			}
-			
-			command.execute(event, arguments);
+		}catch(Throwable e) {
+			return CompletableFuture.completedFuture(new CommandResult(this.handleExecutionException(event, e), command, event, e, timeStarted));
+		}
+		
+		CommandExecution execution = new CommandExecution(command, actualCommand, event, timeStarted, arguments, bulkhead);
+		execution.execute();
+		
+		return execution.getFuture();
+	}
+	
+	/**
+	 * Queue an execution until its bulkhead has a permit available, the command is then 
+	 * executed with the {@link #getCommandExecutor(ICommand) executor of the command}
+	 * 
+	 * @param execution the execution to queue
+	 * 
+	 * @return a future which will be completed with the result of the command once it has finished
+	 */
+	@Nonnull
+	protected CompletableFuture<CommandResult> queueExecution(@Nonnull CommandExecution execution) {
+		ExecutorService executor = this.getCommandExecutor(execution.command);
+		
+		execution.bulkhead.queue(() -> {
+			try {
+				executor.execute(execution::execute);
+			}catch(RejectedExecutionException e) {
+				execution.bulkhead.release();
+				execution.getFuture().completeExceptionally(e);
+			}
+		});
+		
+		return execution.getFuture();
+	}
+	
+	/**
+	 * <b><font color="red">Used internally, use at your own risk</font></b>
+	 * <br><br>
+	 * Handle an exception caused by a command, this removes the cooldown of the command and handles 
+	 * the exception the same way as if it was thrown while executing the command. This can be used for
+	 * exceptions which happen after the command has returned, for instance if a returned future fails.
+	 * 
+	 * @param event the context of the command which caused the exception
+	 * @param e the exception which was caused by the command
+	 * 
+	 * @return the outcome of the command
+	 */
+	@Nonnull
+	public Outcome handleExecutionException(@Nonnull CommandEvent event, @Nonnull Throwable e) {
+		Checks.notNull(event, "event");
+		Checks.notNull(e, "e");
+		
+		ICommand command = event.getTriggeredCommand();
+		ICommand actualCommand = event.getCommand();
+		
+		if(command.getCooldownDuration() > 0) {
+			/* If the command execution fails then no cooldown should be applied */
+			this.cooldownManager.removeCooldown(actualCommand, event.getMessage());
+		}
+		
+		if(e instanceof CancelException) {
+			return Outcome.CANCELLED;
+		}
+		
+		if(e instanceof PermissionException) {
+			LOG.warn("Attempted to execute command (" + event.getCommandTrigger() + ") with arguments " + Arrays.deepToString(event.getArguments()) + 
+				", though it failed due to missing permissions, time elapsed " + (System.nanoTime() - event.getTimeStarted()) + 
+				", error message (" + e.getMessage() + ")");
 			
 			for(CommandEventListener listener : this.commandEventListeners) {
 				/* Wrapped in a try catch because we don't want the execution of this to fail just because we couldn't rely on an event handler not to throw an exception */
 				try {
-					listener.onCommandExecuted(command, event);
-				}catch(Throwable e) {
-					LOG.error("One of the CommandEventListeners had an uncaught exception", e);
+					listener.onCommandMissingPermissions(command, event, (PermissionException) e);
+				}catch(Throwable e1) {
+					LOG.error("One of the CommandEventListeners had an uncaught exception", e1);
 				}
 			}
-		}catch(Throwable e) {
-			if(command.getCooldownDuration() > 0) {
-				/* If the command execution fails then no cooldown should be applied */
-				this.cooldownManager.removeCooldown(actualCommand, event.getMessage());
+			
+			if(this.missingPermissionExceptionFunction != null) {
+				this.missingPermissionExceptionFunction.accept(event, ((PermissionException) e).getPermission());
 			}
 			
-			if(e instanceof CancelException) {
-				return;
+			return Outcome.MISSING_PERMISSIONS;
+		}
+		
+		for(CommandEventListener listener : this.commandEventListeners) {
+			/* Wrapped in a try catch because we don't want the execution of this to fail just because we couldn't rely on an event handler not to throw an exception */
+			try {
+				listener.onCommandExecutionException(command, event, e);
+			}catch(Throwable e1) {
+				LOG.error("One of the CommandEventListeners had an uncaught exception", e1);
+			}
+		}
+		
+		LOG.error("Attempted to execute command (" + event.getCommand().getCommandTrigger() + ") with arguments " + Arrays.deepToString(event.getArguments()) + " but failed", e);
+		
+		return Outcome.FAILURE;
+	}
+	
+	/**
+	 * A task which is waiting for the {@link CommandListener#getConcurrencyLimiter() concurrency limiter}
+	 */
+	protected static class LimitedTask {
+		
+		public final Supplier<CompletableFuture<CommandResult>> task;
+		
+		public final CompletableFuture<CommandResult> future = new CompletableFuture<>();
+		
+		public LimitedTask(Supplier<CompletableFuture<CommandResult>> task) {
+			this.task = task;
+		}
+	}
+	
+	/**
+	 * Execute a task with the provided executor, if the executor is the {@link #getCommandExecutor() default command executor}
+	 * and there is a {@link #getConcurrencyLimiter() concurrency limiter} the task will be queued until the limiter allows it to execute
+	 * 
+	 * @param executor the executor to execute the task with
+	 * @param task the task to execute, this returns the future of the command it executed
+	 * 
+	 * @return a future which will be completed with the result of the task, or with a {@link RejectedExecutionException} 
+	 * if the executor did not accept the task
+	 */
+	@Nonnull
+	protected CompletableFuture<CommandResult> dispatch(@Nonnull ExecutorService executor, @Nonnull Supplier<CompletableFuture<CommandResult>> task) {
+		IConcurrencyLimiter limiter = this.concurrencyLimiter;
+		if(limiter == null || executor != this.commandExecutor) {
+			CompletableFuture<CommandResult> future = new CompletableFuture<>();
+			try {
+				executor.execute(() -> CommandListener.forward(CommandListener.supply(task), future));
+			}catch(RejectedExecutionException e) {
+				future.completeExceptionally(e);
 			}
 			
-			if(e instanceof PermissionException) {
-				LOG.warn("Attempted to execute command (" + event.getCommandTrigger() + ") with arguments " + Arrays.deepToString(arguments) + 
-					", though it failed due to missing permissions, time elapsed " + (System.nanoTime() - timeStarted) + 
-					", error message (" + e.getMessage() + ")");
-				
-				for(CommandEventListener listener : this.commandEventListeners) {
-					/* Wrapped in a try catch because we don't want the execution of this to fail just because we couldn't rely on an event handler not to throw an exception */
-					try {
-						listener.onCommandMissingPermissions(command, event, (PermissionException) e);
-					}catch(Throwable e1) {
-						LOG.error("One of the CommandEventListeners had an uncaught exception", e1);
-					}
-				}
-				
-				if(this.missingPermissionExceptionFunction != null) {
-					this.missingPermissionExceptionFunction.accept(event, ((PermissionException) e).getPermission());
-				}
+			return future;
+		}
+		
+		LimitedTask limitedTask = new LimitedTask(task);
+		
+		this.limitedTasks.add(limitedTask);
+		this.drainLimitedTasks(limiter);
+		
+		return limitedTask.future;
+	}
+	
+	/**
+	 * Execute as many of the queued tasks as the concurrency limiter allows, the permit of a task is
+	 * released once the command it executed has finished and the outcome of the command decides how the
+	 * limiter is affected
+	 * 
+	 * @param limiter the concurrency limiter
+	 */
+	protected void drainLimitedTasks(@Nonnull IConcurrencyLimiter limiter) {
+		/* 
+		 * This is called both when a task is dispatched and after the limiter has been told the outcome of a task, 
+		 * whichever of the two happens last picks up the task so it is never stranded while the limiter has room
+		 */
+		while(!this.limitedTasks.isEmpty() && limiter.tryAcquire()) {
+			LimitedTask task = this.limitedTasks.poll();
+			if(task == null) {
+				limiter.onIgnore();
 				
-				return;
+				continue;
 			}
 			
-			for(CommandEventListener listener : this.commandEventListeners) {
-				/* Wrapped in a try catch because we don't want the execution of this to fail just because we couldn't rely on an event handler not to throw an exception */
-				try {
-					listener.onCommandExecutionException(command, event, e);
-				}catch(Throwable e1) {
-					LOG.error("One of the CommandEventListeners had an uncaught exception", e1);
-				}
+			try {
+				this.commandExecutor.execute(() -> {
+					CommandListener.supply(task.task).whenComplete((result, e) -> {
+						if(e != null) {
+							/* Only a rejected execution is a sign of overload, any other failure says nothing about the capacity */
+							if(e instanceof RejectedExecutionException || e.getCause() instanceof RejectedExecutionException) {
+								limiter.onDropped();
+							}else{
+								limiter.onIgnore();
+							}
+						}else if(result.getOutcome() == Outcome.TIMED_OUT) {
+							limiter.onDropped();
+						}else if(result.getOutcome() == Outcome.FAILURE) {
+							/* A command which throws, for instance because of bad input, should not shrink the limit of every other command */
+							limiter.onIgnore();
+						}else if(!result.isExecutionStarted()) {
+							/* The command never executed, for instance because it was on cooldown */
+							limiter.onIgnore();
+						}else{
+							limiter.onSuccess(result.getExecutionTime(TimeUnit.NANOSECONDS));
+						}
+						
+						this.drainLimitedTasks(limiter);
+						
+						if(e != null) {
+							task.future.completeExceptionally(e);
+						}else{
+							task.future.complete(result);
+						}
+					});
+				});
+			}catch(RejectedExecutionException e) {
+				limiter.onIgnore();
+				
+				/* The task may belong to another caller, it is failed rather than thrown to this caller */
+				task.future.completeExceptionally(e);
 			}
-			
-			LOG.error("Attempted to execute command (" + event.getCommand().getCommandTrigger() + ") with arguments " + Arrays.deepToString(event.getArguments()) + " but failed", e);
-			
+		}
+	}
+	
+	private static CompletableFuture<CommandResult> supply(Supplier<CompletableFuture<CommandResult>> task) {
+		try {
+			return task.get();
+		}catch(Throwable e) {
+			return CompletableFuture.failedFuture(e);
+		}
+	}
+	
+	private static void complete(@Nullable CompletableFuture<CommandResult> future, @Nonnull CommandResult result) {
+		if(future != null) {
+			future.complete(result);
+		}
+	}
+	
+	private static void forward(@Nonnull CompletableFuture<CommandResult> result, @Nullable CompletableFuture<CommandResult> future) {
+		if(future == null) {
 			return;
 		}
 		
-		LOG.info("Executed command (" + event.getCommandTrigger() + ") with the arguments " + Arrays.deepToString(arguments) + ", time elapsed " + (System.nanoTime() - timeStarted));
+		result.whenComplete((value, e) -> {
+			if(e != null) {
+				future.completeExceptionally(e);
+			}else{
+				future.complete(value);
+			}
+		});
 	}
 }
\ No newline at end of file
@@ -0,0 +1,189 @@
+package com.jockie.bot.core.command.impl;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import com.jockie.bot.core.command.ICommand;
+
+/**
+ * The result of a command which was handled through {@link CommandListener#handleAsync(net.dv8tion.jda.api.entities.Message)} 
+ * or {@link CommandListener#executeCommandAsync(ICommand, CommandEvent, long, Object...)}
+ */
+public class CommandResult {
+	
+	public static enum Outcome {
+		/** The command was executed successfully */
+		SUCCESS,
+		/** The message was not a command, either because it did not have a prefix or because one of the pre-parse checks failed */
+		IGNORED,
+		/** The message had a prefix but did not match any command */
+		UNKNOWN_COMMAND,
+		/** The message matched one or more commands but none of them could be parsed */
+		PARSE_FAILURE,
+		/** One of the pre-execute checks failed */
+		CHECK_FAILED,
+		/** The command was on cooldown */
+		COOLDOWN,
+		/** The command was rejected because it had reached its {@link ICommand#getConcurrencyLimit() concurrency limit} */
+		CONCURRENCY_LIMITED,
+		/** The command was cancelled through a {@link com.jockie.bot.core.command.exception.CancelException CancelException} */
+		CANCELLED,
+		/** The command failed due to missing permissions */
+		MISSING_PERMISSIONS,
+		/** The command exceeded its {@link ICommand#getExecutionTimeout() execution timeout} */
+		TIMED_OUT,
+		/** The command, or one of the pre-execute checks, threw an exception */
+		FAILURE;
+	}
+	
+	private final Outcome outcome;
+	
+	private final ICommand command;
+	private final CommandEvent event;
+	
+	private final Throwable cause;
+	
+	private final long timeStarted;
+	private final boolean executionStarted;
+	private final long timeExecutionStarted;
+	private final long timeFinished;
+	
+	private CommandResult(Outcome outcome, ICommand command, CommandEvent event, Throwable cause, long timeStarted, boolean executionStarted, long timeExecutionStarted) {
+		this.outcome = outcome;
+		this.command = command;
+		this.event = event;
+		this.cause = cause;
+		this.timeStarted = timeStarted;
+		this.executionStarted = executionStarted;
+		this.timeExecutionStarted = timeExecutionStarted;
+		this.timeFinished = System.nanoTime();
+	}
+	
+	/**
+	 * Create the result of a command which started executing
+	 */
+	public CommandResult(@Nonnull Outcome outcome, @Nullable ICommand command, @Nullable CommandEvent event, @Nullable Throwable cause, long timeStarted, long timeExecutionStarted) {
+		this(outcome, command, event, cause, timeStarted, true, timeExecutionStarted);
+	}
+	
+	/**
+	 * Create the result of a command which never started executing
+	 */
+	public CommandResult(@Nonnull Outcome outcome, @Nullable ICommand command, @Nullable CommandEvent event, @Nullable Throwable cause, long timeStarted) {
+		this(outcome, command, event, cause, timeStarted, false, 0L);
+	}
+	
+	/**
+	 * @return the outcome of the command
+	 */
+	@Nonnull
+	public Outcome getOutcome() {
+		return this.outcome;
+	}
+	
+	/**
+	 * @return whether or not the command was executed successfully
+	 */
+	public boolean isSuccess() {
+		return this.outcome == Outcome.SUCCESS;
+	}
+	
+	/**
+	 * @return the command which was handled, null if no command was found
+	 */
+	@Nullable
+	public ICommand getCommand() {
+		return this.command;
+	}
+	
+	/**
+	 * @return the event of the command which was handled, null if no command was parsed
+	 */
+	@Nullable
+	public CommandEvent getEvent() {
+		return this.event;
+	}
+	
+	/**
+	 * @return the exception which caused the command to fail, if any
+	 */
+	@Nullable
+	public Throwable getCause() {
+		return this.cause;
+	}
+	
+	/**
+	 * @return the time as {@link System#nanoTime()} when this started parsing
+	 */
+	public long getTimeStarted() {
+		return this.timeStarted;
+	}
+	
+	/**
+	 * @return whether or not the command started executing
+	 */
+	public boolean isExecutionStarted() {
+		return this.executionStarted;
+	}
+	
+	/**
+	 * @return the time as {@link System#nanoTime()} when the command started executing
+	 * 
+	 * @throws IllegalStateException if the command never started executing
+	 * 
+	 * @see #isExecutionStarted()
+	 */
+	public long getTimeExecutionStarted() {
+		if(!this.executionStarted) {
+			throw new IllegalStateException("The command never started executing");
+		}
+		
+		return this.timeExecutionStarted;
+	}
+	
+	/**
+	 * @return the time as {@link System#nanoTime()} when the command finished
+	 */
+	public long getTimeFinished() {
+		return this.timeFinished;
+	}
+	
+	/**
+	 * @param unit the unit to get the time in
+	 * 
+	 * @return the time from when this started parsing until it finished
+	 */
+	public long getTotalTime(@Nonnull TimeUnit unit) {
+		return unit.convert(this.timeFinished - this.timeStarted, TimeUnit.NANOSECONDS);
+	}
+	
+	/**
+	 * @param unit the unit to get the time in
+	 * 
+	 * @return the time from when this started parsing until the command started executing, 
+	 * this includes parsing, queueing, cooldown and checks. If the command never started executing
+	 * this is the same as {@link #getTotalTime(TimeUnit)}
+	 */
+	public long getPreExecutionTime(@Nonnull TimeUnit unit) {
+		if(!this.executionStarted) {
+			return this.getTotalTime(unit);
+		}
+		
+		return unit.convert(this.timeExecutionStarted - this.timeStarted, TimeUnit.NANOSECONDS);
+	}
+	
+	/**
+	 * @param unit the unit to get the time in
+	 * 
+	 * @return the time the command spent executing, 0 if it never started executing
+	 */
+	public long getExecutionTime(@Nonnull TimeUnit unit) {
+		if(!this.executionStarted) {
+			return 0;
+		}
+		
+		return unit.convert(this.timeFinished - this.timeExecutionStarted, TimeUnit.NANOSECONDS);
+	}
+}
\ No newline at end of file
@@ -17,6 +17,7 @@ import com.jockie.bot.core.command.CommandTrigger;
 import com.jockie.bot.core.command.ICommand;
 import com.jockie.bot.core.command.factory.IComponentFactory;
 import com.jockie.bot.core.command.factory.impl.ComponentFactory;
+import com.jockie.bot.core.command.manager.impl.ContextManagerFactory;
 import com.jockie.bot.core.cooldown.ICooldown;
 import com.jockie.bot.core.option.IOption;
 import com.jockie.bot.core.utility.CommandUtility;
@@ -42,6 +43,8 @@ public class DummyCommand implements ICommand {
 		protected Method method;
 		protected Object invoker;
 		
+		protected volatile MethodCommandImpl.CompiledParameters compiledParameters;
+		
 		public AlternativeCommand(ICommand command, Method method, Object invoker) {
 			IComponentFactory componentFactory = ComponentFactory.getDefault();
 			
@@ -52,10 +55,17 @@ public class DummyCommand implements ICommand {
 			
 			this.method = method;
 			this.invoker = invoker;
+			
+			this.compiledParameters = MethodCommandImpl.CompiledParameters.compile(this, this.method, this.options);
 		}
 		
 		public void execute(CommandEvent event, Object... arguments) throws Throwable {
-			MethodCommandImpl.executeMethodCommand(this, this.invoker, this.method, event, arguments);
+			MethodCommandImpl.CompiledParameters compiledParameters = this.compiledParameters;
+			if(!compiledParameters.isCompiledFor(ContextManagerFactory.getDefault())) {
+				this.compiledParameters = compiledParameters = MethodCommandImpl.CompiledParameters.compile(this, this.method, this.options);
+			}
+			
+			MethodCommandImpl.executeMethodCommand(compiledParameters, this.invoker, this.method, event, arguments);
 		}
 		
 		public List<IOption<?>> getOptions() {
@@ -307,6 +317,26 @@ public class DummyCommand implements ICommand {
 		return this.command.getAsyncOrderingKey(event);
 	}
 	
+	@Override
+	public String getExecutionLane() {
+		return this.command.getExecutionLane();
+	}
+	
+	@Override
+	public long getExecutionTimeout() {
+		return this.command.getExecutionTimeout();
+	}
+	
+	@Override
+	public int getConcurrencyLimit() {
+		return this.command.getConcurrencyLimit();
+	}
+	
+	@Override
+	public ConcurrencyLimitPolicy getConcurrencyLimitPolicy() {
+		return this.command.getConcurrencyLimitPolicy();
+	}
+	
 	@Override
 	public <T> T getProperty(String name, T defaultValue) {
 		return this.command.getProperty(name, defaultValue);
@@ -1,17 +1,21 @@
 package com.jockie.bot.core.command.impl;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.lang.reflect.Parameter;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
-import java.util.Set;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -23,11 +27,13 @@ import com.jockie.bot.core.command.Command;
 import com.jockie.bot.core.command.Command.Async;
 import com.jockie.bot.core.command.Command.AuthorPermissions;
 import com.jockie.bot.core.command.Command.BotPermissions;
+import com.jockie.bot.core.command.Command.ConcurrencyLimit;
 import com.jockie.bot.core.command.Command.Cooldown;
 import com.jockie.bot.core.command.Command.Developer;
 import com.jockie.bot.core.command.Command.Hidden;
 import com.jockie.bot.core.command.Command.Nsfw;
 import com.jockie.bot.core.command.Command.Policy;
+import com.jockie.bot.core.command.Command.Timeout;
 import com.jockie.bot.core.command.CommandTrigger;
 import com.jockie.bot.core.command.Context;
 import com.jockie.bot.core.command.ICommand;
@@ -54,6 +60,8 @@ public class MethodCommandImpl extends AbstractCommand implements IMethodCommand
 	
 	protected List<DummyCommand> dummyCommands = Collections.emptyList();
 	
+	protected volatile CompiledParameters compiledParameters;
+	
 	public MethodCommandImpl(String name) {
 		super(name);
 	}
@@ -85,6 +93,8 @@ public class MethodCommandImpl extends AbstractCommand implements IMethodCommand
 	public MethodCommandImpl setCommandMethod(Method method) {
 		this.method = method;
 		
+		this.compileParameters();
+		
 		return this;
 	}
 	
@@ -102,6 +112,42 @@ public class MethodCommandImpl extends AbstractCommand implements IMethodCommand
 		return this;
 	}
 	
+	public MethodCommandImpl setOptions(IOption<?>... options) {
+		super.setOptions(options);
+		
+		this.compileParameters();
+		
+		return this;
+	}
+	
+	/**
+	 * Compile the parameters of the command method, this binds the context and options 
+	 * of the method so that they do not have to be looked up every time the command is executed
+	 */
+	protected void compileParameters() {
+		if(this.method != null) {
+			this.compiledParameters = CompiledParameters.compile(this, this.method, this.options);
+		}else{
+			this.compiledParameters = null;
+		}
+	}
+	
+	/**
+	 * @return the compiled parameters of the command method, these are re-compiled
+	 * if the default {@link IContextManager} has changed since they were compiled
+	 */
+	@Nullable
+	public CompiledParameters getCompiledParameters() {
+		CompiledParameters compiledParameters = this.compiledParameters;
+		if(compiledParameters != null && !compiledParameters.isCompiledFor(ContextManagerFactory.getDefault())) {
+			this.compileParameters();
+			
+			return this.compiledParameters;
+		}
+		
+		return compiledParameters;
+	}
+	
 	@Override
 	public boolean isPassive() {
 		if(this.passive) {
@@ -149,7 +195,7 @@ public class MethodCommandImpl extends AbstractCommand implements IMethodCommand
 	@Override
 	public void execute(CommandEvent event, Object... arguments) throws Throwable {
 		if(!this.isPassive()) {
-			MethodCommandImpl.executeMethodCommand(this, this.invoker, this.method, event, arguments);
+			MethodCommandImpl.executeMethodCommand(this.getCompiledParameters(), this.invoker, this.method, event, arguments);
 		}
 	}
 	
@@ -159,6 +205,11 @@ public class MethodCommandImpl extends AbstractCommand implements IMethodCommand
 		
 		this.setExecuteAsync(annotation.async());
 		this.setAsyncOrderingKey(annotation.orderingKey().length() > 0 ? annotation.orderingKey() : null);
+		this.setExecutionLane(annotation.lane().length() > 0 ? annotation.lane() : null);
+		this.setExecutionTimeout(annotation.timeout(), annotation.timeoutUnit());
+		
+		this.setConcurrencyLimit(annotation.concurrencyLimit());
+		this.setConcurrencyLimitPolicy(annotation.concurrencyLimitPolicy());
 
 		this.setHidden(annotation.hidden());
 		this.setDeveloper(annotation.developer());
@@ -201,6 +252,23 @@ public class MethodCommandImpl extends AbstractCommand implements IMethodCommand
 			
 			this.setExecuteAsync(async.value());
 			this.setAsyncOrderingKey(async.orderingKey().length() > 0 ? async.orderingKey() : null);
+			
+			if(async.lane().length() > 0) {
+				this.setExecutionLane(async.lane());
+			}
+		}
+		
+		if(this.method.isAnnotationPresent(Timeout.class)) {
+			Timeout timeout = this.method.getAnnotation(Timeout.class);
+			
+			this.setExecutionTimeout(timeout.value(), timeout.unit());
+		}
+		
+		if(this.method.isAnnotationPresent(ConcurrencyLimit.class)) {
+			ConcurrencyLimit concurrencyLimit = this.method.getAnnotation(ConcurrencyLimit.class);
+			
+			this.setConcurrencyLimit(concurrencyLimit.value());
+			this.setConcurrencyLimitPolicy(concurrencyLimit.policy());
 		}
 		
 		if(this.method.isAnnotationPresent(Hidden.class)) {
@@ -241,55 +309,252 @@ public class MethodCommandImpl extends AbstractCommand implements IMethodCommand
 		}
 	}
 	
-	private static Set<Parameter> getContextParameters(IContextManager contextManager, Parameter[] parameters) {
-		Set<Parameter> contextParameters = new HashSet<>();
-		for(Parameter parameter : parameters) {
-			if(contextManager.isEnforcedContext(parameter.getParameterizedType())) {
-				contextParameters.add(parameter);
-			}else if(parameter.isAnnotationPresent(Context.class) || parameter.isAnnotationPresent(Option.class)) {
-				contextParameters.add(parameter);
+	/**
+	 * The parameters of a command method compiled in to resolvers, the context and options 
+	 * of every parameter are bound once so that executing the command does not have to inspect
+	 * the parameters of the method every time
+	 */
+	public static class CompiledParameters {
+		
+		/**
+		 * Compile the parameters of the provided method
+		 * 
+		 * @param command the command the method belongs to
+		 * @param method the command method
+		 * @param options the options of the command
+		 * 
+		 * @return the compiled parameters
+		 */
+		@Nonnull
+		public static CompiledParameters compile(@Nonnull ICommand command, @Nonnull Method method, @Nonnull List<IOption<?>> options) {
+			Checks.notNull(command, "command");
+			Checks.notNull(method, "method");
+			Checks.notNull(options, "options");
+			
+			return new CompiledParameters(ContextManagerFactory.getDefault(), command, method, options);
+		}
+		
+		private final IContextManager contextManager;
+		
+		/* The resolver of every context parameter, null if the parameter is an argument */
+		private final Function<CommandEvent, ?>[] resolvers;
+		
+		/* Whether or not the argument should be wrapped in an Optional */
+		private final boolean[] optional;
+		
+		/* Whether or not the parameter is primitive, a missing argument can not be bound to these */
+		private final boolean[] primitive;
+		
+		/* The type of every parameter, primitive types are replaced by their wrapper */
+		private final Class<?>[] parameterTypes;
+		
+		private final int contextCount;
+		
+		private final Method method;
+		
+		/* The method bound as (Object, Object[])Object, null if the method could not be made accessible */
+		private final MethodHandle handle;
+		
+		@SuppressWarnings("unchecked")
+		private CompiledParameters(IContextManager contextManager, ICommand command, Method method, List<IOption<?>> options) {
+			this.contextManager = contextManager;
+			this.method = method;
+			
+			Parameter[] parameters = method.getParameters();
+			
+			this.resolvers = (Function<CommandEvent, ?>[]) new Function<?, ?>[parameters.length];
+			this.optional = new boolean[parameters.length];
+			this.primitive = new boolean[parameters.length];
+			this.parameterTypes = new Class<?>[parameters.length];
+			
+			int contextCount = 0;
+			for(int i = 0; i < parameters.length; i++) {
+				Parameter parameter = parameters[i];
+				
+				Class<?> parameterType = parameter.getType();
+				if(parameterType.isPrimitive()) {
+					this.primitive[i] = true;
+					this.parameterTypes[i] = CommandUtility.getBoxedClass(parameterType);
+				}else{
+					this.parameterTypes[i] = parameterType;
+				}
+				
+				if(parameter.isAnnotationPresent(Option.class)) {
+					this.resolvers[i] = CompiledParameters.createOptionResolver(options, parameter.getAnnotation(Option.class));
+				}else if(parameter.isAnnotationPresent(Context.class) || contextManager.isEnforcedContext(parameter.getParameterizedType())) {
+					this.resolvers[i] = CompiledParameters.createContextResolver(contextManager.getContextResolver(command, parameter), parameter);
+				}else{
+					/* TODO: Move this to some sort of implementation which will allow anyone to extend upon this idea */
+					Type type = parameter.getParameterizedType();
+					if(parameter.getType().isAssignableFrom(Optional.class) && type instanceof ParameterizedType) {
+						this.optional[i] = ((ParameterizedType) type).getActualTypeArguments().length > 0;
+					}
+					
+					continue;
+				}
+				
+				contextCount++;
 			}
+			
+			this.contextCount = contextCount;
+			this.handle = CompiledParameters.createHandle(method);
 		}
 		
-		return contextParameters;
-	}
-	
-	private static Object getContextArgument(CommandEvent event, IContextManager contextManager, List<IOption<?>> options, Parameter parameter) {
-		Option annotation = parameter.getAnnotation(Option.class);
-		if(annotation == null) {
-			Object context = contextManager.getContext(event, parameter);
-			if(context == null) {
-				throw new IllegalStateException("There is no context available for " + parameter.getType());
+		private static MethodHandle createHandle(Method method) {
+			if(!method.trySetAccessible()) {
+				return null;
 			}
 			
-			return context;
+			try {
+				MethodHandle handle = MethodHandles.lookup().unreflect(method).asFixedArity();
+				if(Modifier.isStatic(method.getModifiers())) {
+					handle = MethodHandles.dropArguments(handle, 0, Object.class);
+				}
+				
+				int parameterCount = method.getParameterCount();
+				
+				/* 
+				 * Primitive parameters are unboxed by the handle itself, allowing the same 
+				 * widening conversions as Method#invoke but without the reflective argument checking
+				 */
+				return handle.asType(MethodType.genericMethodType(parameterCount + 1))
+					.asSpreader(Object[].class, parameterCount);
+			}catch(IllegalAccessException | IllegalArgumentException e) {
+				return null;
+			}
 		}
 		
-		IOption<?> option = options.stream()
-			.filter(opt -> opt.getName().equals(annotation.value()))
-			.findFirst()
-			.orElse(null);
+		private static Function<CommandEvent, ?> createContextResolver(Function<CommandEvent, ?> resolver, Parameter parameter) {
+			return (event) -> {
+				Object context = resolver.apply(event);
+				if(context == null) {
+					throw new IllegalStateException("There is no context available for " + parameter.getType());
+				}
+				
+				return context;
+			};
+		}
 		
-		if(option == null) {
-			throw new IllegalStateException("The option, " + annotation.value() + ", specified in the annotation does not exist in the command");
+		private static Function<CommandEvent, ?> createOptionResolver(List<IOption<?>> options, Option annotation) {
+			String name = annotation.value();
+			
+			IOption<?> option = options.stream()
+				.filter(opt -> opt.getName().equals(name))
+				.findFirst()
+				.orElse(null);
+			
+			if(option == null) {
+				return (event) -> {
+					throw new IllegalStateException("The option, " + name + ", specified in the annotation does not exist in the command");
+				};
+			}
+			
+			Object defaultValue = CommandUtility.getDefaultValue(option.getType());
+			
+			return (event) -> {
+				Object value = event.getOption(name);
+				if(value == null && option.hasDefault()) {
+					value = option.getDefault(event);
+				}
+				
+				return value != null ? value : defaultValue;
+			};
 		}
 		
-		Object value = event.getOption(annotation.value());
+		/**
+		 * @param contextManager the context manager to check
+		 * 
+		 * @return whether or not these parameters were compiled with the provided context manager
+		 */
+		public boolean isCompiledFor(@Nullable IContextManager contextManager) {
+			return this.contextManager == contextManager;
+		}
 		
-		DEFAULT:
-		if(value == null) {
-			if(option.hasDefault()) {
-				value = option.getDefault(event);
+		/**
+		 * Resolve the arguments which the command method should be invoked with
+		 * 
+		 * @param event the context to resolve the arguments with
+		 * @param args the parsed arguments of the command
+		 * 
+		 * @return the arguments to invoke the command method with
+		 */
+		@Nonnull
+		public Object[] resolve(@Nonnull CommandEvent event, @Nonnull Object[] args) {
+			Object[] arguments = new Object[args.length + this.contextCount];
+			
+			for(int i = 0, i2 = 0; i < arguments.length; i++) {
+				Function<CommandEvent, ?> resolver = this.resolvers[i];
+				if(resolver != null) {
+					arguments[i] = resolver.apply(event);
+					
+					continue;
+				}
+				
+				Object argument = args[i2++];
+				if(this.optional[i]) {
+					arguments[i] = Optional.ofNullable(argument);
+				}else{
+					arguments[i] = argument;
+				}
 			}
 			
-			if(value != null) {
-				break DEFAULT;
+			return arguments;
+		}
+		
+		/* Whether or not the arguments are of the exact types the method handle expects */
+		private boolean isBindable(Object invoker, Object[] arguments) {
+			if(this.handle == null || arguments.length != this.parameterTypes.length) {
+				return false;
 			}
 			
-			return CommandUtility.getDefaultValue(option.getType());
+			if(!Modifier.isStatic(this.method.getModifiers()) && !this.method.getDeclaringClass().isInstance(invoker)) {
+				return false;
+			}
+			
+			for(int i = 0; i < arguments.length; i++) {
+				Object argument = arguments[i];
+				if(argument == null) {
+					/* Let Method#invoke fail the same way it always has for a missing primitive argument */
+					if(this.primitive[i]) {
+						return false;
+					}
+				}else if(!this.parameterTypes[i].isInstance(argument)) {
+					return false;
+				}
+			}
+			
+			return true;
 		}
 		
-		return value;
+		/**
+		 * Invoke the command method with the resolved arguments, the arguments are bound through 
+		 * a method handle when they match the parameters exactly and otherwise through reflection, 
+		 * which will either convert them or fail the same way {@link Method#invoke(Object, Object...)} does
+		 * 
+		 * @param invoker the command method's invoker, if the method is static this should be null
+		 * @param arguments the resolved arguments, see {@link #resolve(CommandEvent, Object[])}
+		 * 
+		 * @return the value returned by the command method
+		 * 
+		 * @throws IllegalAccessException if the method is not accessible
+		 * @throws InvocationTargetException if the command method throws an exception
+		 */
+		@Nullable
+		public Object invoke(@Nullable Object invoker, @Nonnull Object[] arguments) throws IllegalAccessException, InvocationTargetException {
+			if(!this.isBindable(invoker, arguments)) {
+				if(!this.method.canAccess(Modifier.isStatic(this.method.getModifiers()) ? null : invoker)) {
+					this.method.setAccessible(true);
+				}
+				
+				return this.method.invoke(invoker, arguments);
+			}
+			
+			try {
+				return (Object) this.handle.invokeExact(invoker, arguments);
+			}catch(Throwable e) {
+				throw new InvocationTargetException(e);
+			}
+		}
 	}
 	
 	private static void handleExecutionFailure(CommandEvent event, Object[] arguments, Method method,Throwable throwable) throws Throwable {
@@ -346,6 +611,10 @@ public class MethodCommandImpl extends AbstractCommand implements IMethodCommand
 	
 	/**
 	 * Execute a command from the provided method
+	 * <br><br>
+	 * <b>NOTE:</b> This compiles the parameters of the method every time it is called, 
+	 * {@link #executeMethodCommand(CompiledParameters, Object, Method, CommandEvent, Object...)} should be 
+	 * preferred if the command is going to be executed more than once
 	 * 
 	 * @param command the command to execute
 	 * @param invoker the command method's invoker, if commandMethod is static this should be null
@@ -360,60 +629,47 @@ public class MethodCommandImpl extends AbstractCommand implements IMethodCommand
 		
 		Checks.notNull(command, "command");
 		Checks.notNull(commandMethod, "commandMethod");
-		Checks.notNull(event, "event");
-		Checks.notNull(args, "args");
-		
-		IContextManager contextManager = ContextManagerFactory.getDefault();
 		
-		Parameter[] parameters = commandMethod.getParameters();
-		Type[] genericTypes = commandMethod.getGenericParameterTypes();
+		CompiledParameters parameters = CompiledParameters.compile(command, commandMethod, command.getOptions());
 		
-		Set<Parameter> contextParameters = MethodCommandImpl.getContextParameters(contextManager, parameters);
-		Object[] arguments = new Object[args.length + contextParameters.size()];
+		MethodCommandImpl.executeMethodCommand(parameters, invoker, commandMethod, event, args);
+	}
+	
+	/**
+	 * Execute a command from the provided method
+	 * <br><br>
+	 * If the returned value is handled asynchronously by the {@link IReturnManager} the handling is
+	 * set as the {@link CommandEvent#setCompletionStage(CompletionStage) completion stage} of the event
+	 * 
+	 * @param parameters the compiled parameters of the command method
+	 * @param invoker the command method's invoker, if commandMethod is static this should be null
+	 * @param commandMethod the command method to invoke
+	 * @param event the context to execute the command with
+	 * @param args the arguments to execute the command with
+	 * 
+	 * @throws Throwable if the execution of the command fails
+	 */
+	public static void executeMethodCommand(@Nonnull CompiledParameters parameters, @Nullable Object invoker, 
+			@Nonnull Method commandMethod, @Nonnull CommandEvent event, @Nonnull Object... args) throws Throwable {
 		
-		List<IOption<?>> options = command.getOptions();
+		Checks.notNull(parameters, "parameters");
+		Checks.notNull(commandMethod, "commandMethod");
+		Checks.notNull(event, "event");
+		Checks.notNull(args, "args");
 		
-		for(int i = 0, i2 = 0; i < arguments.length; i++) {
-			Parameter parameter = parameters[i];
-			if(contextParameters.contains(parameter)) {
-				arguments[i] = MethodCommandImpl.getContextArgument(event, contextManager, options, parameter);
-				
-				continue;
-			}
-			
-			Object argument = args[i2++];
-			
-			/* TODO: Move this to some sort of implementation which will allow anyone to extend upon this idea */
-			Class<?> type = parameter.getType();
-			if(type.isAssignableFrom(Optional.class)) {
-				Type parameterType = genericTypes[i];
-				
-				try {
-					Type[] typeArguments = ((ParameterizedType) parameterType).getActualTypeArguments();
-					if(typeArguments.length > 0) {
-						arguments[i] = Optional.ofNullable(argument);
-					}
-				}catch(Throwable e) {
-					LOG.error(e.getMessage(), e);
-				}
-			}
-			
-			if(arguments[i] == null) {
-				arguments[i] = argument;
-			}
-		}
+		Object[] arguments = parameters.resolve(event, args);
 		
 		try {
-			if(!commandMethod.canAccess(invoker)) {
-				commandMethod.setAccessible(true);
-			}
-			
-			Object object = commandMethod.invoke(invoker, arguments);
+			Object object = parameters.invoke(invoker, arguments);
 			if(object != null) {
 				IReturnManager returnManager = event.getCommandListener().getReturnManager();
 				
-				if(!returnManager.perform(event, object)) {
+				CompletionStage<?> stage = returnManager.performAsync(event, object);
+				if(stage == null) {
 					LOG.warn(object.getClass() + " is an unsupported return type for a command method");
+				}else{
+					/* The command is not finished until the returned value has been handled */
+					event.setCompletionStage(stage);
 				}
 			}
 		}catch(IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
@@ -0,0 +1,48 @@
+package com.jockie.bot.core.command.limiter;
+
+/**
+ * A concurrency limiter decides how many commands may be executing at the same time, 
+ * implementations may adjust the limit based on how long commands take to execute.
+ * <br><br>
+ * Every successful {@link #tryAcquire()} has to be followed by exactly one call to 
+ * {@link #onSuccess(long)}, {@link #onDropped()} or {@link #onIgnore()}
+ */
+public interface IConcurrencyLimiter {
+	
+	/**
+	 * Attempt to acquire a permit to execute a command
+	 * 
+	 * @return whether or not a permit was acquired
+	 */
+	public boolean tryAcquire();
+	
+	/**
+	 * Release a permit after the command has successfully executed
+	 * 
+	 * @param latency the time, in nanoseconds, the command took to execute
+	 */
+	public void onSuccess(long latency);
+	
+	/**
+	 * Release a permit after the command failed in a way which indicates that the system
+	 * is overloaded, for instance by timing out
+	 */
+	public void onDropped();
+	
+	/**
+	 * Release a permit without it affecting the limit, this should be used if the
+	 * command did not execute, for instance if it was rejected
+	 */
+	public void onIgnore();
+	
+	/**
+	 * @return the current limit
+	 */
+	public int getLimit();
+	
+	/**
+	 * @return the amount of permits which are currently acquired
+	 */
+	public int getInFlight();
+	
+}
\ No newline at end of file
@@ -0,0 +1,159 @@
+package com.jockie.bot.core.command.limiter.impl;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.Nonnull;
+
+import com.jockie.bot.core.command.limiter.IConcurrencyLimiter;
+
+import net.dv8tion.jda.internal.utils.Checks;
+
+/**
+ * Additive increase, multiplicative decrease (AIMD) concurrency limiter.
+ * <br><br>
+ * The limit is increased by one whenever a command executes successfully within the latency threshold 
+ * while at least half of the limit is in use and it is decreased by the backoff ratio whenever a command 
+ * is dropped or exceeds the latency threshold, this way the limit follows how much load the bot can 
+ * handle without the executor having to be tuned by hand.
+ */
+public class AIMDConcurrencyLimiter implements IConcurrencyLimiter {
+	
+	protected int minLimit = 1;
+	protected int maxLimit = 200;
+	
+	protected double backoffRatio = 0.9D;
+	
+	protected long latencyThreshold = TimeUnit.SECONDS.toNanos(5);
+	
+	protected int limit;
+	protected int inFlight = 0;
+	
+	public AIMDConcurrencyLimiter(int initialLimit) {
+		Checks.positive(initialLimit, "initialLimit");
+		
+		this.limit = initialLimit;
+	}
+	
+	public AIMDConcurrencyLimiter() {
+		this(20);
+	}
+	
+	/**
+	 * @param minLimit the lowest the limit can go
+	 * @param maxLimit the highest the limit can go
+	 * 
+	 * @return the {@link AIMDConcurrencyLimiter} instance, useful for chaining
+	 */
+	@Nonnull
+	public synchronized AIMDConcurrencyLimiter setLimitRange(int minLimit, int maxLimit) {
+		Checks.positive(minLimit, "minLimit");
+		Checks.check(maxLimit >= minLimit, "maxLimit may not be less than minLimit");
+		
+		this.minLimit = minLimit;
+		this.maxLimit = maxLimit;
+		
+		this.limit = Math.max(minLimit, Math.min(maxLimit, this.limit));
+		
+		return this;
+	}
+	
+	/**
+	 * @param backoffRatio the ratio the limit is multiplied by when a command is dropped, 
+	 * this has to be between 0.5 (inclusive) and 1 (exclusive)
+	 * 
+	 * @return the {@link AIMDConcurrencyLimiter} instance, useful for chaining
+	 */
+	@Nonnull
+	public synchronized AIMDConcurrencyLimiter setBackoffRatio(double backoffRatio) {
+		Checks.check(backoffRatio >= 0.5D && backoffRatio < 1.0D, "backoffRatio must be between 0.5 (inclusive) and 1 (exclusive)");
+		
+		this.backoffRatio = backoffRatio;
+		
+		return this;
+	}
+	
+	/**
+	 * @param threshold the latency threshold, commands which take longer than this to execute 
+	 * are treated the same way as commands which were dropped
+	 * @param unit the unit of the threshold
+	 * 
+	 * @return the {@link AIMDConcurrencyLimiter} instance, useful for chaining
+	 */
+	@Nonnull
+	public synchronized AIMDConcurrencyLimiter setLatencyThreshold(long threshold, @Nonnull TimeUnit unit) {
+		Checks.notNull(unit, "unit");
+		Checks.positive(threshold, "threshold");
+		
+		this.latencyThreshold = unit.toNanos(threshold);
+		
+		return this;
+	}
+	
+	public synchronized int getMinLimit() {
+		return this.minLimit;
+	}
+	
+	public synchronized int getMaxLimit() {
+		return this.maxLimit;
+	}
+	
+	public synchronized double getBackoffRatio() {
+		return this.backoffRatio;
+	}
+	
+	/**
+	 * @return the latency threshold in nanoseconds
+	 */
+	public synchronized long getLatencyThreshold() {
+		return this.latencyThreshold;
+	}
+	
+	@Override
+	public synchronized boolean tryAcquire() {
+		if(this.inFlight >= this.limit) {
+			return false;
+		}
+		
+		this.inFlight++;
+		
+		return true;
+	}
+	
+	@Override
+	public synchronized void onSuccess(long latency) {
+		if(latency > this.latencyThreshold) {
+			this.onDropped();
+			
+			return;
+		}
+		
+		/* Only increase the limit if it is actually being used, otherwise it would grow without bound while idle */
+		if(this.inFlight * 2 >= this.limit) {
+			this.limit = Math.min(this.maxLimit, this.limit + 1);
+		}
+		
+		this.inFlight--;
+	}
+	
+	@Override
+	public synchronized void onDropped() {
+		this.limit = Math.max(this.minLimit, (int) (this.limit * this.backoffRatio));
+		
+		this.inFlight--;
+	}
+	
+	@Override
+	public synchronized void onIgnore() {
+		this.inFlight--;
+	}
+	
+	@Override
+	public synchronized int getLimit() {
+		return this.limit;
+	}
+	
+	@Override
+	public synchronized int getInFlight() {
+		return this.inFlight;
+	}
+}
\ No newline at end of file
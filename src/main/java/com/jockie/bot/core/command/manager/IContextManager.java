@@ -3,11 +3,13 @@ package com.jockie.bot.core.command.manager;
 import java.lang.reflect.Parameter;
 import java.lang.reflect.Type;
 import java.util.function.BiFunction;
+import java.util.function.Function;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import com.jockie.bot.core.command.Context;
+import com.jockie.bot.core.command.ICommand;
 import com.jockie.bot.core.command.impl.CommandEvent;
 import com.jockie.bot.core.utility.function.TriFunction;
 
@@ -45,6 +47,24 @@ public interface IContextManager {
 	@Nullable
 	public <T> T getContext(@Nonnull CommandEvent event, @Nonnull Parameter parameter);
 	
+	/**
+	 * Get a resolver for the context of the provided parameter, this is used to bind
+	 * the context of a command method once, when the command is created, rather than 
+	 * looking it up every time the command is executed
+	 * <br><br>
+	 * <b>NOTE:</b> The returned resolver will return null if there is no context available
+	 * 
+	 * @param command the command the parameter belongs to, if this is a {@link com.jockie.bot.core.command.impl.DummyCommand DummyCommand}
+	 * the context is resolved for its actual command, the same as {@link CommandEvent#getCommand()}
+	 * @param parameter the parameter to resolve the context for
+	 * 
+	 * @return the resolver for the context of the parameter
+	 */
+	@Nonnull
+	public default <T> Function<CommandEvent, T> getContextResolver(@Nonnull ICommand command, @Nonnull Parameter parameter) {
+		return (event) -> this.getContext(event, parameter);
+	}
+	
 	/**
 	 * @param type the type of the context
 	 * 
@@ -1,6 +1,9 @@
 package com.jockie.bot.core.command.manager;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -21,6 +24,21 @@ public interface IReturnManager {
 	 */
 	public <T> boolean perform(@Nonnull CommandEvent event, @Nullable T object);
 	
+	/**
+	 * Handle the returned object without waiting for any asynchronous part of the handling, 
+	 * such as a returned future or the reply, to complete
+	 * 
+	 * @param event the event where the object was returned
+	 * @param object the returned object to handle
+	 * 
+	 * @return a stage which completes once the object has been handled, or completes exceptionally 
+	 * if the handling fails, null if the provided object was not recognized
+	 */
+	@Nullable
+	public default <T> CompletionStage<?> performAsync(@Nonnull CommandEvent event, @Nullable T object) {
+		return this.perform(event, object) ? CompletableFuture.completedFuture(null) : null;
+	}
+	
 	/**
 	 * @param type the return type to handle
 	 * 
@@ -38,6 +56,21 @@ public interface IReturnManager {
 	@Nonnull
 	public <T> IReturnManager registerHandler(@Nonnull Class<T> type, @Nonnull BiConsumer<CommandEvent, T> function);
 	
+	/**
+	 * By default the handler is registered through {@link #registerHandler(Class, BiConsumer)}, 
+	 * in which case the returned stage is not waited for
+	 * 
+	 * @param type the return type to handle
+	 * @param function the handler function, this returns a stage which completes once the value 
+	 * has been handled or null if it was handled synchronously
+	 * 
+	 * @return the {@link IReturnManager} instance, useful for chaining
+	 */
+	@Nonnull
+	public default <T> IReturnManager registerAsyncHandler(@Nonnull Class<T> type, @Nonnull BiFunction<CommandEvent, T, CompletionStage<?>> function) {
+		return this.registerHandler(type, function::apply);
+	}
+	
 	/**
 	 * @param type the type of the handler
 	 * 
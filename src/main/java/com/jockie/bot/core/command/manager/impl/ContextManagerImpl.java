@@ -2,16 +2,18 @@ package com.jockie.bot.core.command.manager.impl;
 
 import java.lang.reflect.Parameter;
 import java.lang.reflect.Type;
-import java.util.HashMap;
-import java.util.LinkedHashSet;
 import java.util.Map;
-import java.util.Map.Entry;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.function.BiFunction;
+import java.util.function.Function;
 
 import com.jockie.bot.core.command.ICommand;
 import com.jockie.bot.core.command.impl.CommandEvent;
 import com.jockie.bot.core.command.impl.CommandListener;
+import com.jockie.bot.core.command.impl.DummyCommand;
 import com.jockie.bot.core.command.manager.IContextManager;
 import com.jockie.bot.core.utility.CommandUtility;
 import com.jockie.bot.core.utility.function.TriFunction;
@@ -80,114 +82,161 @@ public class ContextManagerImpl implements IContextManager {
 		this.unregisterContext(PrivateChannelImpl.class);
 	}
 	
-	private Map<Type, ContextProvider<?>> contextProviders = new HashMap<>();
+	private Map<Type, ContextProvider<?>> contextProviders = new ConcurrentHashMap<>();
 	
-	private Set<ContextProvider<?>> handleInheritance = new LinkedHashSet<>();
-	private Map<Type, Type> inheritanceCache = new HashMap<>();
+	private Set<ContextProvider<?>> handleInheritance = new CopyOnWriteArraySet<>();
 	
-	@SuppressWarnings("unchecked")
-	private <T> ContextProvider<T> getContextProvider(Type type) {
-		return (ContextProvider<T>) this.contextProviders.get(type);
-	}
+	/**
+	 * The inheritance provider of each parameter type, only used for types without an exact provider
+	 */
+	private volatile ClassValue<Optional<ContextProvider<?>>> inheritanceProviders = this.createInheritanceProviders();
 	
-	private static final ContextProvider<ICommand> COMMAND_CONTEXT_PROVIDER = new ContextProvider<>(ICommand.class);
+	/* Incremented whenever the registered contexts change, used by the resolvers to know when they have to be re-bound */
+	private volatile int version;
 	
-	static {
-		COMMAND_CONTEXT_PROVIDER.setContextFunction((event, parameter, type) -> event.getCommand());
+	private ClassValue<Optional<ContextProvider<?>>> createInheritanceProviders() {
+		return new ClassValue<Optional<ContextProvider<?>>>() {
+			@Override
+			protected Optional<ContextProvider<?>> computeValue(Class<?> type) {
+				return Optional.ofNullable(ContextManagerImpl.this.getInheritenceProvider(type));
+			}
+		};
+	}
+	
+	private void invalidate() {
+		this.inheritanceProviders = this.createInheritanceProviders();
+		this.version++;
 	}
 	
-	/* TODO: This probably isn't the best solution to this */
 	@SuppressWarnings("unchecked")
-	private <T> ContextProvider<T> getContextProvider(CommandEvent event, Type type) {
-		if(type instanceof Class) {
-			if(CommandUtility.isInstanceOf(event.getCommand().getClass(), (Class<?>) type)) {
-				return (ContextProvider<T>) COMMAND_CONTEXT_PROVIDER;
+	private <T> ContextProvider<T> getContextProvider(Type type) {
+		return (ContextProvider<T>) this.contextProviders.get(type);
+	}
+	
+	private ContextProvider<?> getInheritenceProvider(Class<?> type) {
+		for(ContextProvider<?> inheritenceProvider : this.handleInheritance) {
+			Class<?> secondType = (Class<?>) inheritenceProvider.getType();
+			
+			if(CommandUtility.isInstanceOf(secondType, type)) {
+				return inheritenceProvider;
 			}
 		}
 		
-		return this.getContextProvider(type);
+		return null;
 	}
 	
-	private ContextProvider<?> getInheritenceProvider(Type type) {
-		if(!(type instanceof Class<?>)) {
+	private static <T> Function<CommandEvent, T> bind(ContextProvider<T> provider, Type type, Parameter parameter) {
+		if(provider == null) {
 			return null;
 		}
 		
-		Class<?> firstType = (Class<?>) type;
-		for(ContextProvider<?> inheritenceProvider : this.handleInheritance) {
-			Class<?> secondType = (Class<?>) inheritenceProvider.getType();
-			
-			if(CommandUtility.isInstanceOf(secondType, firstType)) {
-				return inheritenceProvider;
+		if(parameter != null) {
+			TriFunction<CommandEvent, Parameter, Type, T> parameterizedFunction = provider.getParameterizedContextFunction();
+			if(parameterizedFunction != null) {
+				return (event) -> parameterizedFunction.apply(event, parameter, type);
 			}
 		}
 		
+		BiFunction<CommandEvent, Type, T> function = provider.getContextFunction();
+		if(function != null) {
+			return (event) -> function.apply(event, type);
+		}
+		
 		return null;
 	}
 	
+	/**
+	 * Bind the context function for the provided type, all of the type checks are done here
+	 * so that the returned function does not have to do any
+	 * 
+	 * @param commandType the type of the command the context is for
+	 * @param type the type of the context
+	 * @param parameter the parameter the context is for, may be null
+	 * 
+	 * @return the bound context function, this will return null if there is no context available
+	 */
+	/* TODO: The command check probably isn't the best solution to this */
 	@SuppressWarnings("unchecked")
-	private <T> T getContext(CommandEvent event, ContextProvider<T> provider, Type type, Parameter parameter) {
-		Checks.notNull(event, "event");
-		Checks.check(type != null || parameter != null, "Both type and paramter may not be null");
-		
-		if(type == null) {
-			type = parameter.getParameterizedType();
+	private <T> Function<CommandEvent, T> bind(Class<?> commandType, Type type, Parameter parameter) {
+		if(type instanceof Class) {
+			if(CommandUtility.isInstanceOf(commandType, (Class<?>) type)) {
+				return (event) -> (T) event.getCommand();
+			}
 		}
 		
-		boolean initialProvider = provider != null;
-		if(!initialProvider) {
-			provider = this.getContextProvider(event, type);
+		Function<CommandEvent, T> function = ContextManagerImpl.bind(this.getContextProvider(type), type, parameter);
+		if(function != null) {
+			return function;
 		}
 		
-		if(provider != null) {
-			if(parameter != null) {
-				TriFunction<CommandEvent, Parameter, Type, T> parameterizedFunction = provider.getParameterizedContextFunction();
-				if(parameterizedFunction != null) {
-					return parameterizedFunction.apply(event, parameter, type);
-				}
-			}
+		if(type instanceof Class) {
+			ContextProvider<T> provider = (ContextProvider<T>) this.inheritanceProviders.get((Class<?>) type).orElse(null);
 			
-			BiFunction<CommandEvent, Type, T> function = provider.getContextFunction();
+			function = ContextManagerImpl.bind(provider, type, parameter);
 			if(function != null) {
-				return function.apply(event, type);
+				return function;
 			}
 		}
 		
-		if(!initialProvider) {
-			if(this.inheritanceCache.containsKey(type)) {
-				Type cachedType = this.inheritanceCache.get(type);
-				provider = this.getContextProvider(cachedType);
-				
-				if(cachedType != null) {
-					return this.getContext(event, provider, cachedType, parameter);
-				}else{
-					return null;
-				}
-			}
-			
-			provider = (ContextProvider<T>) this.getInheritenceProvider(type);
-			if(provider == null) {
-				return null;
-			}
+		return (event) -> null;
+	}
+	
+	private class ContextResolver<T> implements Function<CommandEvent, T> {
+		
+		private final Class<?> commandType;
+		private final Parameter parameter;
+		
+		private volatile Function<CommandEvent, T> function;
+		private volatile int version;
+		
+		public ContextResolver(Class<?> commandType, Parameter parameter) {
+			this.commandType = commandType;
+			this.parameter = parameter;
 			
-			this.inheritanceCache.put(type, provider.getType());
+			this.rebind();
+		}
+		
+		private synchronized void rebind() {
+			int version = ContextManagerImpl.this.version;
 			
-			if(provider != null) {
-				return this.getContext(event, provider, type, parameter);
+			this.function = ContextManagerImpl.this.bind(this.commandType, this.parameter.getParameterizedType(), this.parameter);
+			this.version = version;
+		}
+		
+		@Override
+		public T apply(CommandEvent event) {
+			if(this.version != ContextManagerImpl.this.version) {
+				this.rebind();
 			}
+			
+			return this.function.apply(event);
+		}
+	}
+	
+	public <T> Function<CommandEvent, T> getContextResolver(ICommand command, Parameter parameter) {
+		Checks.notNull(command, "command");
+		Checks.notNull(parameter, "parameter");
+		
+		/* Bind the same way as CommandEvent#getCommand, which is the actual command of a DummyCommand */
+		if(command instanceof DummyCommand) {
+			command = ((DummyCommand) command).getActualCommand();
 		}
 		
-		return null;
+		return new ContextResolver<>(command.getClass(), parameter);
 	}
 	
 	public <T> T getContext(CommandEvent event, Type type) {
-		return this.getContext(event, null, type, null);
+		Checks.notNull(event, "event");
+		Checks.notNull(type, "type");
+		
+		return this.<T>bind(event.getCommand().getClass(), type, null).apply(event);
 	}
 	
 	public <T> T getContext(CommandEvent event, Parameter parameter) {
+		Checks.notNull(event, "event");
 		Checks.notNull(parameter, "parameter");
 		
-		return this.getContext(event, null, parameter.getParameterizedType(), parameter);
+		return this.<T>bind(event.getCommand().getClass(), parameter.getParameterizedType(), parameter).apply(event);
 	}
 	
 	public boolean isEnforcedContext(Type type) {
@@ -223,7 +272,7 @@ public class ContextManagerImpl implements IContextManager {
 		return false;
 	}
 	
-	public ContextManagerImpl setHandleInheritance(Type type, boolean handle) {
+	public synchronized ContextManagerImpl setHandleInheritance(Type type, boolean handle) {
 		Checks.notNull(type, "type");
 		
 		if(!(type instanceof Class)) {
@@ -243,25 +292,24 @@ public class ContextManagerImpl implements IContextManager {
 			this.handleInheritance.remove(provider);
 		}
 		
-		/* Re-compute cache */
-		for(Entry<Type, Type> entry : this.inheritanceCache.entrySet()) {
-			provider = this.getInheritenceProvider(entry.getKey());
-			
-			this.inheritanceCache.put(entry.getKey(), provider != null ? provider.getType() : null);
-		}
+		this.invalidate();
 		
 		return this;
 	}
 	
-	public ContextManagerImpl unregisterContext(Type type) {
+	public synchronized ContextManagerImpl unregisterContext(Type type) {
 		Checks.notNull(type, "type");
 		
-		this.handleInheritance.remove(this.contextProviders.remove(type));
+		ContextProvider<?> provider = this.contextProviders.remove(type);
+		if(provider != null) {
+			this.handleInheritance.remove(provider);
+			this.invalidate();
+		}
 		
 		return this;
 	}
 	
-	public <T> ContextManagerImpl registerContext(Type type, TriFunction<CommandEvent, Parameter, Type, T> function) {
+	public synchronized <T> ContextManagerImpl registerContext(Type type, TriFunction<CommandEvent, Parameter, Type, T> function) {
 		Checks.notNull(type, "type");
 		Checks.notNull(function, "function");
 		
@@ -270,9 +318,10 @@ public class ContextManagerImpl implements IContextManager {
 			provider.setContextFunction(function);
 		}else{
 			this.contextProviders.put(type, new ContextProvider<>(type, function));
-			this.inheritanceCache.remove(type);
 		}
 		
+		this.invalidate();
+		
 		return this;
 	}
 	
@@ -282,7 +331,7 @@ public class ContextManagerImpl implements IContextManager {
 		return this;
 	}
 	
-	public <T> ContextManagerImpl registerContext(Type type, BiFunction<CommandEvent, Type, T> function) {
+	public synchronized <T> ContextManagerImpl registerContext(Type type, BiFunction<CommandEvent, Type, T> function) {
 		Checks.notNull(type, "type");
 		Checks.notNull(function, "function");
 		
@@ -293,6 +342,8 @@ public class ContextManagerImpl implements IContextManager {
 			this.contextProviders.put(type, new ContextProvider<>(type, function));
 		}
 		
+		this.invalidate();
+		
 		return this;
 	}
 	
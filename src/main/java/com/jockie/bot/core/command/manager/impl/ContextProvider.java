@@ -11,11 +11,11 @@ class ContextProvider<ProviderType> {
 	
 	private Type type;
 	
-	private TriFunction<CommandEvent, Parameter, Type, ProviderType> parameterizedContextFunction;
-	private BiFunction<CommandEvent, Type, ProviderType> contextFunction;
+	private volatile TriFunction<CommandEvent, Parameter, Type, ProviderType> parameterizedContextFunction;
+	private volatile BiFunction<CommandEvent, Type, ProviderType> contextFunction;
 	
-	private boolean enforced;
-	private boolean handleInheritence;
+	private volatile boolean enforced;
+	private volatile boolean handleInheritence;
 	
 	public ContextProvider(Type type) {
 		this.type = type;
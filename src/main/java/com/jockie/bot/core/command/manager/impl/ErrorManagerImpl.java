@@ -1,10 +1,10 @@
 package com.jockie.bot.core.command.manager.impl;
 
-import java.util.HashMap;
-import java.util.LinkedHashSet;
 import java.util.Map;
-import java.util.Map.Entry;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
 
 import com.jockie.bot.core.argument.IArgument;
 import com.jockie.bot.core.argument.impl.ArgumentImpl;
@@ -17,41 +17,54 @@ import net.dv8tion.jda.internal.utils.Checks;
 
 public class ErrorManagerImpl implements IErrorManager {
 	
-	protected Map<Class<?>, TriConsumer<IArgument<?>, Message, String>> consumers = new HashMap<>();
+	protected Map<Class<?>, TriConsumer<IArgument<?>, Message, String>> consumers = new ConcurrentHashMap<>();
+	
+	protected Set<Class<?>> handleInheritance = new CopyOnWriteArraySet<>();
+	
+	/**
+	 * The argument which is passed to the response of a type, these do not depend on the 
+	 * registered responses so they are created once per type and re-used for every error
+	 */
+	protected final ClassValue<IArgument<?>> arguments = new ClassValue<IArgument<?>>() {
+		@Override
+		protected IArgument<?> computeValue(Class<?> type) {
+			return new ArgumentImpl.Builder<>(type).build();
+		}
+	};
+	
+	/**
+	 * The error response of each argument type, falling back to the first inherited type with a response
+	 */
+	protected volatile ClassValue<Optional<TriConsumer<IArgument<?>, Message, String>>> resolvedConsumers = this.createResolvedConsumers();
+	
+	protected ClassValue<Optional<TriConsumer<IArgument<?>, Message, String>>> createResolvedConsumers() {
+		return new ClassValue<Optional<TriConsumer<IArgument<?>, Message, String>>>() {
+			@Override
+			protected Optional<TriConsumer<IArgument<?>, Message, String>> computeValue(Class<?> type) {
+				TriConsumer<IArgument<?>, Message, String> consumer = ErrorManagerImpl.this.consumers.get(type);
+				if(consumer != null) {
+					return Optional.of(consumer);
+				}
+				
+				Class<?> inheritanceType = ErrorManagerImpl.this.getInheritanceType(type);
+				if(inheritanceType != null) {
+					return Optional.ofNullable(ErrorManagerImpl.this.consumers.get(inheritanceType));
+				}
+				
+				return Optional.empty();
+			}
+		};
+	}
 	
-	protected Set<Class<?>> handleInheritance = new LinkedHashSet<>();
-	protected Map<Class<?>, Class<?>> inheritanceCache = new HashMap<>();
-
 	@Override
 	public boolean handle(Class<?> type, Message message, String content) {
 		Checks.notNull(type, "type");
 		Checks.notNull(message, "message");
 		Checks.notNull(content, "content");
-
-		IArgument<?> argument = new ArgumentImpl.Builder<>(type).build();
-
-		if(this.consumers.containsKey(type)) {
-			this.consumers.get(type).accept(argument, message, content);
-			
-			return true;
-		}
 		
-		if(this.inheritanceCache.containsKey(type)) {
-			Class<?> cachedType = this.inheritanceCache.get(type);
-			if(cachedType != null) {
-				this.consumers.get(cachedType).accept(argument, message, content);
-				
-				return true;
-			}
-			
-			return false;
-		}
-		
-		Class<?> inheritanceType = this.getInheritanceType(type);
-		this.inheritanceCache.put(type, inheritanceType);
-		
-		if(inheritanceType != null) {
-			this.consumers.get(inheritanceType).accept(argument, message, content);
+		TriConsumer<IArgument<?>, Message, String> consumer = this.resolvedConsumers.get(type).orElse(null);
+		if(consumer != null) {
+			consumer.accept(this.arguments.get(type), message, content);
 			
 			return true;
 		}
@@ -61,20 +74,26 @@ public class ErrorManagerImpl implements IErrorManager {
 	
 	@SuppressWarnings({ "unchecked", "rawtypes" })
 	@Override
-	public <T> ErrorManagerImpl registerResponse(Class<T> type, TriConsumer<IArgument<T>, Message, String> consumer) {
+	public synchronized <T> ErrorManagerImpl registerResponse(Class<T> type, TriConsumer<IArgument<T>, Message, String> consumer) {
 		Checks.notNull(type, "type");
 		Checks.notNull(consumer, "consumer");
 		
 		this.consumers.put(type, (TriConsumer) consumer);
-		this.inheritanceCache.remove(type);
+		this.resolvedConsumers = this.createResolvedConsumers();
 		
 		return this;
 	}
 	
 	@Override
-	public ErrorManagerImpl unregisterResponse(Class<?> type) {
-		this.consumers.remove(type);
-		this.inheritanceCache.remove(type);
+	public synchronized ErrorManagerImpl unregisterResponse(Class<?> type) {
+		if(type == null) {
+			return this;
+		}
+		
+		if(this.consumers.remove(type) != null) {
+			this.handleInheritance.remove(type);
+			this.resolvedConsumers = this.createResolvedConsumers();
+		}
 		
 		return this;
 	}
@@ -99,7 +118,7 @@ public class ErrorManagerImpl implements IErrorManager {
 	}
 	
 	@Override
-	public ErrorManagerImpl setHandleInheritance(Class<?> type, boolean handle) {
+	public synchronized ErrorManagerImpl setHandleInheritance(Class<?> type, boolean handle) {
 		Checks.notNull(type, "type");
 		
 		if(!this.consumers.containsKey(type)) {
@@ -112,10 +131,8 @@ public class ErrorManagerImpl implements IErrorManager {
 			this.handleInheritance.remove(type);
 		}
 		
-		/* Re-compute cache */
-		for(Entry<Class<?>, Class<?>> entry : this.inheritanceCache.entrySet()) {
-			this.inheritanceCache.put(entry.getKey(), this.getInheritanceType(type));
-		}
+		/* Every resolved type has to be re-computed as any of them could now resolve to a different response */
+		this.resolvedConsumers = this.createResolvedConsumers();
 		
 		return this;
 	}
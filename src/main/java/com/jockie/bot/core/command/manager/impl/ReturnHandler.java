@@ -1,6 +1,7 @@
 package com.jockie.bot.core.command.manager.impl;
 
-import java.util.function.BiConsumer;
+import java.util.concurrent.CompletionStage;
+import java.util.function.BiFunction;
 
 import com.jockie.bot.core.command.impl.CommandEvent;
 
@@ -8,11 +9,11 @@ class ReturnHandler<T> {
 	
 	private Class<?> type;
 	
-	private BiConsumer<CommandEvent, T> returnHandler;
+	private volatile BiFunction<CommandEvent, T, CompletionStage<?>> returnHandler;
 	
-	private boolean handleInheritence;
+	private volatile boolean handleInheritence;
 	
-	public ReturnHandler(Class<?> type, BiConsumer<CommandEvent, T> returnHandler) {
+	public ReturnHandler(Class<?> type, BiFunction<CommandEvent, T, CompletionStage<?>> returnHandler) {
 		this.type = type;
 		this.returnHandler = returnHandler;
 	}
@@ -21,11 +22,11 @@ class ReturnHandler<T> {
 		return this.type;
 	}
 	
-	public BiConsumer<CommandEvent, T> getReturnHandler() {
+	public BiFunction<CommandEvent, T, CompletionStage<?>> getReturnHandler() {
 		return this.returnHandler;
 	}
 	
-	public void setReturnHandler(BiConsumer<CommandEvent, T> returnHandler) {
+	public void setReturnHandler(BiFunction<CommandEvent, T, CompletionStage<?>> returnHandler) {
 		this.returnHandler = returnHandler;
 	}
 	
@@ -1,12 +1,19 @@
 package com.jockie.bot.core.command.manager.impl;
 
 import java.io.File;
-import java.util.HashMap;
-import java.util.LinkedHashSet;
 import java.util.Map;
-import java.util.Map.Entry;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.Flow;
 import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+
+import org.slf4j.Logger;
 
 import com.jockie.bot.core.command.impl.CommandEvent;
 import com.jockie.bot.core.command.manager.IReturnManager;
@@ -14,32 +21,195 @@ import com.jockie.bot.core.utility.CommandUtility;
 
 import net.dv8tion.jda.api.entities.Message;
 import net.dv8tion.jda.api.entities.MessageEmbed;
+import net.dv8tion.jda.api.requests.RestAction;
 import net.dv8tion.jda.internal.utils.Checks;
+import net.dv8tion.jda.internal.utils.JDALogger;
 
 public class ReturnManagerImpl implements IReturnManager {
 	
+	public static final Logger LOG = JDALogger.getLog(ReturnManagerImpl.class);
+	
 	public ReturnManagerImpl() {
-		this.registerHandler(CharSequence.class, (event, value) -> {
-			event.reply(value).queue();
+		this.registerAsyncHandler(CharSequence.class, (event, value) -> {
+			return event.reply(value).submit();
 		}).setHandleInheritance(CharSequence.class, true);
 		
-		this.registerHandler(Message.class, (event, value) -> {
-			event.reply(value).queue();
+		this.registerAsyncHandler(Message.class, (event, value) -> {
+			return event.reply(value).submit();
 		}).setHandleInheritance(Message.class, true);
 		
-		this.registerHandler(MessageEmbed.class, (event, value) -> {
-			event.reply(value).queue();
+		this.registerAsyncHandler(MessageEmbed.class, (event, value) -> {
+			return event.reply(value).submit();
 		}).setHandleInheritance(MessageEmbed.class, true);
 		
-		this.registerHandler(File.class, (event, value) -> {
-			event.replyFile(value).queue();
+		this.registerAsyncHandler(File.class, (event, value) -> {
+			return event.replyFile(value).submit();
+		});
+		
+		this.registerAsyncHandler(CompletionStage.class, this::handleCompletionStage)
+			.setHandleInheritance(CompletionStage.class, true);
+		
+		this.registerAsyncHandler(RestAction.class, this::handleRestAction)
+			.setHandleInheritance(RestAction.class, true);
+		
+		this.registerAsyncHandler(Flow.Publisher.class, this::handlePublisher)
+			.setHandleInheritance(Flow.Publisher.class, true);
+	}
+	
+	/**
+	 * Handles the value of a {@link CompletionStage} once it has completed
+	 * 
+	 * @param event the event where the object was returned
+	 * @param stage the returned stage
+	 * 
+	 * @return a stage which completes once the value of the returned stage has been handled, 
+	 * cancelling it cancels the returned stage
+	 */
+	protected CompletionStage<?> handleCompletionStage(CommandEvent event, CompletionStage<?> stage) {
+		CompletableFuture<Void> handled = stage.thenCompose((value) -> this.handleResult(event, value)).toCompletableFuture();
+		handled.whenComplete((value, failure) -> {
+			if(handled.isCancelled()) {
+				ReturnManagerImpl.cancel(stage);
+			}
 		});
+		
+		return handled;
+	}
+	
+	/**
+	 * Submits the {@link RestAction}, the result of the action is not handled since it is most likely the result 
+	 * of the reply itself, for instance the {@link Message} which was sent
+	 * 
+	 * @param event the event where the object was returned
+	 * @param action the returned action
+	 * 
+	 * @return a stage which completes once the action has completed, cancelling it cancels the action
+	 */
+	protected CompletionStage<?> handleRestAction(CommandEvent event, RestAction<?> action) {
+		return action.submit();
+	}
+	
+	/**
+	 * Subscribes to the {@link Flow.Publisher} and handles every value it publishes
+	 * <br><br>
+	 * <b>NOTE:</b> Reactive Streams publishers can be returned by adapting them to a {@link Flow.Publisher}
+	 * 
+	 * @param event the event where the object was returned
+	 * @param publisher the returned publisher
+	 * 
+	 * @return a stage which completes once the publisher has completed and every value it published 
+	 * has been handled, cancelling it cancels the subscription
+	 */
+	protected CompletionStage<?> handlePublisher(CommandEvent event, Flow.Publisher<?> publisher) {
+		CompletableFuture<Void> future = new CompletableFuture<>();
+		
+		publisher.subscribe(new Flow.Subscriber<Object>() {
+			
+			/* Completes once every value published so far has been handled */
+			private CompletableFuture<Void> handled = CompletableFuture.completedFuture(null);
+			
+			@Override
+			public void onSubscribe(Flow.Subscription subscription) {
+				future.whenComplete((value, failure) -> {
+					if(failure != null) {
+						subscription.cancel();
+					}
+				});
+				
+				subscription.request(Long.MAX_VALUE);
+			}
+			
+			@Override
+			public void onNext(Object value) {
+				CompletionStage<Void> stage;
+				try {
+					stage = ReturnManagerImpl.this.handleResult(event, value);
+				}catch(Throwable e) {
+					stage = CompletableFuture.failedFuture(e);
+				}
+				
+				stage.whenComplete((result, failure) -> {
+					if(failure != null) {
+						future.completeExceptionally(failure);
+					}
+				});
+				
+				this.handled = this.handled.thenCombine(stage, (first, second) -> null);
+			}
+			
+			@Override
+			public void onError(Throwable failure) {
+				future.completeExceptionally(failure);
+			}
+			
+			@Override
+			public void onComplete() {
+				this.handled.whenComplete((value, failure) -> {
+					if(failure != null) {
+						future.completeExceptionally(failure);
+					}else{
+						future.complete(null);
+					}
+				});
+			}
+		});
+		
+		return future;
+	}
+	
+	protected CompletionStage<Void> handleResult(CommandEvent event, Object value) {
+		if(value == null) {
+			return CompletableFuture.completedFuture(null);
+		}
+		
+		CompletionStage<?> stage = this.performAsync(event, value);
+		if(stage == null) {
+			LOG.warn(value.getClass() + " is an unsupported return type for a command method");
+			
+			return CompletableFuture.completedFuture(null);
+		}
+		
+		return stage.thenAccept((result) -> {});
+	}
+	
+	private static void handleFailure(CommandEvent event, Throwable failure) {
+		if(failure instanceof CompletionException && failure.getCause() != null) {
+			failure = failure.getCause();
+		}
+		
+		event.getCommandListener().handleExecutionException(event, failure);
 	}
 	
-	protected Map<Class<?>, ReturnHandler<?>> returnHandlers = new HashMap<>();
+	private static void cancel(CompletionStage<?> stage) {
+		try {
+			stage.toCompletableFuture().cancel(true);
+		}catch(UnsupportedOperationException e) {
+			/* The stage can not be cancelled */
+		}
+	}
+	
+	protected Map<Class<?>, ReturnHandler<?>> returnHandlers = new ConcurrentHashMap<>();
+	
+	protected Set<ReturnHandler<?>> handleInheritance = new CopyOnWriteArraySet<>();
 	
-	protected Set<ReturnHandler<?>> handleInheritance = new LinkedHashSet<>();
-	protected Map<Class<?>, Class<?>> inheritanceCache = new HashMap<>();
+	/**
+	 * The handler of each returned type, an exact registration wins over the first matching inherited handler
+	 */
+	protected volatile ClassValue<Optional<ReturnHandler<?>>> resolvedHandlers = this.createResolvedHandlers();
+	
+	protected ClassValue<Optional<ReturnHandler<?>>> createResolvedHandlers() {
+		return new ClassValue<Optional<ReturnHandler<?>>>() {
+			@Override
+			protected Optional<ReturnHandler<?>> computeValue(Class<?> type) {
+				ReturnHandler<?> handler = ReturnManagerImpl.this.returnHandlers.get(type);
+				if(handler != null) {
+					return Optional.of(handler);
+				}
+				
+				return Optional.ofNullable(ReturnManagerImpl.this.getInheritanceHandler(type));
+			}
+		};
+	}
 	
 	@SuppressWarnings("unchecked")
 	protected <T> ReturnHandler<T> getReturnHandler(Class<?> type) {
@@ -60,52 +230,62 @@ public class ReturnManagerImpl implements IReturnManager {
 		return null;
 	}
 	
-	@SuppressWarnings("unchecked")
+	/**
+	 * Handles the returned object, if the object is handled asynchronously nothing waits for it
+	 * to complete and a failure is therefore handled the same way as if the command had thrown it
+	 */
 	public <T> boolean perform(CommandEvent event, T object) {
-		Checks.notNull(event, "event");
-		
-		Class<?> type = object.getClass();
-		
-		ReturnHandler<T> handler = this.getReturnHandler(type);
-		if(handler != null) {
-			handler.getReturnHandler().accept(event, object);
-			
-			return true;
+		CompletionStage<?> stage = this.performAsync(event, object);
+		if(stage == null) {
+			return false;
 		}
 		
-		if(this.inheritanceCache.containsKey(type)) {
-			Class<?> cachedType = this.inheritanceCache.get(type);
-			if(cachedType != null) {
-				handler = this.getReturnHandler(cachedType);
-				handler.getReturnHandler().accept(event, object);
-				
-				return true;
+		stage.whenComplete((value, failure) -> {
+			if(failure != null) {
+				ReturnManagerImpl.handleFailure(event, failure);
 			}
-			
-			return false;
-		}
+		});
 		
-		handler = (ReturnHandler<T>) this.getInheritanceHandler(type);
-		this.inheritanceCache.put(type, handler != null ? handler.getType() : null);
+		return true;
+	}
+	
+	@SuppressWarnings("unchecked")
+	public <T> CompletionStage<?> performAsync(CommandEvent event, T object) {
+		Checks.notNull(event, "event");
 		
+		ReturnHandler<T> handler = (ReturnHandler<T>) this.resolvedHandlers.get(object.getClass()).orElse(null);
 		if(handler != null) {
-			handler.getReturnHandler().accept(event, object);
+			CompletionStage<?> stage = handler.getReturnHandler().apply(event, object);
 			
-			return true;
+			return stage != null ? stage : CompletableFuture.completedFuture(null);
 		}
 		
-		return false;
+		return null;
 	}
 	
-	public ReturnManagerImpl unregisterHandler(Class<?> type) {
+	public synchronized ReturnManagerImpl unregisterHandler(Class<?> type) {
 		Checks.notNull(type, "type");
 		
-		this.handleInheritance.remove(this.returnHandlers.remove(type));
+		ReturnHandler<?> handler = this.returnHandlers.remove(type);
+		if(handler != null) {
+			this.handleInheritance.remove(handler);
+			this.resolvedHandlers = this.createResolvedHandlers();
+		}
 		
 		return this;
 	}
 	
 	public <T> ReturnManagerImpl registerHandler(Class<T> type, BiConsumer<CommandEvent, T> function) {
+		Checks.notNull(function, "function");
+		
+		return this.registerAsyncHandler(type, (event, value) -> {
+			function.accept(event, value);
+			
+			return null;
+		});
+	}
+	
+	public synchronized <T> ReturnManagerImpl registerAsyncHandler(Class<T> type, BiFunction<CommandEvent, T, CompletionStage<?>> function) {
 		Checks.notNull(type, "type");
 		Checks.notNull(function, "function");
 		
@@ -114,7 +294,7 @@ public class ReturnManagerImpl implements IReturnManager {
 			handler.setReturnHandler(function);
 		}else{
 			this.returnHandlers.put(type, new ReturnHandler<T>(type, function));
-			this.inheritanceCache.remove(type);
+			this.resolvedHandlers = this.createResolvedHandlers();
 		}
 		
 		return this;
@@ -131,7 +311,7 @@ public class ReturnManagerImpl implements IReturnManager {
 		return false;
 	}
 	
-	public ReturnManagerImpl setHandleInheritance(Class<?> type, boolean handle) {
+	public synchronized ReturnManagerImpl setHandleInheritance(Class<?> type, boolean handle) {
 		Checks.notNull(type, "type");
 		
 		ReturnHandler<?> handler = this.returnHandlers.get(type);
@@ -147,12 +327,7 @@ public class ReturnManagerImpl implements IReturnManager {
 			this.handleInheritance.remove(handler);
 		}
 		
-		/* Re-compute cache */
-		for(Entry<Class<?>, Class<?>> entry : this.inheritanceCache.entrySet()) {
-			handler = this.getInheritanceHandler(entry.getKey());
-			
-			this.inheritanceCache.put(entry.getKey(), handler != null ? handler.getType() : null);
-		}
+		this.resolvedHandlers = this.createResolvedHandlers();
 		
 		return this;
 	}
@@ -15,6 +15,7 @@ import com.jockie.bot.core.command.parser.ParseContext;
 import com.jockie.bot.core.parser.IParsableComponent;
 import com.jockie.bot.core.parser.IParser;
 import com.jockie.bot.core.parser.ParsedResult;
+import com.jockie.bot.core.parser.ParserGuard;
 import com.jockie.bot.core.property.IPropertyContainer;
 
 import net.dv8tion.jda.internal.utils.Checks;
@@ -85,7 +86,12 @@ public interface IOption<Type> extends IPropertyContainer, IParsableComponent<Ty
 	 */
 	@Nonnull
 	public default ParsedResult<Type> parse(@Nonnull ParseContext context, @Nonnull String content) {
-		return this.getParser().parse(context, this, content);
+		IParser<Type, IOption<Type>> parser = this.getParser();
+		if(!ParserGuard.isPossible(parser, content)) {
+			return new ParsedResult<>(false, null);
+		}
+		
+		return parser.parse(context, this, content);
 	}
 	
 	public abstract class Builder<Type, ReturnType extends IOption<Type>, BuilderType extends Builder<Type, ReturnType, BuilderType>> {
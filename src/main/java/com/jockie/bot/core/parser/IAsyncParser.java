@@ -0,0 +1,94 @@
+package com.jockie.bot.core.parser;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import com.jockie.bot.core.command.impl.CommandListener;
+import com.jockie.bot.core.command.parser.ParseContext;
+
+/**
+ * A parser which may have to wait for something, such as a request to Discord, before the content can be parsed. 
+ * <br><br>
+ * The command parser awaits the result through {@link #parse(ParseContext, Object, String)} for at most 
+ * {@link #getTimeout()} milliseconds, if it has not completed by then the content is treated as invalid.
+ * <br><br>
+ * A failure to resolve the content, such as a request failing because of a rate limit or missing access, 
+ * should complete the future with an invalid {@link ParsedResult} rather than exceptionally.
+ * <br><br>
+ * <b>NOTE:</b> Awaiting the result blocks the thread which is parsing the command, messages should therefore be 
+ * handled through {@link CommandListener#handleAsync(net.dv8tion.jda.api.entities.Message)}, see 
+ * {@link CommandListener#setAsyncParsing(boolean)}, when any asynchronous parser can make requests, 
+ * otherwise the event thread will be blocked while waiting for the request
+ */
+public interface IAsyncParser<Type, Component> extends IParser<Type, Component> {
+	
+	/**
+	 * Parse a component asynchronously
+	 * 
+	 * @param context the context
+	 * @param component the component this parser is attached to
+	 * @param content the content to parse
+	 * 
+	 * @return a future which completes with the parsed component
+	 */
+	@Nonnull
+	public CompletableFuture<ParsedResult<Type>> parseAsync(@Nonnull ParseContext context, @Nonnull Component component, @Nonnull String content);
+	
+	/**
+	 * @return the maximum amount of time, in milliseconds, to wait for {@link #parseAsync(ParseContext, Object, String)} 
+	 * to complete when it is awaited by the command parser
+	 */
+	public default long getTimeout() {
+		return 5000L;
+	}
+	
+	@Override
+	@Nonnull
+	public default ParsedResult<Type> parse(@Nonnull ParseContext context, @Nonnull Component component, @Nonnull String content) {
+		ParsedResult<Type> parsed = IAsyncParser.await(this.parseAsync(context, component, content), this.getTimeout());
+		if(parsed != null) {
+			return parsed;
+		}
+		
+		return new ParsedResult<>(false, null);
+	}
+	
+	/**
+	 * Await the result of a future, any exception it completes with is rethrown
+	 * 
+	 * @param future the future to await
+	 * @param timeout the maximum amount of time, in milliseconds, to wait
+	 * 
+	 * @return the result of the future, null if it did not complete in time
+	 */
+	@Nullable
+	public static <T> T await(@Nonnull CompletableFuture<T> future, long timeout) {
+		try {
+			/* Avoid the timed wait when the result is already known, which it is whenever nothing had to be requested */
+			return future.isDone() ? future.get() : future.get(timeout, TimeUnit.MILLISECONDS);
+		}catch(TimeoutException e) {
+			/* The future is not cancelled since it may be shared with other parsers waiting for the same request */
+			return null;
+		}catch(InterruptedException e) {
+			Thread.currentThread().interrupt();
+			
+			return null;
+		}catch(ExecutionException e) {
+			Throwable cause = e.getCause();
+			if(cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+			
+			if(cause instanceof Error) {
+				throw (Error) cause;
+			}
+			
+			throw new RuntimeException(cause);
+		}
+	}
+}
\ No newline at end of file
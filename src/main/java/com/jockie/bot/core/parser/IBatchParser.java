@@ -0,0 +1,39 @@
+package com.jockie.bot.core.parser;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import javax.annotation.Nonnull;
+
+import com.jockie.bot.core.command.parser.ParseContext;
+
+/**
+ * A parser which can parse multiple contents at once, this is used by endless arguments 
+ * so that every element can be resolved together, for instance with a single request to Discord
+ * for every element which is not cached, rather than one request per element.
+ */
+public interface IBatchParser<Type, Component> extends IAsyncParser<Type, Component> {
+	
+	/**
+	 * Parse multiple contents asynchronously
+	 * 
+	 * @param context the context
+	 * @param component the component this parser is attached to
+	 * @param contents the contents to parse
+	 * 
+	 * @return a future which completes with the parsed components, in the same order as the contents
+	 */
+	@Nonnull
+	public CompletableFuture<List<ParsedResult<Type>>> parseAllAsync(@Nonnull ParseContext context, @Nonnull Component component, @Nonnull List<String> contents);
+	
+	/**
+	 * @param count the amount of contents being parsed
+	 * 
+	 * @return the maximum amount of time, in milliseconds, to wait for {@link #parseAllAsync(ParseContext, Object, List)} 
+	 * to complete for the given amount of contents when it is awaited by the command parser, 
+	 * by default this is the same as {@link #getTimeout()}
+	 */
+	public default long getTimeout(int count) {
+		return this.getTimeout();
+	}
+}
\ No newline at end of file
@@ -0,0 +1,36 @@
+package com.jockie.bot.core.parser;
+
+import javax.annotation.Nonnull;
+
+import com.jockie.bot.core.command.parser.ParseContext;
+
+/**
+ * A parser specialized for the primitive int, this allows int components to be parsed 
+ * without boxing the value
+ */
+@FunctionalInterface
+public interface IIntParser<Component> extends IParser<Integer, Component> {
+	
+	/**
+	 * Parse a component as a primitive int
+	 * 
+	 * @param context the context
+	 * @param component the component this parser is attached to
+	 * @param content the content to parse
+	 * @param result the result to store the parsed int in, see {@link PrimitiveResult#getInt()}
+	 * 
+	 * @return whether or not the content was valid, if it was not the result is left unchanged
+	 */
+	public boolean parseInt(@Nonnull ParseContext context, @Nonnull Component component, @Nonnull String content, @Nonnull PrimitiveResult result);
+	
+	@Override
+	@Nonnull
+	public default ParsedResult<Integer> parse(@Nonnull ParseContext context, @Nonnull Component component, @Nonnull String content) {
+		PrimitiveResult result = new PrimitiveResult();
+		if(!this.parseInt(context, component, content, result)) {
+			return new ParsedResult<>(false, null);
+		}
+		
+		return new ParsedResult<>(true, result.getInt());
+	}
+}
\ No newline at end of file
@@ -0,0 +1,36 @@
+package com.jockie.bot.core.parser;
+
+import javax.annotation.Nonnull;
+
+import com.jockie.bot.core.command.parser.ParseContext;
+
+/**
+ * A parser specialized for the primitive long, this allows long components to be parsed 
+ * without boxing the value
+ */
+@FunctionalInterface
+public interface ILongParser<Component> extends IParser<Long, Component> {
+	
+	/**
+	 * Parse a component as a primitive long
+	 * 
+	 * @param context the context
+	 * @param component the component this parser is attached to
+	 * @param content the content to parse
+	 * @param result the result to store the parsed long in, see {@link PrimitiveResult#getLong()}
+	 * 
+	 * @return whether or not the content was valid, if it was not the result is left unchanged
+	 */
+	public boolean parseLong(@Nonnull ParseContext context, @Nonnull Component component, @Nonnull String content, @Nonnull PrimitiveResult result);
+	
+	@Override
+	@Nonnull
+	public default ParsedResult<Long> parse(@Nonnull ParseContext context, @Nonnull Component component, @Nonnull String content) {
+		PrimitiveResult result = new PrimitiveResult();
+		if(!this.parseLong(context, component, content, result)) {
+			return new ParsedResult<>(false, null);
+		}
+		
+		return new ParsedResult<>(true, result.getLong());
+	}
+}
\ No newline at end of file
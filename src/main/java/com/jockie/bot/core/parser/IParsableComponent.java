@@ -27,6 +27,11 @@ public interface IParsableComponent<Type, Component extends IParsableComponent<T
 	@SuppressWarnings("unchecked")
 	@Nonnull
 	public default ParsedResult<Type> parse(@Nonnull ParseContext context, @Nonnull String content) {
-		return this.getParser().parse(context, (Component) this, content);
+		IParser<Type, Component> parser = this.getParser();
+		if(!ParserGuard.isPossible(parser, content)) {
+			return new ParsedResult<>(false, null);
+		}
+		
+		return parser.parse(context, (Component) this, content);
 	}
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.jockie.bot.core.parser;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 
 import com.jockie.bot.core.command.parser.ParseContext;
 import com.jockie.bot.core.parser.impl.json.JSONArrayParser;
@@ -35,4 +36,15 @@ public interface IParser<Type, Component> {
 	public default boolean isHandleAll() {
 		return false;
 	}
+	
+	/**
+	 * A cheap structural check of the content which is done before this parser is used, 
+	 * if the content does not pass the guard it is invalid without this parser being used, see {@link ParserGuard}
+	 * 
+	 * @return the guard of this parser, null if all content should be given to this parser
+	 */
+	@Nullable
+	public default ParserGuard getGuard() {
+		return null;
+	}
 }
\ No newline at end of file
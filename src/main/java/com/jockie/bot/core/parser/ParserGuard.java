@@ -0,0 +1,211 @@
+package com.jockie.bot.core.parser;
+
+import java.util.function.IntPredicate;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import net.dv8tion.jda.internal.utils.Checks;
+
+/**
+ * A cheap structural check of the content given to a parser, such as the length of the content or the characters it consists of, 
+ * which is done before the parser is used. If the content does not pass the guard it is invalid without the parser having to parse it, 
+ * this is useful for parsers which are expensive, such as parsers which look up entities, when many commands are tried in turn.
+ * <br><br>
+ * The length of the content is counted in code points, the same way Discord counts the length of names, 
+ * so a character outside of the Basic Multilingual Plane, such as most emojis, counts as one character 
+ * and the character predicates are given code points rather than chars.
+ * <br><br>
+ * <b>NOTE:</b> A guard should only reject content which the parser could never accept, 
+ * for parsers which {@link IParser#isHandleAll() handle all the content} the guard is checked against all the content left to parse
+ */
+public class ParserGuard {
+	
+	public static class Builder {
+		
+		protected int minLength = 0;
+		protected int maxLength = Integer.MAX_VALUE;
+		
+		protected IntPredicate leadingCharacter;
+		protected IntPredicate character;
+		
+		/**
+		 * @param minLength the minimum length of the content in code points, inclusive
+		 * 
+		 * @return the {@link Builder} instance, useful for chaining
+		 */
+		@Nonnull
+		public Builder setMinLength(int minLength) {
+			Checks.notNegative(minLength, "minLength");
+			
+			this.minLength = minLength;
+			
+			return this;
+		}
+		
+		/**
+		 * @param maxLength the maximum length of the content in code points, inclusive
+		 * 
+		 * @return the {@link Builder} instance, useful for chaining
+		 */
+		@Nonnull
+		public Builder setMaxLength(int maxLength) {
+			Checks.notNegative(maxLength, "maxLength");
+			
+			this.maxLength = maxLength;
+			
+			return this;
+		}
+		
+		/**
+		 * @param minLength the minimum length of the content, inclusive
+		 * @param maxLength the maximum length of the content, inclusive
+		 * 
+		 * @return the {@link Builder} instance, useful for chaining
+		 */
+		@Nonnull
+		public Builder setLength(int minLength, int maxLength) {
+			return this.setMinLength(minLength).setMaxLength(maxLength);
+		}
+		
+		/**
+		 * @param leadingCharacter the predicate which the first code point of the content has to match, 
+		 * null if any character is allowed
+		 * 
+		 * @return the {@link Builder} instance, useful for chaining
+		 */
+		@Nonnull
+		public Builder setLeadingCharacter(@Nullable IntPredicate leadingCharacter) {
+			this.leadingCharacter = leadingCharacter;
+			
+			return this;
+		}
+		
+		/**
+		 * @param character the predicate which every code point of the content has to match, 
+		 * null if any character is allowed
+		 * 
+		 * @return the {@link Builder} instance, useful for chaining
+		 */
+		@Nonnull
+		public Builder setCharacter(@Nullable IntPredicate character) {
+			this.character = character;
+			
+			return this;
+		}
+		
+		@Nonnull
+		public ParserGuard build() {
+			Checks.check(this.minLength <= this.maxLength, "minLength may not be greater than maxLength");
+			
+			return new ParserGuard(this);
+		}
+	}
+	
+	/**
+	 * @param minLength the minimum length of the content, inclusive
+	 * @param maxLength the maximum length of the content, inclusive
+	 * 
+	 * @return a guard which only checks the length of the content
+	 */
+	@Nonnull
+	public static ParserGuard ofLength(int minLength, int maxLength) {
+		return new Builder().setLength(minLength, maxLength).build();
+	}
+	
+	/**
+	 * @param parser the parser
+	 * @param content the content which is about to be parsed
+	 * 
+	 * @return whether or not the content passes the guard of the parser, 
+	 * this is always true if the parser does not have a guard
+	 */
+	public static boolean isPossible(@Nonnull IParser<?, ?> parser, @Nonnull CharSequence content) {
+		ParserGuard guard = parser.getGuard();
+		
+		return guard == null || guard.test(content);
+	}
+	
+	protected final int minLength;
+	protected final int maxLength;
+	
+	protected final IntPredicate leadingCharacter;
+	protected final IntPredicate character;
+	
+	protected ParserGuard(Builder builder) {
+		this.minLength = builder.minLength;
+		this.maxLength = builder.maxLength;
+		this.leadingCharacter = builder.leadingCharacter;
+		this.character = builder.character;
+	}
+	
+	/**
+	 * @return the minimum length of the content, inclusive
+	 */
+	public int getMinLength() {
+		return this.minLength;
+	}
+	
+	/**
+	 * @return the maximum length of the content, inclusive
+	 */
+	public int getMaxLength() {
+		return this.maxLength;
+	}
+	
+	/**
+	 * @return the predicate which the first character of the content has to match, may be null
+	 */
+	@Nullable
+	public IntPredicate getLeadingCharacter() {
+		return this.leadingCharacter;
+	}
+	
+	/**
+	 * @return the predicate which every character of the content has to match, may be null
+	 */
+	@Nullable
+	public IntPredicate getCharacter() {
+		return this.character;
+	}
+	
+	/**
+	 * @param content the content to check
+	 * 
+	 * @return whether or not the content passes this guard, if it does not the parser would never accept it
+	 */
+	public boolean test(@Nonnull CharSequence content) {
+		int length = content.length();
+		if(length < this.minLength) {
+			return false;
+		}
+		
+		/* 
+		 * Every code point is one or two chars, the code points only have to be counted 
+		 * when the amount of chars alone does not tell whether the length is within the bounds
+		 */
+		if(length > this.maxLength || (length + 1) / 2 < this.minLength) {
+			int codePoints = Character.codePointCount(content, 0, length);
+			if(codePoints < this.minLength || codePoints > this.maxLength) {
+				return false;
+			}
+		}
+		
+		if(this.leadingCharacter != null && (length == 0 || !this.leadingCharacter.test(Character.codePointAt(content, 0)))) {
+			return false;
+		}
+		
+		if(this.character != null) {
+			for(int i = 0; i < length;) {
+				int codePoint = Character.codePointAt(content, i);
+				if(!this.character.test(codePoint)) {
+					return false;
+				}
+				
+				i += Character.charCount(codePoint);
+			}
+		}
+		
+		return true;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,966 @@
+package com.jockie.bot.core.parser;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import com.jockie.bot.core.command.parser.ParseContext;
+import com.jockie.bot.core.parser.impl.discord.CategoryParser;
+import com.jockie.bot.core.parser.impl.discord.EmoteParser;
+import com.jockie.bot.core.parser.impl.discord.GuildChannelParser;
+import com.jockie.bot.core.parser.impl.discord.GuildParser;
+import com.jockie.bot.core.parser.impl.discord.MemberParser;
+import com.jockie.bot.core.parser.impl.discord.RoleParser;
+import com.jockie.bot.core.parser.impl.discord.TextChannelParser;
+import com.jockie.bot.core.parser.impl.discord.UserParser;
+import com.jockie.bot.core.parser.impl.discord.VoiceChannelParser;
+import com.jockie.bot.core.parser.impl.essential.BooleanParser;
+import com.jockie.bot.core.parser.impl.essential.ByteParser;
+import com.jockie.bot.core.parser.impl.essential.CharacterParser;
+import com.jockie.bot.core.parser.impl.essential.DoubleParser;
+import com.jockie.bot.core.parser.impl.essential.EnumParser;
+import com.jockie.bot.core.parser.impl.essential.FloatParser;
+import com.jockie.bot.core.parser.impl.essential.IntegerParser;
+import com.jockie.bot.core.parser.impl.essential.LongParser;
+import com.jockie.bot.core.parser.impl.essential.ShortParser;
+import com.jockie.bot.core.parser.impl.essential.StringParser;
+import com.jockie.bot.core.parser.impl.json.JSONArrayParser;
+import com.jockie.bot.core.parser.impl.json.JSONObjectParser;
+import com.jockie.bot.core.utility.CommandUtility;
+
+import net.dv8tion.jda.api.entities.Category;
+import net.dv8tion.jda.api.entities.Emote;
+import net.dv8tion.jda.api.entities.Guild;
+import net.dv8tion.jda.api.entities.GuildChannel;
+import net.dv8tion.jda.api.entities.Member;
+import net.dv8tion.jda.api.entities.Role;
+import net.dv8tion.jda.api.entities.TextChannel;
+import net.dv8tion.jda.api.entities.User;
+import net.dv8tion.jda.api.entities.VoiceChannel;
+import net.dv8tion.jda.internal.utils.Checks;
+
+/**
+ * The registry of parsers, before parsers and after parsers used by the argument and option factories, 
+ * each type's parser is compiled once together with its before and after parsers and then shared between 
+ * every component type
+ * <br><br>
+ * <b>NOTE:</b> The default argument and option factories are both backed by the {@link #getDefault() default registry}, 
+ * a parser registered through either of them is therefore used by both, a factory which should have parsers of its 
+ * own can be given a separate registry through its constructor
+ */
+public class ParserRegistry {
+	
+	private static final ParserRegistry DEFAULT = new ParserRegistry();
+	
+	/**
+	 * @return the registry shared by the default argument and option factories
+	 */
+	@Nonnull
+	public static ParserRegistry getDefault() {
+		return DEFAULT;
+	}
+	
+	/**
+	 * A parser compiled together with its before and after parsers, the parsers are stored in arrays 
+	 * which never change after the parser has been compiled so parsing does not have to iterate 
+	 * any sets and is safe to do concurrently
+	 */
+	protected static class CompiledParser<T, C> implements IParser<T, C> {
+		
+		protected final IParser<T, C> parser;
+		
+		protected final IBeforeParser<C>[] beforeParsers;
+		protected final IAfterParser<T, C>[] afterParsers;
+		
+		public CompiledParser(IParser<T, C> parser, IBeforeParser<C>[] beforeParsers, IAfterParser<T, C>[] afterParsers) {
+			this.parser = parser;
+			this.beforeParsers = beforeParsers;
+			this.afterParsers = afterParsers;
+		}
+		
+		@Override
+		public ParsedResult<T> parse(ParseContext context, C component, String content) {
+			content = this.parseBefore(context, component, content);
+			if(content == null) {
+				return new ParsedResult<T>(false, null);
+			}
+			
+			return CompiledParser.parseAfter(this.afterParsers, context, component, this.parser.parse(context, component, content));
+		}
+		
+		/**
+		 * @return the content the parser should be given or null if it is not valid
+		 */
+		protected String parseBefore(ParseContext context, C component, String content) {
+			if(this.beforeParsers.length == 0) {
+				return content;
+			}
+			
+			content = CompiledParser.parseBefore(this.beforeParsers, context, component, content);
+			
+			/* The guard applies to the content the parser is given, which is only known after the before parsers */
+			if(content == null || !ParserGuard.isPossible(this.parser, content)) {
+				return null;
+			}
+			
+			return content;
+		}
+		
+		@Override
+		public boolean isHandleAll() {
+			return this.parser.isHandleAll();
+		}
+		
+		@Override
+		public ParserGuard getGuard() {
+			/* The content is changed by the before parsers so the guard of the parser can not be checked beforehand */
+			return this.beforeParsers.length == 0 ? this.parser.getGuard() : null;
+		}
+		
+		/**
+		 * @return the modified content or null if any of the before parsers failed
+		 */
+		protected static <C> String parseBefore(IBeforeParser<C>[] beforeParsers, ParseContext context, C component, String content) {
+			for(int i = 0; i < beforeParsers.length; i++) {
+				ParsedResult<String> parsed = beforeParsers[i].parse(context, component, content);
+				if(!parsed.isValid()) {
+					return null;
+				}
+				
+				content = parsed.getObject();
+			}
+			
+			return content;
+		}
+		
+		protected static <T, C> ParsedResult<T> parseAfter(IAfterParser<T, C>[] afterParsers, ParseContext context, C component, ParsedResult<T> parsed) {
+			if(!parsed.isValid() || afterParsers.length == 0) {
+				return parsed;
+			}
+			
+			String contentLeft = parsed.getContentLeft();
+			
+			T object = parsed.getObject();
+			for(int i = 0; i < afterParsers.length; i++) {
+				parsed = afterParsers[i].parse(context, component, object);
+				if(!parsed.isValid()) {
+					return parsed;
+				}
+				
+				object = parsed.getObject();
+			}
+			
+			return new ParsedResult<T>(true, object, contentLeft);
+		}
+	}
+	
+	/**
+	 * A compiled {@link IAsyncParser}, the content is parsed asynchronously rather than awaited by the compiled parser
+	 */
+	protected static class CompiledAsyncParser<T, C> extends CompiledParser<T, C> implements IAsyncParser<T, C> {
+		
+		public CompiledAsyncParser(IAsyncParser<T, C> parser, IBeforeParser<C>[] beforeParsers, IAfterParser<T, C>[] afterParsers) {
+			super(parser, beforeParsers, afterParsers);
+		}
+		
+		@Override
+		public CompletableFuture<ParsedResult<T>> parseAsync(ParseContext context, C component, String content) {
+			content = this.parseBefore(context, component, content);
+			if(content == null) {
+				return CompletableFuture.completedFuture(new ParsedResult<>(false, null));
+			}
+			
+			return ((IAsyncParser<T, C>) this.parser).parseAsync(context, component, content)
+				.thenApply((parsed) -> CompiledParser.parseAfter(this.afterParsers, context, component, parsed));
+		}
+		
+		@Override
+		public long getTimeout() {
+			return ((IAsyncParser<T, C>) this.parser).getTimeout();
+		}
+	}
+	
+	/**
+	 * A compiled {@link IBatchParser}, only the contents which are valid after the before parsers are given to the parser
+	 */
+	protected static class CompiledBatchParser<T, C> extends CompiledAsyncParser<T, C> implements IBatchParser<T, C> {
+		
+		public CompiledBatchParser(IBatchParser<T, C> parser, IBeforeParser<C>[] beforeParsers, IAfterParser<T, C>[] afterParsers) {
+			super(parser, beforeParsers, afterParsers);
+		}
+		
+		@Override
+		public CompletableFuture<List<ParsedResult<T>>> parseAllAsync(ParseContext context, C component, List<String> contents) {
+			List<ParsedResult<T>> results = new ArrayList<>(contents.size());
+			
+			List<String> parsable = new ArrayList<>(contents.size());
+			int[] indexes = new int[contents.size()];
+			
+			for(int i = 0; i < contents.size(); i++) {
+				String content = this.parseBefore(context, component, contents.get(i));
+				if(content == null) {
+					results.add(new ParsedResult<>(false, null));
+					
+					continue;
+				}
+				
+				indexes[parsable.size()] = i;
+				parsable.add(content);
+				
+				/* Replaced once the content has been parsed */
+				results.add(null);
+			}
+			
+			if(parsable.isEmpty()) {
+				return CompletableFuture.completedFuture(results);
+			}
+			
+			return ((IBatchParser<T, C>) this.parser).parseAllAsync(context, component, parsable).thenApply((parsed) -> {
+				for(int i = 0; i < parsed.size(); i++) {
+					results.set(indexes[i], CompiledParser.parseAfter(this.afterParsers, context, component, parsed.get(i)));
+				}
+				
+				return results;
+			});
+		}
+		
+		@Override
+		public long getTimeout(int count) {
+			return ((IBatchParser<T, C>) this.parser).getTimeout(count);
+		}
+	}
+	
+	/**
+	 * A compiled {@link IIntParser}, the value is only boxed if there are after parsers
+	 */
+	protected static class CompiledIntParser<C> extends CompiledParser<Integer, C> implements IIntParser<C> {
+		
+		public CompiledIntParser(IIntParser<C> parser, IBeforeParser<C>[] beforeParsers, IAfterParser<Integer, C>[] afterParsers) {
+			super(parser, beforeParsers, afterParsers);
+		}
+		
+		@Override
+		public boolean parseInt(ParseContext context, C component, String content, PrimitiveResult result) {
+			content = this.parseBefore(context, component, content);
+			if(content == null) {
+				return false;
+			}
+			
+			if(this.afterParsers.length == 0) {
+				return ((IIntParser<C>) this.parser).parseInt(context, component, content, result);
+			}
+			
+			ParsedResult<Integer> parsed = CompiledParser.parseAfter(this.afterParsers, context, component, this.parser.parse(context, component, content));
+			if(!parsed.isValid() || parsed.getObject() == null) {
+				return false;
+			}
+			
+			result.setInt(parsed.getObject());
+			
+			return true;
+		}
+	}
+	
+	/**
+	 * A compiled {@link ILongParser}, the value is only boxed if there are after parsers
+	 */
+	protected static class CompiledLongParser<C> extends CompiledParser<Long, C> implements ILongParser<C> {
+		
+		public CompiledLongParser(ILongParser<C> parser, IBeforeParser<C>[] beforeParsers, IAfterParser<Long, C>[] afterParsers) {
+			super(parser, beforeParsers, afterParsers);
+		}
+		
+		@Override
+		public boolean parseLong(ParseContext context, C component, String content, PrimitiveResult result) {
+			content = this.parseBefore(context, component, content);
+			if(content == null) {
+				return false;
+			}
+			
+			if(this.afterParsers.length == 0) {
+				return ((ILongParser<C>) this.parser).parseLong(context, component, content, result);
+			}
+			
+			ParsedResult<Long> parsed = CompiledParser.parseAfter(this.afterParsers, context, component, this.parser.parse(context, component, content));
+			if(!parsed.isValid() || parsed.getObject() == null) {
+				return false;
+			}
+			
+			result.setLong(parsed.getObject());
+			
+			return true;
+		}
+	}
+	
+	/**
+	 * A compiled {@link IDoubleParser}, the value is only boxed if there are after parsers
+	 */
+	protected static class CompiledDoubleParser<C> extends CompiledParser<Double, C> implements IDoubleParser<C> {
+		
+		public CompiledDoubleParser(IDoubleParser<C> parser, IBeforeParser<C>[] beforeParsers, IAfterParser<Double, C>[] afterParsers) {
+			super(parser, beforeParsers, afterParsers);
+		}
+		
+		@Override
+		public boolean parseDouble(ParseContext context, C component, String content, PrimitiveResult result) {
+			content = this.parseBefore(context, component, content);
+			if(content == null) {
+				return false;
+			}
+			
+			if(this.afterParsers.length == 0) {
+				return ((IDoubleParser<C>) this.parser).parseDouble(context, component, content, result);
+			}
+			
+			ParsedResult<Double> parsed = CompiledParser.parseAfter(this.afterParsers, context, component, this.parser.parse(context, component, content));
+			if(!parsed.isValid() || parsed.getObject() == null) {
+				return false;
+			}
+			
+			result.setDouble(parsed.getObject());
+			
+			return true;
+		}
+	}
+	
+	/**
+	 * A generic parser compiled together with its before and after parsers, see {@link CompiledParser}
+	 */
+	protected static class CompiledGenericParser<T, C extends IParsableComponent<T, C>> implements IGenericParser<T, C> {
+		
+		protected final IGenericParser<T, C> parser;
+		
+		protected final IBeforeParser<C>[] beforeParsers;
+		protected final IAfterParser<T, C>[] afterParsers;
+		
+		public CompiledGenericParser(IGenericParser<T, C> parser, IBeforeParser<C>[] beforeParsers, IAfterParser<T, C>[] afterParsers) {
+			this.parser = parser;
+			this.beforeParsers = beforeParsers;
+			this.afterParsers = afterParsers;
+		}
+		
+		@Override
+		public ParsedResult<T> parse(ParseContext context, Class<T> type, C component, String content) {
+			if(this.beforeParsers.length > 0) {
+				content = CompiledParser.parseBefore(this.beforeParsers, context, component, content);
+				
+				/* The guard applies to the content the parser is given, which is only known after the before parsers */
+				if(content == null || !ParserGuard.isPossible(this.parser, content)) {
+					return new ParsedResult<T>(false, null);
+				}
+			}
+			
+			return CompiledParser.parseAfter(this.afterParsers, context, component, this.parser.parse(context, type, component, content));
+		}
+		
+		@Override
+		public boolean isHandleAll() {
+			return this.parser.isHandleAll();
+		}
+		
+		@Override
+		public ParserGuard getGuard() {
+			/* The content is changed by the before parsers so the guard of the parser can not be checked beforehand */
+			return this.beforeParsers.length == 0 ? this.parser.getGuard() : null;
+		}
+	}
+	
+	protected Map<Class<?>, IGenericParser<?, ?>> genericParsers = new ConcurrentHashMap<>();
+	
+	protected Map<Class<?>, IParser<?, ?>> parsers = new ConcurrentHashMap<>();
+	
+	protected Map<Class<?>, Set<IBeforeParser<?>>> beforeParsers = new ConcurrentHashMap<>();
+	protected Map<Class<?>, Set<IBeforeParser<?>>> genericBeforeParsers = new ConcurrentHashMap<>();
+	
+	protected Map<Class<?>, Set<IAfterParser<?, ?>>> afterParsers = new ConcurrentHashMap<>();
+	
+	/* The compiled parsers, these are re-compiled whenever their parser, before parsers or after parsers change */
+	protected Map<Class<?>, IParser<?, ?>> parserCache = new ConcurrentHashMap<>();
+	
+	/* The compiled generic parsers, these are compiled the first time they are requested as they apply to every sub-type */
+	protected Map<Class<?>, IGenericParser<?, ?>> genericParserCache = new ConcurrentHashMap<>();
+	
+	protected final ClassValue<Set<Class<?>>> extendedClasses = new ClassValue<Set<Class<?>>>() {
+		@Override
+		protected Set<Class<?>> computeValue(Class<?> type) {
+			Set<Class<?>> classes = new LinkedHashSet<>();
+			ParserRegistry.addExtendedClasses(classes, type);
+			
+			classes.add(Object.class);
+			return Collections.unmodifiableSet(classes);
+		}
+	};
+	
+	private final LongAdder cacheHits = new LongAdder();
+	private final LongAdder cacheMisses = new LongAdder();
+	private final LongAdder compilations = new LongAdder();
+	
+	public ParserRegistry() {
+		this.registerEssentialParsers();
+		this.registerDiscordParsers(true);
+		this.registerJSONParsers();
+	}
+	
+	/**
+	 * Register the essential parsers, see {@link com.jockie.bot.core.argument.factory.impl.ArgumentFactoryImpl#registerEssentialParsers()}
+	 * 
+	 * @return the {@link ParserRegistry} instance, useful for chaining
+	 */
+	@Nonnull
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	public ParserRegistry registerEssentialParsers() {
+		this.registerParser(Boolean.class, new BooleanParser<>());
+		this.registerParser(Byte.class, new ByteParser<>());
+		this.registerParser(Short.class, new ShortParser<>());
+		this.registerParser(Integer.class, new IntegerParser<>());
+		this.registerParser(Long.class, new LongParser<>());
+		this.registerParser(Float.class, new FloatParser<>());
+		this.registerParser(Double.class, new DoubleParser<>());
+		
+		this.registerParser(Character.class, new CharacterParser<>());
+		this.registerParser(String.class, new StringParser<>());
+		
+		this.registerGenericParser(Enum.class, new EnumParser());
+		
+		return this;
+	}
+	
+	/**
+	 * Register the Discord parsers, see {@link com.jockie.bot.core.argument.factory.impl.ArgumentFactoryImpl#registerDiscordParsers(boolean)}
+	 * 
+	 * @param useShardManager whether or not the user and guild parsers should use the shard manager
+	 * 
+	 * @return the {@link ParserRegistry} instance, useful for chaining
+	 */
+	@Nonnull
+	public ParserRegistry registerDiscordParsers(boolean useShardManager) {
+		this.registerParser(Member.class, new MemberParser<>());
+		this.registerParser(TextChannel.class, new TextChannelParser<>());
+		this.registerParser(VoiceChannel.class, new VoiceChannelParser<>());
+		this.registerParser(GuildChannel.class, new GuildChannelParser<>());
+		this.registerParser(Category.class, new CategoryParser<>());
+		this.registerParser(Role.class, new RoleParser<>());
+		this.registerParser(Emote.class, new EmoteParser<>());
+		this.registerParser(User.class, new UserParser<>(useShardManager));
+		this.registerParser(Guild.class, new GuildParser<>(useShardManager));
+		
+		return this;
+	}
+	
+	/**
+	 * Register the JSON parsers, see {@link com.jockie.bot.core.argument.factory.impl.ArgumentFactoryImpl#registerJSONParsers()}
+	 * 
+	 * @return the {@link ParserRegistry} instance, useful for chaining
+	 */
+	@Nonnull
+	public ParserRegistry registerJSONParsers() {
+		this.registerParser(JSONObject.class, new JSONObjectParser<>());
+		this.registerParser(JSONArray.class, new JSONArrayParser<>());
+		
+		return this;
+	}
+	
+	/**
+	 * Unregister the parsers registered through {@link #registerEssentialParsers()}
+	 * 
+	 * @return the {@link ParserRegistry} instance, useful for chaining
+	 */
+	@Nonnull
+	public ParserRegistry unregisterEssentialParsers() {
+		this.unregisterParser(Byte.class);
+		this.unregisterParser(Short.class);
+		this.unregisterParser(Integer.class);
+		this.unregisterParser(Long.class);
+		this.unregisterParser(Float.class);
+		this.unregisterParser(Double.class);
+		this.unregisterParser(Boolean.class);
+		this.unregisterParser(Character.class);
+		this.unregisterParser(String.class);
+		this.unregisterGenericParser(Enum.class);
+		
+		return this;
+	}
+	
+	/**
+	 * Unregister the parsers registered through {@link #registerDiscordParsers(boolean)}
+	 * 
+	 * @return the {@link ParserRegistry} instance, useful for chaining
+	 */
+	@Nonnull
+	public ParserRegistry unregisterDiscordParsers() {
+		this.unregisterParser(Member.class);
+		this.unregisterParser(TextChannel.class);
+		this.unregisterParser(VoiceChannel.class);
+		this.unregisterParser(GuildChannel.class);
+		this.unregisterParser(Category.class);
+		this.unregisterParser(Role.class);
+		this.unregisterParser(Emote.class);
+		this.unregisterParser(User.class);
+		this.unregisterParser(Guild.class);
+		
+		return this;
+	}
+	
+	/**
+	 * Unregister the parsers registered through {@link #registerJSONParsers()}
+	 * 
+	 * @return the {@link ParserRegistry} instance, useful for chaining
+	 */
+	@Nonnull
+	public ParserRegistry unregisterJSONParsers() {
+		this.unregisterParser(JSONObject.class);
+		this.unregisterParser(JSONArray.class);
+		
+		return this;
+	}
+	
+	@SuppressWarnings("unchecked")
+	public <T> Class<T> convertType(@Nullable Class<T> type) {
+		if(type == null) {
+			return null;
+		}
+		
+		if(type.isPrimitive()) {
+			type = (Class<T>) CommandUtility.getBoxedClass(type);
+		}
+		
+		return type;
+	}
+	
+	private static void addExtendedClasses(Set<Class<?>> classes, Class<?> type) {
+		Class<?> superClass = type.getSuperclass();
+		if(superClass != null) {
+			classes.add(superClass);
+		}
+		
+		for(Class<?> superInterface : type.getInterfaces()) {
+			classes.add(superInterface);
+		}
+		
+		if(superClass != null) {
+			ParserRegistry.addExtendedClasses(classes, superClass);
+		}
+		
+		for(Class<?> superInterface : type.getInterfaces()) {
+			ParserRegistry.addExtendedClasses(classes, superInterface);
+		}
+	}
+	
+	/**
+	 * @param type the type to get the extended classes for
+	 * 
+	 * @return every class and interface the provided type extends, ending with {@link Object}
+	 */
+	@Nonnull
+	public Set<Class<?>> getExtendedClasses(@Nonnull Class<?> type) {
+		Checks.notNull(type, "type");
+		
+		return this.extendedClasses.get(type);
+	}
+	
+	@Nonnull
+	public synchronized <T> ParserRegistry registerGenericParser(@Nonnull Class<T> type, @Nonnull IGenericParser<T, ?> parser) {
+		Checks.notNull(type, "type");
+		Checks.notNull(parser, "parser");
+		
+		this.genericParsers.put(this.convertType(type), parser);
+		this.genericParserCache.clear();
+		
+		return this;
+	}
+	
+	@Nonnull
+	public synchronized ParserRegistry unregisterGenericParser(@Nullable Class<?> type) {
+		if(type != null && this.genericParsers.remove(this.convertType(type)) != null) {
+			this.genericParserCache.clear();
+		}
+		
+		return this;
+	}
+	
+	@Nonnull
+	public synchronized <T> ParserRegistry registerParser(@Nonnull Class<T> type, @Nonnull IParser<T, ?> parser) {
+		Checks.notNull(type, "type");
+		Checks.notNull(parser, "parser");
+		
+		this.parsers.put(type = this.convertType(type), parser);
+		this.compileParser(type);
+		
+		return this;
+	}
+	
+	@Nonnull
+	public synchronized ParserRegistry unregisterParser(@Nullable Class<?> type) {
+		if(type != null) {
+			this.parsers.remove(type = this.convertType(type));
+			this.compileParser(type);
+		}
+		
+		return this;
+	}
+	
+	@SuppressWarnings("unchecked")
+	protected <T, C> IBeforeParser<C>[] getBeforeParsers(Class<T> type) {
+		Set<IBeforeParser<?>> beforeParsers = new LinkedHashSet<>();
+		
+		for(Class<?> superClass : this.getExtendedClasses(type)) {
+			Set<IBeforeParser<?>> parsers = this.genericBeforeParsers.get(superClass);
+			if(parsers != null) {
+				beforeParsers.addAll(parsers);
+			}
+		}
+		
+		Set<IBeforeParser<?>> parsers = this.beforeParsers.get(type);
+		if(parsers != null) {
+			beforeParsers.addAll(parsers);
+		}
+		
+		return beforeParsers.toArray((IBeforeParser<C>[]) new IBeforeParser<?>[0]);
+	}
+	
+	@SuppressWarnings("unchecked")
+	protected <T, C> IAfterParser<T, C>[] getAfterParsers(Class<T> type) {
+		Set<IAfterParser<?, ?>> parsers = this.afterParsers.get(type);
+		if(parsers != null) {
+			return parsers.toArray((IAfterParser<T, C>[]) new IAfterParser<?, ?>[0]);
+		}
+		
+		return (IAfterParser<T, C>[]) new IAfterParser<?, ?>[0];
+	}
+	
+	/* 
+	 * TODO: Currently handle all does not support before parsers due to the conflicting nature of the two
+	 * 
+	 * Clarification:
+	 * There's no way to determine what content the before parser should get, you could give it all the content
+	 * but then you risk it modifying content which it should not be modifying, take the given String,
+	 * "{"hello": "there"} hello there", and give this to the JSONObject parser with a registered before parser
+	 * which makes every character uppercase for that component, the result would be "{"HELLO": "THERE"} HELLO THERE",
+	 * and then once it gets to the parser the only content which will be handled is the "{"HELLO": "THERE"}" leaving
+	 * the "HELLO THERE" modified without any directive to do so.
+	 * 
+	 * Solutions:
+	 * A possible solution to this would be to take the length of the content left and subtract that with the previous
+	 * length and then revert any characters after that and in most cases this would be a valid solution, however,
+	 * nothing says that the parser must return what is left, instead it could return anything, exclude or include
+	 * characters.
+	 * 
+	 * It is also possible to change the implementation of the handle all, so that it handles the String before anything
+	 * else and then returns the handled String, however, this would cause extra work as it would practically need to handle
+	 * it twice. Example, you give it "{"hello": "there"} hello there" and before anything else it parsers this and
+	 * determines that "{"hello": "there"}" is the part it wants and returns that, after this the before parsers are handled
+	 * and then the component is parsed and returned as the JSONObject.
+	 * 
+	 * Another solution would be to change the handle all so that you "take" characters from it and once a character is taken
+	 * it is removed from the String, this would work in a situation like "{"hello": "there"} hello there", because you know
+	 * that the JSON definitely ends at the "}", not sure if there are any situations where you would need to have access to
+	 * the entire thing, but this seems like the best solution to fixing this (this would be used in combination with solution 1.)
+	 */
+	@SuppressWarnings("unchecked")
+	protected <T, C> IParser<T, C> compileParser(IParser<T, C> parser, Class<T> type) {
+		IBeforeParser<C>[] beforeParsers;
+		if(!parser.isHandleAll()) {
+			beforeParsers = this.getBeforeParsers(type);
+		}else{
+			beforeParsers = (IBeforeParser<C>[]) new IBeforeParser<?>[0];
+		}
+		
+		IAfterParser<T, C>[] afterParsers = this.getAfterParsers(type);
+		if(beforeParsers.length == 0 && afterParsers.length == 0) {
+			return parser;
+		}
+		
+		/*
+		 * TODO: This is probably not the best way to handle this
+		 * but it is definitely the easiest.
+		 * 
+		 * This would not handle if the before or after parsers where changed or added afterwards
+		 * for components which have already been created.
+		 * Is it worth supporting that by getting the parsers inside of parsing method?
+		 * Doing so may could slow down the execution.
+		 * 
+		 * We would also need to return this for every parser in that case, since
+		 * they could register after or before parsers at any time which would require
+		 * it to be using this.
+		 * 
+		 * Currently normal parsers suffer from the same kind of issue, since you can not
+		 * register a new parser and have all the components use that new parser.
+		 */
+		/* The capabilities of the parser are kept so the fast paths, such as primitive and batch parsing, still apply */
+		if(parser instanceof IBatchParser) {
+			return new CompiledBatchParser<>((IBatchParser<T, C>) parser, beforeParsers, afterParsers);
+		}else if(parser instanceof IAsyncParser) {
+			return new CompiledAsyncParser<>((IAsyncParser<T, C>) parser, beforeParsers, afterParsers);
+		}else if(parser instanceof IIntParser) {
+			return (IParser<T, C>) new CompiledIntParser<>((IIntParser<C>) parser, beforeParsers, (IAfterParser<Integer, C>[]) (IAfterParser<?, ?>[]) afterParsers);
+		}else if(parser instanceof ILongParser) {
+			return (IParser<T, C>) new CompiledLongParser<>((ILongParser<C>) parser, beforeParsers, (IAfterParser<Long, C>[]) (IAfterParser<?, ?>[]) afterParsers);
+		}else if(parser instanceof IDoubleParser) {
+			return (IParser<T, C>) new CompiledDoubleParser<>((IDoubleParser<C>) parser, beforeParsers, (IAfterParser<Double, C>[]) (IAfterParser<?, ?>[]) afterParsers);
+		}
+		
+		return new CompiledParser<>(parser, beforeParsers, afterParsers);
+	}
+	
+	/**
+	 * Compile the parser of the provided type, this has to be called whenever the parser,
+	 * the before parsers or the after parsers of the type change
+	 * 
+	 * @param type the type to compile the parser for
+	 */
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	protected synchronized void compileParser(Class<?> type) {
+		if(type == null) {
+			return;
+		}
+		
+		IParser parser = this.parsers.get(type);
+		if(parser != null) {
+			this.parserCache.put(type, this.compileParser(parser, type));
+			this.compilations.increment();
+		}else{
+			this.parserCache.remove(type);
+		}
+		
+		this.genericParserCache.remove(type);
+	}
+	
+	/**
+	 * Compile the parsers of every type, this has to be called whenever something
+	 * which could affect more than one type changes, such as the generic before parsers
+	 */
+	protected synchronized void compileParsers() {
+		for(Class<?> type : this.parsers.keySet()) {
+			this.compileParser(type);
+		}
+		
+		this.genericParserCache.clear();
+	}
+	
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	protected synchronized <T, C extends IParsableComponent<T, C>> IGenericParser<T, C> compileGenericParser(Class<T> type) {
+		IGenericParser<T, C> compiled = (IGenericParser<T, C>) this.genericParserCache.get(type);
+		if(compiled != null) {
+			return compiled;
+		}
+		
+		for(Class<?> superClass : this.getExtendedClasses(type)) {
+			IGenericParser<T, C> parser = (IGenericParser<T, C>) this.genericParsers.get(superClass);
+			if(parser == null) {
+				continue;
+			}
+			
+			IBeforeParser<C>[] beforeParsers;
+			if(!parser.isHandleAll()) {
+				beforeParsers = this.getBeforeParsers(type);
+			}else{
+				beforeParsers = (IBeforeParser<C>[]) new IBeforeParser<?>[0];
+			}
+			
+			IAfterParser<T, C>[] afterParsers = this.getAfterParsers(type);
+			if(beforeParsers.length != 0 || afterParsers.length != 0) {
+				parser = new CompiledGenericParser<>(parser, beforeParsers, afterParsers);
+			}
+			
+			this.genericParserCache.put(type, parser);
+			this.compilations.increment();
+			
+			return parser;
+		}
+		
+		return null;
+	}
+	
+	/**
+	 * @param type the type to get the generic parser for
+	 * 
+	 * @return the compiled generic parser which handles the provided type or null if there is none
+	 */
+	@Nullable
+	@SuppressWarnings("unchecked")
+	public <T, C extends IParsableComponent<T, C>> IGenericParser<T, C> getGenericParser(@Nullable Class<T> type) {
+		type = this.convertType(type);
+		if(type == null) {
+			return null;
+		}
+		
+		IGenericParser<T, C> parser = (IGenericParser<T, C>) this.genericParserCache.get(type);
+		if(parser != null) {
+			this.cacheHits.increment();
+			
+			return parser;
+		}
+		
+		this.cacheMisses.increment();
+		
+		return this.compileGenericParser(type);
+	}
+	
+	/**
+	 * @param type the type to get the parser for
+	 * 
+	 * @return the compiled parser of the provided type or null if there is none
+	 */
+	@Nullable
+	@SuppressWarnings("unchecked")
+	public <T, C> IParser<T, C> getParser(@Nullable Class<T> type) {
+		type = this.convertType(type);
+		if(type == null) {
+			return null;
+		}
+		
+		IParser<T, C> parser = (IParser<T, C>) this.parserCache.get(type);
+		if(parser != null) {
+			this.cacheHits.increment();
+		}else{
+			this.cacheMisses.increment();
+		}
+		
+		return parser;
+	}
+	
+	@Nonnull
+	public synchronized <T> ParserRegistry addParserBefore(@Nonnull Class<T> type, @Nonnull IBeforeParser<?> parser) {
+		Checks.notNull(type, "type");
+		Checks.notNull(parser, "parser");
+		
+		this.beforeParsers.computeIfAbsent(type = this.convertType(type), (key) -> new LinkedHashSet<>()).add(parser);
+		
+		this.compileParser(type);
+		
+		return this;
+	}
+	
+	@Nonnull
+	public synchronized ParserRegistry removeParserBefore(@Nullable Class<?> type, @Nullable IBeforeParser<?> parser) {
+		type = this.convertType(type);
+		
+		Set<IBeforeParser<?>> parsers = type != null ? this.beforeParsers.get(type) : null;
+		if(parsers != null && parsers.remove(parser)) {
+			this.compileParser(type);
+		}
+		
+		return this;
+	}
+	
+	@Nonnull
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	public synchronized <T> List<T> getParsersBefore(@Nullable Class<?> type) {
+		type = this.convertType(type);
+		
+		Set<IBeforeParser<?>> parsers = type != null ? this.beforeParsers.get(type) : null;
+		if(parsers != null) {
+			return new ArrayList<>((Set<T>) (Set) parsers);
+		}
+		
+		return Collections.emptyList();
+	}
+	
+	@Nonnull
+	public synchronized <T> ParserRegistry addGenericParserBefore(@Nonnull Class<T> type, @Nonnull IBeforeParser<?> parser) {
+		Checks.notNull(type, "type");
+		Checks.notNull(parser, "parser");
+		
+		this.genericBeforeParsers.computeIfAbsent(this.convertType(type), (key) -> new LinkedHashSet<>()).add(parser);
+		
+		this.compileParsers();
+		
+		return this;
+	}
+	
+	@Nonnull
+	public synchronized ParserRegistry removeGenericParserBefore(@Nullable Class<?> type, @Nullable IBeforeParser<?> parser) {
+		type = this.convertType(type);
+		
+		Set<IBeforeParser<?>> parsers = type != null ? this.genericBeforeParsers.get(type) : null;
+		if(parsers != null && parsers.remove(parser)) {
+			this.compileParsers();
+		}
+		
+		return this;
+	}
+	
+	@Nonnull
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	public synchronized <T> List<T> getGenericParsersBefore(@Nullable Class<?> type) {
+		type = this.convertType(type);
+		
+		Set<IBeforeParser<?>> parsers = type != null ? this.genericBeforeParsers.get(type) : null;
+		if(parsers != null) {
+			return new ArrayList<>((Set<T>) (Set) parsers);
+		}
+		
+		return Collections.emptyList();
+	}
+	
+	@Nonnull
+	public synchronized <T> ParserRegistry addParserAfter(@Nonnull Class<T> type, @Nonnull IAfterParser<T, ?> parser) {
+		Checks.notNull(type, "type");
+		Checks.notNull(parser, "parser");
+		
+		this.afterParsers.computeIfAbsent(type = this.convertType(type), (key) -> new LinkedHashSet<>()).add(parser);
+		
+		this.compileParser(type);
+		
+		return this;
+	}
+	
+	@Nonnull
+	public synchronized ParserRegistry removeParserAfter(@Nullable Class<?> type, @Nullable IAfterParser<?, ?> parser) {
+		type = this.convertType(type);
+		
+		Set<IAfterParser<?, ?>> parsers = type != null ? this.afterParsers.get(type) : null;
+		if(parsers != null && parsers.remove(parser)) {
+			this.compileParser(type);
+		}
+		
+		return this;
+	}
+	
+	@Nonnull
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	public synchronized <T> List<T> getParsersAfter(@Nullable Class<?> type) {
+		type = this.convertType(type);
+		
+		Set<IAfterParser<?, ?>> parsers = type != null ? this.afterParsers.get(type) : null;
+		if(parsers != null) {
+			return new ArrayList<>((Set<T>) (Set) parsers);
+		}
+		
+		return Collections.emptyList();
+	}
+	
+	/**
+	 * @return the number of parser lookups which were served by an already compiled parser
+	 */
+	public long getCacheHits() {
+		return this.cacheHits.sum();
+	}
+	
+	/**
+	 * @return the number of parser lookups which did not have a compiled parser, 
+	 * either because there was no parser for the type or because the generic parser had to be compiled
+	 */
+	public long getCacheMisses() {
+		return this.cacheMisses.sum();
+	}
+	
+	/**
+	 * @return the number of times a parser has been compiled
+	 */
+	public long getCompilations() {
+		return this.compilations.sum();
+	}
+}
\ No newline at end of file
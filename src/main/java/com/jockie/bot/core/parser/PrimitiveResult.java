@@ -0,0 +1,67 @@
+package com.jockie.bot.core.parser;
+
+/**
+ * A mutable carrier for the result of a primitive parser, such as {@link IIntParser}, 
+ * this allows a primitive value to be parsed without having to box it or allocate a {@link ParsedResult}
+ * <br><br>
+ * <b>NOTE:</b> A result is not thread-safe and is meant to be re-used by a single parse at a time
+ */
+public class PrimitiveResult {
+	
+	private long longValue;
+	private double doubleValue;
+	
+	/**
+	 * @param value the parsed int
+	 * 
+	 * @return the {@link PrimitiveResult} instance, useful for chaining
+	 */
+	public PrimitiveResult setInt(int value) {
+		this.longValue = value;
+		
+		return this;
+	}
+	
+	/**
+	 * @return the parsed int
+	 */
+	public int getInt() {
+		return (int) this.longValue;
+	}
+	
+	/**
+	 * @param value the parsed long
+	 * 
+	 * @return the {@link PrimitiveResult} instance, useful for chaining
+	 */
+	public PrimitiveResult setLong(long value) {
+		this.longValue = value;
+		
+		return this;
+	}
+	
+	/**
+	 * @return the parsed long
+	 */
+	public long getLong() {
+		return this.longValue;
+	}
+	
+	/**
+	 * @param value the parsed double
+	 * 
+	 * @return the {@link PrimitiveResult} instance, useful for chaining
+	 */
+	public PrimitiveResult setDouble(double value) {
+		this.doubleValue = value;
+		
+		return this;
+	}
+	
+	/**
+	 * @return the parsed double
+	 */
+	public double getDouble() {
+		return this.doubleValue;
+	}
+}
\ No newline at end of file
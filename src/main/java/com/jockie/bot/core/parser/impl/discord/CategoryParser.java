@@ -2,23 +2,61 @@ package com.jockie.bot.core.parser.impl.discord;
 
 import java.util.List;
 
-import com.jockie.bot.core.command.parser.ParseContext;
-import com.jockie.bot.core.parser.IParser;
-import com.jockie.bot.core.parser.ParsedResult;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import com.jockie.bot.core.cache.EntityIndex;
+import com.jockie.bot.core.cache.GuildEntityIndex;
+import com.jockie.bot.core.cache.NameIndex;
+import com.jockie.bot.core.parser.ParserGuard;
 import com.jockie.bot.core.utility.ArgumentUtility;
 
 import net.dv8tion.jda.api.entities.Category;
+import net.dv8tion.jda.api.entities.Guild;
 
-public class CategoryParser<Component> implements IParser<Category, Component> {
-
+public class CategoryParser<Component> extends GuildEntityParser<Category, Component> {
+	
+	/**
+	 * Only allows ids and names which are at most 100 characters
+	 */
+	public static final ParserGuard GUARD = ParserGuard.ofLength(1, 100);
+	
+	public CategoryParser() {
+		super();
+	}
+	
+	/**
+	 * @param index the index to look up categories in, if this is null the category cache of the guild will be scanned instead
+	 */
+	public CategoryParser(@Nullable EntityIndex index) {
+		super(index);
+	}
+	
+	/**
+	 * @param index the index to look up categories in
+	 * @param prefixSearch whether or not the category whose name starts with the content should be used 
+	 * if there is no exact match, this is only done if there is exactly one such category
+	 */
+	public CategoryParser(@Nonnull EntityIndex index, boolean prefixSearch) {
+		super(index, prefixSearch);
+	}
+	
 	@Override
-	public ParsedResult<Category> parse(ParseContext context, Component component, String content) {
-		List<Category> categories = ArgumentUtility.getCategoriesByIdOrName(context.getMessage().getGuild(), content, true);
-		
-		if(categories.size() == 1) {
-			return new ParsedResult<>(true, categories.get(0));
-		}else{
-			return new ParsedResult<>(false, null);
+	protected List<Category> getByIdOrName(Guild guild, String content, GuildEntityIndex index) {
+		if(index == null) {
+			return ArgumentUtility.getCategoriesByIdOrName(guild, content, true);
 		}
-	}	
+		
+		return ArgumentUtility.getCategoriesByIdOrName(guild, content, true, index);
+	}
+	
+	@Override
+	protected NameIndex<Category> getNameIndex(Guild guild, GuildEntityIndex index) {
+		return index.getCategories(guild);
+	}
+	
+	@Override
+	public ParserGuard getGuard() {
+		return GUARD;
+	}
 }
\ No newline at end of file
@@ -2,23 +2,61 @@ package com.jockie.bot.core.parser.impl.discord;
 
 import java.util.List;
 
-import com.jockie.bot.core.command.parser.ParseContext;
-import com.jockie.bot.core.parser.IParser;
-import com.jockie.bot.core.parser.ParsedResult;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import com.jockie.bot.core.cache.EntityIndex;
+import com.jockie.bot.core.cache.GuildEntityIndex;
+import com.jockie.bot.core.cache.NameIndex;
+import com.jockie.bot.core.parser.ParserGuard;
 import com.jockie.bot.core.utility.ArgumentUtility;
 
 import net.dv8tion.jda.api.entities.Emote;
+import net.dv8tion.jda.api.entities.Guild;
 
-public class EmoteParser<Component> implements IParser<Emote, Component> {
-
+public class EmoteParser<Component> extends GuildEntityParser<Emote, Component> {
+	
+	/**
+	 * Only allows ids, mentions (at most 57 characters) and names which are between 2 and 32 characters
+	 */
+	public static final ParserGuard GUARD = ParserGuard.ofLength(2, 57);
+	
+	public EmoteParser() {
+		super();
+	}
+	
+	/**
+	 * @param index the index to look up emotes in, if this is null the emote cache of the guild will be scanned instead
+	 */
+	public EmoteParser(@Nullable EntityIndex index) {
+		super(index);
+	}
+	
+	/**
+	 * @param index the index to look up emotes in
+	 * @param prefixSearch whether or not the emote whose name starts with the content should be used 
+	 * if there is no exact match, this is only done if there is exactly one such emote
+	 */
+	public EmoteParser(@Nonnull EntityIndex index, boolean prefixSearch) {
+		super(index, prefixSearch);
+	}
+	
 	@Override
-	public ParsedResult<Emote> parse(ParseContext context, Component component, String content) {
-		List<Emote> emotes = ArgumentUtility.getEmotesByIdOrName(context.getMessage().getGuild(), content, true);
-		
-		if(emotes.size() == 1) {
-			return new ParsedResult<>(true, emotes.get(0));
-		}else{
-			return new ParsedResult<>(false, null);
+	protected List<Emote> getByIdOrName(Guild guild, String content, GuildEntityIndex index) {
+		if(index == null) {
+			return ArgumentUtility.getEmotesByIdOrName(guild, content, true);
 		}
-	}	
+		
+		return ArgumentUtility.getEmotesByIdOrName(guild, content, true, index);
+	}
+	
+	@Override
+	protected NameIndex<Emote> getNameIndex(Guild guild, GuildEntityIndex index) {
+		return index.getEmotes(guild);
+	}
+	
+	@Override
+	public ParserGuard getGuard() {
+		return GUARD;
+	}
 }
\ No newline at end of file
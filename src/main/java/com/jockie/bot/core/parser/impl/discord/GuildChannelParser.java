@@ -6,6 +6,7 @@ import java.util.List;
 import com.jockie.bot.core.command.parser.ParseContext;
 import com.jockie.bot.core.parser.IParser;
 import com.jockie.bot.core.parser.ParsedResult;
+import com.jockie.bot.core.parser.ParserGuard;
 import com.jockie.bot.core.utility.ArgumentUtility;
 
 import net.dv8tion.jda.api.entities.Guild;
@@ -13,6 +14,11 @@ import net.dv8tion.jda.api.entities.GuildChannel;
 
 /* Even though Category technically does implement Channel I do not want it to be a part of the Channel argument, objections? */
 public class GuildChannelParser<Component> implements IParser<GuildChannel, Component> {
+	
+	/**
+	 * Only allows ids, mentions and names which are at most 100 characters
+	 */
+	public static final ParserGuard GUARD = ParserGuard.ofLength(1, 100);
 
 	@Override
 	public ParsedResult<GuildChannel> parse(ParseContext context, Component component, String content) {
@@ -28,5 +34,10 @@ public class GuildChannelParser<Component> implements IParser<GuildChannel, Comp
 		}else{
 			return new ParsedResult<>(false, null);
 		}
-	}	
+	}
+	
+	@Override
+	public ParserGuard getGuard() {
+		return GUARD;
+	}
 }
\ No newline at end of file
@@ -0,0 +1,128 @@
+package com.jockie.bot.core.parser.impl.discord;
+
+import java.util.List;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import com.jockie.bot.core.cache.EntityIndex;
+import com.jockie.bot.core.cache.GuildEntityIndex;
+import com.jockie.bot.core.cache.NameIndex;
+import com.jockie.bot.core.command.parser.ParseContext;
+import com.jockie.bot.core.parser.IParser;
+import com.jockie.bot.core.parser.ParsedResult;
+
+import net.dv8tion.jda.api.entities.Guild;
+import net.dv8tion.jda.api.entities.Message;
+import net.dv8tion.jda.internal.utils.Checks;
+
+/**
+ * The base of the parsers for entities which belong to a guild and are looked up by their mention, id or name, 
+ * such as roles and channels, the entities are looked up in an {@link EntityIndex} if there is one 
+ * and otherwise by scanning the cache of the guild
+ */
+public abstract class GuildEntityParser<Type, Component> implements IParser<Type, Component> {
+	
+	protected final EntityIndex index;
+	
+	protected final boolean prefixSearch;
+	
+	public GuildEntityParser() {
+		this(null);
+	}
+	
+	/**
+	 * @param index the index to look up entities in, if this is null the cache of the guild will be scanned instead
+	 */
+	public GuildEntityParser(@Nullable EntityIndex index) {
+		this.index = index;
+		this.prefixSearch = false;
+	}
+	
+	/**
+	 * @param index the index to look up entities in
+	 * @param prefixSearch whether or not the entity whose name starts with the content should be used 
+	 * if there is no exact match, this is only done if there is exactly one such entity
+	 */
+	public GuildEntityParser(@Nonnull EntityIndex index, boolean prefixSearch) {
+		Checks.notNull(index, "index");
+		
+		this.index = index;
+		this.prefixSearch = prefixSearch;
+	}
+	
+	/**
+	 * @return the index entities are looked up in, may be null
+	 */
+	@Nullable
+	public EntityIndex getIndex() {
+		return this.index;
+	}
+	
+	/**
+	 * @return whether or not the entity whose name starts with the content is used if there is no exact match
+	 */
+	public boolean isPrefixSearch() {
+		return this.prefixSearch;
+	}
+	
+	/**
+	 * @param message the message which is being parsed
+	 * @param content the content to parse
+	 * 
+	 * @return the entity mentioned by the content, null if the content is not a mention of an entity in the message
+	 * or if the entity can not be mentioned
+	 */
+	@Nullable
+	protected Type getMentioned(@Nonnull Message message, @Nonnull String content) {
+		return null;
+	}
+	
+	/**
+	 * @param guild the guild to look up the entities in
+	 * @param content the id or name of the entities
+	 * @param index the index of the guild, if this is null the cache of the guild should be scanned instead
+	 * 
+	 * @return the entities with the provided id or name, ignoring case
+	 */
+	@Nonnull
+	protected abstract List<Type> getByIdOrName(@Nonnull Guild guild, @Nonnull String content, @Nullable GuildEntityIndex index);
+	
+	/**
+	 * @param guild the guild of the index
+	 * @param index the index of the guild
+	 * 
+	 * @return the name index of this parser's entities, used for prefix searches
+	 */
+	@Nonnull
+	protected abstract NameIndex<Type> getNameIndex(@Nonnull Guild guild, @Nonnull GuildEntityIndex index);
+	
+	@Override
+	public ParsedResult<Type> parse(ParseContext context, Component component, String content) {
+		Type mentioned = this.getMentioned(context.getMessage(), content);
+		if(mentioned != null) {
+			return new ParsedResult<>(true, mentioned);
+		}
+		
+		Guild guild = context.getMessage().getGuild();
+		
+		GuildEntityIndex guildIndex = this.index != null ? this.index.getIndex(guild) : null;
+		
+		List<Type> entities = this.getByIdOrName(guild, content, guildIndex);
+		if(entities.size() == 1) {
+			return new ParsedResult<>(true, entities.get(0));
+		}
+		
+		if(entities.size() > 1 || !this.prefixSearch || guildIndex == null) {
+			return new ParsedResult<>(false, null);
+		}
+		
+		/* Only two are needed to know whether or not the content is ambiguous */
+		entities = this.getNameIndex(guild, guildIndex).searchByPrefix(content, 2);
+		if(entities.size() == 1) {
+			return new ParsedResult<>(true, entities.get(0));
+		}
+		
+		return new ParsedResult<>(false, null);
+	}
+}
\ No newline at end of file
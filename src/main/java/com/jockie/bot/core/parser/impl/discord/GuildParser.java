@@ -2,9 +2,13 @@ package com.jockie.bot.core.parser.impl.discord;
 
 import java.util.List;
 
+import javax.annotation.Nullable;
+
+import com.jockie.bot.core.cache.GuildIndex;
 import com.jockie.bot.core.command.parser.ParseContext;
 import com.jockie.bot.core.parser.IParser;
 import com.jockie.bot.core.parser.ParsedResult;
+import com.jockie.bot.core.parser.ParserGuard;
 import com.jockie.bot.core.utility.ArgumentUtility;
 
 import net.dv8tion.jda.api.AccountType;
@@ -14,10 +18,37 @@ import net.dv8tion.jda.api.sharding.ShardManager;
 
 public class GuildParser<Component> implements IParser<Guild, Component> {
 	
+	/**
+	 * Only allows ids and names which are between 2 and 100 characters
+	 */
+	public static final ParserGuard GUARD = ParserGuard.ofLength(2, 100);
+	
 	private boolean useShardManager;
 	
+	protected final GuildIndex index;
+	
 	public GuildParser(boolean useShardManager) {
+		this(useShardManager, null);
+	}
+	
+	/**
+	 * @param useShardManager whether or not the shard-manager (if one is present)
+	 * should be used when parsing
+	 * @param index the index to look up guild names in, this should be created for the shard manager 
+	 * if useShardManager is true, if this is null the guild cache will be scanned instead. 
+	 * When the shard manager is not used the results of the index are limited to the guilds of the message's JDA instance
+	 */
+	public GuildParser(boolean useShardManager, @Nullable GuildIndex index) {
 		this.useShardManager = useShardManager;
+		this.index = index;
+	}
+	
+	/**
+	 * @return the index guild names are looked up in, may be null
+	 */
+	@Nullable
+	public GuildIndex getIndex() {
+		return this.index;
 	}
 	
 	/**
@@ -48,12 +79,20 @@ public class GuildParser<Component> implements IParser<Guild, Component> {
 		if(this.useShardManager && jda.getAccountType().equals(AccountType.BOT)) {
 			ShardManager shardManager = jda.getShardManager();
 			if(shardManager != null) {
-				guilds = ArgumentUtility.getGuildsByIdOrName(shardManager, content, true);
+				if(this.index != null) {
+					guilds = ArgumentUtility.getGuildsByIdOrName(shardManager, content, true, this.index);
+				}else{
+					guilds = ArgumentUtility.getGuildsByIdOrName(shardManager, content, true);
+				}
 			}
 		}
 		
 		if(guilds == null) {
-			guilds = ArgumentUtility.getGuildsByIdOrName(jda, content, true);
+			if(this.index != null) {
+				guilds = ArgumentUtility.getGuildsByIdOrName(jda, content, true, this.index);
+			}else{
+				guilds = ArgumentUtility.getGuildsByIdOrName(jda, content, true);
+			}
 		}
 		
 		if(guilds.size() == 1) {
@@ -61,5 +100,10 @@ public class GuildParser<Component> implements IParser<Guild, Component> {
 		}else{
 			return new ParsedResult<>(false, null);
 		}
-	}	
+	}
+	
+	@Override
+	public ParserGuard getGuard() {
+		return GUARD;
+	}
 }
\ No newline at end of file
@@ -1,24 +1,354 @@
 package com.jockie.bot.core.parser.impl.discord;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import com.jockie.bot.core.cache.GuildMemberIndex;
+import com.jockie.bot.core.cache.MemberIndex;
+import com.jockie.bot.core.cache.RetrievalCache;
 import com.jockie.bot.core.command.parser.ParseContext;
-import com.jockie.bot.core.parser.IParser;
+import com.jockie.bot.core.parser.IAsyncParser;
+import com.jockie.bot.core.parser.IBatchParser;
 import com.jockie.bot.core.parser.ParsedResult;
+import com.jockie.bot.core.parser.ParserGuard;
 import com.jockie.bot.core.utility.ArgumentUtility;
 
+import net.dv8tion.jda.api.entities.Guild;
 import net.dv8tion.jda.api.entities.Member;
+import net.dv8tion.jda.api.entities.Message.MentionType;
+import net.dv8tion.jda.api.requests.ErrorResponse;
+import net.dv8tion.jda.internal.utils.Checks;
+import net.dv8tion.jda.internal.utils.tuple.Pair;
 
-public class MemberParser<Component> implements IParser<Member, Component> {
-
+public class MemberParser<Component> implements IBatchParser<Member, Component> {
+	
+	/**
+	 * Only allows ids, mentions, tags (32 + 5 characters) and names which are at most 32 characters
+	 */
+	public static final ParserGuard GUARD = ParserGuard.ofLength(1, 37);
+	
+	/**
+	 * How the content is matched against the names of the members, 
+	 * every mode other than {@link #EXACT} requires a {@link MemberIndex}
+	 */
+	public static enum SearchMode {
+		/** Only ids, mentions, tags and effective names which match exactly (ignoring case) */
+		EXACT,
+		/** If there is no exact match, the member whose name or effective name starts with the content */
+		PREFIX,
+		/** If there is no exact or prefix match, the member whose name or effective name is the closest by edit distance */
+		FUZZY;
+	}
+	
+	/**
+	 * The default maximum edit distance for {@link SearchMode#FUZZY}
+	 */
+	public static final int DEFAULT_MAX_DISTANCE = 2;
+	
+	/* The maximum amount of members which can be requested in one member chunk request */
+	private static final int MAX_CHUNK_SIZE = 100;
+	
+	protected final MemberIndex index;
+	
+	protected final SearchMode searchMode;
+	
+	protected final int maxDistance;
+	
+	/* Keyed by the id of the guild and the id of the member */
+	protected RetrievalCache<Pair<Long, Long>, Member> retrievalCache;
+	
+	public MemberParser() {
+		this(null);
+	}
+	
+	/**
+	 * @param index the index to look up members in, if this is null the member cache of the guild will be scanned instead
+	 */
+	public MemberParser(@Nullable MemberIndex index) {
+		this.index = index;
+		this.searchMode = SearchMode.EXACT;
+		this.maxDistance = DEFAULT_MAX_DISTANCE;
+	}
+	
+	/**
+	 * @param index the index to look up members in
+	 * @param searchMode how the content should be matched against the names of the members
+	 */
+	public MemberParser(@Nonnull MemberIndex index, @Nonnull SearchMode searchMode) {
+		this(index, searchMode, DEFAULT_MAX_DISTANCE);
+	}
+	
+	/**
+	 * @param index the index to look up members in
+	 * @param searchMode how the content should be matched against the names of the members
+	 * @param maxDistance the maximum edit distance between the content and a name for {@link SearchMode#FUZZY}
+	 */
+	public MemberParser(@Nonnull MemberIndex index, @Nonnull SearchMode searchMode, int maxDistance) {
+		Checks.notNull(index, "index");
+		Checks.notNull(searchMode, "searchMode");
+		Checks.notNegative(maxDistance, "maxDistance");
+		
+		this.index = index;
+		this.searchMode = searchMode;
+		this.maxDistance = maxDistance;
+	}
+	
+	/**
+	 * @return how the content is matched against the names of the members
+	 */
+	@Nonnull
+	public SearchMode getSearchMode() {
+		return this.searchMode;
+	}
+	
+	/**
+	 * @return the maximum edit distance between the content and a name for {@link SearchMode#FUZZY}
+	 */
+	public int getMaxDistance() {
+		return this.maxDistance;
+	}
+	
+	/**
+	 * @return the index members are looked up in, may be null
+	 */
+	@Nullable
+	public MemberIndex getIndex() {
+		return this.index;
+	}
+	
+	/**
+	 * @return the cache used to retrieve members which are not cached from Discord, 
+	 * may be null if members are not retrieved
+	 */
+	@Nullable
+	public RetrievalCache<Pair<Long, Long>, Member> getRetrievalCache() {
+		return this.retrievalCache;
+	}
+	
+	/**
+	 * Set the cache used to retrieve members from Discord when they are looked up by id or mention
+	 * but are not in the member cache, this is useful when member caching is disabled. 
+	 * Concurrent retrievals of the same member are coalesced into one request and members which 
+	 * do not exist are remembered for a short amount of time
+	 * <br><br>
+	 * <b>NOTE:</b> Retrieving members blocks the thread parsing the command until Discord has responded, 
+	 * see {@link IAsyncParser} and {@link com.jockie.bot.core.command.impl.CommandListener#setAsyncParsing(boolean)}
+	 * 
+	 * @param retrievalCache the cache, null if members should not be retrieved
+	 * 
+	 * @return the {@link MemberParser} instance, useful for chaining
+	 */
+	@Nonnull
+	public MemberParser<Component> setRetrievalCache(@Nullable RetrievalCache<Pair<Long, Long>, Member> retrievalCache) {
+		this.retrievalCache = retrievalCache;
+		
+		return this;
+	}
+	
+	@Override
+	public CompletableFuture<ParsedResult<Member>> parseAsync(ParseContext context, Component component, String content) {
+		ParsedResult<Member> parsed = this.parseCached(context, component, content);
+		
+		RetrievalCache<Pair<Long, Long>, Member> retrievalCache = this.retrievalCache;
+		if(parsed.isValid() || retrievalCache == null) {
+			return CompletableFuture.completedFuture(parsed);
+		}
+		
+		long id = ArgumentUtility.getId(content, MentionType.USER);
+		if(id == -1L) {
+			return CompletableFuture.completedFuture(parsed);
+		}
+		
+		Guild guild = context.getMessage().getGuild();
+		
+		return retrievalCache.retrieve(Pair.of(guild.getIdLong(), id), (key) -> {
+			return ArgumentUtility.submitOrNull(guild.retrieveMemberById(id), ErrorResponse.UNKNOWN_MEMBER, ErrorResponse.UNKNOWN_USER);
+		}).thenApply((member) -> new ParsedResult<>(member != null, member))
+			/* A failed retrieval, such as being rate limited, a server error or missing access, only means that the content could not be resolved */
+			.exceptionally((failure) -> new ParsedResult<>(false, null));
+	}
+	
+	/**
+	 * Parses every content from the mentions of the message and the member cache first, 
+	 * every id or mention which could not be found is then retrieved together (if there is a {@link #getRetrievalCache() retrieval cache}) 
+	 * through member chunk requests of up to 100 members, if those fail, for instance because of missing intents, 
+	 * the members are retrieved one by one with a bounded amount of requests in progress at a time
+	 */
 	@Override
-	public ParsedResult<Member> parse(ParseContext context, Component component, String content) {
-		List<Member> members = ArgumentUtility.getMembersByIdOrName(context.getMessage().getGuild(), content, true);
+	public CompletableFuture<List<ParsedResult<Member>>> parseAllAsync(ParseContext context, Component component, List<String> contents) {
+		List<ParsedResult<Member>> results = new ArrayList<>(contents.size());
+		
+		RetrievalCache<Pair<Long, Long>, Member> retrievalCache = this.retrievalCache;
+		Guild guild = context.getMessage().getGuild();
+		
+		long[] missing = new long[contents.size()];
+		int missingCount = 0;
+		
+		for(int i = 0; i < contents.size(); i++) {
+			String content = contents.get(i);
+			
+			ParsedResult<Member> parsed = this.parseCached(context, component, content);
+			results.add(parsed);
+			
+			missing[i] = -1L;
+			if(!parsed.isValid() && retrievalCache != null) {
+				missing[i] = ArgumentUtility.getId(content, MentionType.USER);
+				if(missing[i] != -1L) {
+					missingCount++;
+				}
+			}
+		}
+		
+		if(missingCount == 0) {
+			return CompletableFuture.completedFuture(results);
+		}
+		
+		List<Pair<Long, Long>> keys = new ArrayList<>(missingCount);
+		for(long id : missing) {
+			if(id != -1L) {
+				keys.add(Pair.of(guild.getIdLong(), id));
+			}
+		}
+		
+		return retrievalCache.retrieveAll(keys, (retrieve) -> MemberParser.retrieveMembers(guild, retrieve)).thenApply((members) -> {
+			for(int i = 0; i < missing.length; i++) {
+				if(missing[i] == -1L) {
+					continue;
+				}
+				
+				Member member = members.get(Pair.of(guild.getIdLong(), missing[i]));
+				if(member != null) {
+					results.set(i, new ParsedResult<>(true, member));
+				}
+			}
+			
+			return results;
+		});
+	}
+	
+	/**
+	 * The timeout is scaled with the amount of contents since the members may have to be retrieved one by one
+	 */
+	@Override
+	public long getTimeout(int count) {
+		return this.getTimeout() * Math.max(1, (count + RetrievalCache.DEFAULT_PARALLELISM - 1) / RetrievalCache.DEFAULT_PARALLELISM);
+	}
+	
+	private static CompletableFuture<Map<Pair<Long, Long>, Member>> retrieveMembers(Guild guild, List<Pair<Long, Long>> keys) {
+		long[] ids = new long[keys.size()];
+		for(int i = 0; i < ids.length; i++) {
+			ids[i] = keys.get(i).getRight();
+		}
 		
+		List<CompletableFuture<List<Member>>> chunks = new ArrayList<>();
+		try {
+			for(int i = 0; i < ids.length; i += MAX_CHUNK_SIZE) {
+				CompletableFuture<List<Member>> chunk = new CompletableFuture<>();
+				guild.retrieveMembersByIds(Arrays.copyOfRange(ids, i, Math.min(i + MAX_CHUNK_SIZE, ids.length)))
+					.onSuccess(chunk::complete)
+					.onError(chunk::completeExceptionally);
+				
+				chunks.add(chunk);
+			}
+		}catch(RuntimeException e) {
+			chunks.add(CompletableFuture.failedFuture(e));
+		}
+		
+		return CompletableFuture.allOf(chunks.toArray(new CompletableFuture<?>[0])).handle((ignored, failure) -> {
+			if(failure != null) {
+				return null;
+			}
+			
+			/* Every requested member which was not returned could not be found */
+			Map<Pair<Long, Long>, Member> members = new HashMap<>();
+			for(Pair<Long, Long> key : keys) {
+				members.put(key, null);
+			}
+			
+			for(CompletableFuture<List<Member>> chunk : chunks) {
+				for(Member member : chunk.join()) {
+					members.put(Pair.of(guild.getIdLong(), member.getIdLong()), member);
+				}
+			}
+			
+			return members;
+		}).thenCompose((members) -> {
+			if(members != null) {
+				return CompletableFuture.completedFuture(members);
+			}
+			
+			return RetrievalCache.retrieveEach(keys, RetrievalCache.DEFAULT_PARALLELISM, (key) -> {
+				return ArgumentUtility.submitOrNull(guild.retrieveMemberById(key.getRight()), ErrorResponse.UNKNOWN_MEMBER, ErrorResponse.UNKNOWN_USER);
+			});
+		});
+	}
+	
+	/**
+	 * Parse the content using only the mentions of the message and the member cache
+	 * 
+	 * @param context the context
+	 * @param component the component this parser is attached to
+	 * @param content the content to parse
+	 * 
+	 * @return the parsed member
+	 */
+	@Nonnull
+	protected ParsedResult<Member> parseCached(ParseContext context, Component component, String content) {
+		Member mentioned = ArgumentUtility.getMentionedMember(context.getMessage(), content);
+		if(mentioned != null) {
+			return new ParsedResult<>(true, mentioned);
+		}
+		
+		Guild guild = context.getMessage().getGuild();
+		
+		if(this.index == null) {
+			List<Member> members = ArgumentUtility.getMembersByIdOrName(guild, content, true);
+			if(members.size() == 1) {
+				return new ParsedResult<>(true, members.get(0));
+			}
+			
+			return new ParsedResult<>(false, null);
+		}
+		
+		GuildMemberIndex guildIndex = this.index.getIndex(guild);
+		
+		List<Member> members = ArgumentUtility.getMembersByIdOrName(guild, content, true, guildIndex);
+		if(members.size() == 1) {
+			return new ParsedResult<>(true, members.get(0));
+		}
+		
+		/* Multiple members match exactly, searching further would not make it any less ambiguous */
+		if(members.size() > 1 || this.searchMode == SearchMode.EXACT) {
+			return new ParsedResult<>(false, null);
+		}
+		
+		/* Only two are needed to know whether or not the content is ambiguous */
+		members = guildIndex.searchByPrefix(content, 2);
 		if(members.size() == 1) {
 			return new ParsedResult<>(true, members.get(0));
-		}else{
+		}
+		
+		if(members.size() > 1 || this.searchMode == SearchMode.PREFIX) {
 			return new ParsedResult<>(false, null);
 		}
-	}	
+		
+		List<GuildMemberIndex.Match> matches = guildIndex.search(content, this.maxDistance, 2);
+		if(matches.size() == 1 || (matches.size() == 2 && matches.get(0).getDistance() < matches.get(1).getDistance())) {
+			return new ParsedResult<>(true, matches.get(0).getMember());
+		}
+		
+		return new ParsedResult<>(false, null);
+	}
+	
+	@Override
+	public ParserGuard getGuard() {
+		return GUARD;
+	}
 }
\ No newline at end of file
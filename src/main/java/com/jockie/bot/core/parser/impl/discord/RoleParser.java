@@ -2,23 +2,67 @@ package com.jockie.bot.core.parser.impl.discord;
 
 import java.util.List;
 
-import com.jockie.bot.core.command.parser.ParseContext;
-import com.jockie.bot.core.parser.IParser;
-import com.jockie.bot.core.parser.ParsedResult;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import com.jockie.bot.core.cache.EntityIndex;
+import com.jockie.bot.core.cache.GuildEntityIndex;
+import com.jockie.bot.core.cache.NameIndex;
+import com.jockie.bot.core.parser.ParserGuard;
 import com.jockie.bot.core.utility.ArgumentUtility;
 
+import net.dv8tion.jda.api.entities.Guild;
+import net.dv8tion.jda.api.entities.Message;
 import net.dv8tion.jda.api.entities.Role;
 
-public class RoleParser<Component> implements IParser<Role, Component> {
-
+public class RoleParser<Component> extends GuildEntityParser<Role, Component> {
+	
+	/**
+	 * Only allows ids, mentions and names which are at most 100 characters
+	 */
+	public static final ParserGuard GUARD = ParserGuard.ofLength(1, 100);
+	
+	public RoleParser() {
+		super();
+	}
+	
+	/**
+	 * @param index the index to look up roles in, if this is null the role cache of the guild will be scanned instead
+	 */
+	public RoleParser(@Nullable EntityIndex index) {
+		super(index);
+	}
+	
+	/**
+	 * @param index the index to look up roles in
+	 * @param prefixSearch whether or not the role whose name starts with the content should be used 
+	 * if there is no exact match, this is only done if there is exactly one such role
+	 */
+	public RoleParser(@Nonnull EntityIndex index, boolean prefixSearch) {
+		super(index, prefixSearch);
+	}
+	
 	@Override
-	public ParsedResult<Role> parse(ParseContext context, Component component, String content) {
-		List<Role> roles = ArgumentUtility.getRolesByIdOrName(context.getMessage().getGuild(), content, true);
-		
-		if(roles.size() == 1) {
-			return new ParsedResult<>(true, roles.get(0));
-		}else{
-			return new ParsedResult<>(false, null);
+	protected Role getMentioned(Message message, String content) {
+		return ArgumentUtility.getMentionedRole(message, content);
+	}
+	
+	@Override
+	protected List<Role> getByIdOrName(Guild guild, String content, GuildEntityIndex index) {
+		if(index == null) {
+			return ArgumentUtility.getRolesByIdOrName(guild, content, true);
 		}
-	}	
+		
+		return ArgumentUtility.getRolesByIdOrName(guild, content, true, index);
+	}
+	
+	@Override
+	protected NameIndex<Role> getNameIndex(Guild guild, GuildEntityIndex index) {
+		return index.getRoles(guild);
+	}
+	
+	@Override
+	public ParserGuard getGuard() {
+		return GUARD;
+	}
 }
\ No newline at end of file
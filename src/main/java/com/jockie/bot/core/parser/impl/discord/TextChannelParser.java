@@ -2,23 +2,67 @@ package com.jockie.bot.core.parser.impl.discord;
 
 import java.util.List;
 
-import com.jockie.bot.core.command.parser.ParseContext;
-import com.jockie.bot.core.parser.IParser;
-import com.jockie.bot.core.parser.ParsedResult;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import com.jockie.bot.core.cache.EntityIndex;
+import com.jockie.bot.core.cache.GuildEntityIndex;
+import com.jockie.bot.core.cache.NameIndex;
+import com.jockie.bot.core.parser.ParserGuard;
 import com.jockie.bot.core.utility.ArgumentUtility;
 
+import net.dv8tion.jda.api.entities.Guild;
+import net.dv8tion.jda.api.entities.Message;
 import net.dv8tion.jda.api.entities.TextChannel;
 
-public class TextChannelParser<Component> implements IParser<TextChannel, Component> {
-
+public class TextChannelParser<Component> extends GuildEntityParser<TextChannel, Component> {
+	
+	/**
+	 * Only allows ids, mentions and names which are at most 100 characters
+	 */
+	public static final ParserGuard GUARD = ParserGuard.ofLength(1, 100);
+	
+	public TextChannelParser() {
+		super();
+	}
+	
+	/**
+	 * @param index the index to look up text channels in, if this is null the text channel cache of the guild will be scanned instead
+	 */
+	public TextChannelParser(@Nullable EntityIndex index) {
+		super(index);
+	}
+	
+	/**
+	 * @param index the index to look up text channels in
+	 * @param prefixSearch whether or not the text channel whose name starts with the content should be used 
+	 * if there is no exact match, this is only done if there is exactly one such text channel
+	 */
+	public TextChannelParser(@Nonnull EntityIndex index, boolean prefixSearch) {
+		super(index, prefixSearch);
+	}
+	
 	@Override
-	public ParsedResult<TextChannel> parse(ParseContext context, Component component, String content) {
-		List<TextChannel> channels = ArgumentUtility.getTextChannelsByIdOrName(context.getMessage().getGuild(), content, true);
-		
-		if(channels.size() == 1) {
-			return new ParsedResult<>(true, channels.get(0));
-		}else{
-			return new ParsedResult<>(false, null);
+	protected TextChannel getMentioned(Message message, String content) {
+		return ArgumentUtility.getMentionedTextChannel(message, content);
+	}
+	
+	@Override
+	protected List<TextChannel> getByIdOrName(Guild guild, String content, GuildEntityIndex index) {
+		if(index == null) {
+			return ArgumentUtility.getTextChannelsByIdOrName(guild, content, true);
 		}
-	}	
+		
+		return ArgumentUtility.getTextChannelsByIdOrName(guild, content, true, index);
+	}
+	
+	@Override
+	protected NameIndex<TextChannel> getNameIndex(Guild guild, GuildEntityIndex index) {
+		return index.getTextChannels(guild);
+	}
+	
+	@Override
+	public ParserGuard getGuard() {
+		return GUARD;
+	}
 }
\ No newline at end of file
@@ -1,23 +1,62 @@
 package com.jockie.bot.core.parser.impl.discord;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import com.jockie.bot.core.cache.RetrievalCache;
+import com.jockie.bot.core.cache.UserIndex;
 import com.jockie.bot.core.command.parser.ParseContext;
-import com.jockie.bot.core.parser.IParser;
+import com.jockie.bot.core.parser.IAsyncParser;
+import com.jockie.bot.core.parser.IBatchParser;
 import com.jockie.bot.core.parser.ParsedResult;
+import com.jockie.bot.core.parser.ParserGuard;
 import com.jockie.bot.core.utility.ArgumentUtility;
 
 import net.dv8tion.jda.api.AccountType;
 import net.dv8tion.jda.api.JDA;
+import net.dv8tion.jda.api.entities.Message.MentionType;
 import net.dv8tion.jda.api.entities.User;
+import net.dv8tion.jda.api.requests.ErrorResponse;
 import net.dv8tion.jda.api.sharding.ShardManager;
 
-public class UserParser<Component> implements IParser<User, Component> {
+public class UserParser<Component> implements IBatchParser<User, Component> {
+	
+	/**
+	 * Only allows ids, mentions, tags (32 + 5 characters) and names which are between 2 and 32 characters
+	 */
+	public static final ParserGuard GUARD = ParserGuard.ofLength(2, 37);
 	
 	private boolean useShardManager;
 	
+	protected final UserIndex index;
+	
+	protected RetrievalCache<Long, User> retrievalCache;
+	
 	public UserParser(boolean useShardManager) {
+		this(useShardManager, null);
+	}
+	
+	/**
+	 * @param useShardManager whether or not the shard-manager (if one is present)
+	 * should be used when parsing
+	 * @param index the index to look up users in, this should be created for the shard manager 
+	 * if useShardManager is true, if this is null the user cache will be scanned instead
+	 */
+	public UserParser(boolean useShardManager, @Nullable UserIndex index) {
 		this.useShardManager = useShardManager;
+		this.index = index;
+	}
+	
+	/**
+	 * @return the index users are looked up in, may be null
+	 */
+	@Nullable
+	public UserIndex getIndex() {
+		return this.index;
 	}
 	
 	/**
@@ -40,20 +79,156 @@ public class UserParser<Component> implements IParser<User, Component> {
 		return this;
 	}
 	
+	/**
+	 * @return the cache used to retrieve users which are not cached from Discord, 
+	 * may be null if users are not retrieved
+	 */
+	@Nullable
+	public RetrievalCache<Long, User> getRetrievalCache() {
+		return this.retrievalCache;
+	}
+	
+	/**
+	 * Set the cache used to retrieve users from Discord when they are looked up by id or mention
+	 * but are not in the user cache. Concurrent retrievals of the same user are coalesced into one request 
+	 * and users which do not exist are remembered for a short amount of time
+	 * <br><br>
+	 * <b>NOTE:</b> Retrieving users blocks the thread parsing the command until Discord has responded, 
+	 * see {@link IAsyncParser} and {@link com.jockie.bot.core.command.impl.CommandListener#setAsyncParsing(boolean)}
+	 * 
+	 * @param retrievalCache the cache, null if users should not be retrieved
+	 * 
+	 * @return the {@link UserParser} instance, useful for chaining
+	 */
+	@Nonnull
+	public UserParser<Component> setRetrievalCache(@Nullable RetrievalCache<Long, User> retrievalCache) {
+		this.retrievalCache = retrievalCache;
+		
+		return this;
+	}
+	
+	@Override
+	public CompletableFuture<ParsedResult<User>> parseAsync(ParseContext context, Component component, String content) {
+		ParsedResult<User> parsed = this.parseCached(context, component, content);
+		
+		RetrievalCache<Long, User> retrievalCache = this.retrievalCache;
+		if(parsed.isValid() || retrievalCache == null) {
+			return CompletableFuture.completedFuture(parsed);
+		}
+		
+		long id = ArgumentUtility.getId(content, MentionType.USER);
+		if(id == -1L) {
+			return CompletableFuture.completedFuture(parsed);
+		}
+		
+		JDA jda = context.getMessage().getJDA();
+		
+		return retrievalCache.retrieve(id, (key) -> {
+			return ArgumentUtility.submitOrNull(jda.retrieveUserById(id), ErrorResponse.UNKNOWN_USER);
+		}).thenApply((user) -> new ParsedResult<>(user != null, user))
+			/* A failed retrieval, such as being rate limited, a server error or missing access, only means that the content could not be resolved */
+			.exceptionally((failure) -> new ParsedResult<>(false, null));
+	}
+	
+	/**
+	 * Parses every content from the mentions of the message and the user cache first, 
+	 * every id or mention which could not be found is then retrieved (if there is a {@link #getRetrievalCache() retrieval cache}) 
+	 * with a bounded amount of requests in progress at a time
+	 */
 	@Override
-	public ParsedResult<User> parse(ParseContext context, Component component, String content) {
+	public CompletableFuture<List<ParsedResult<User>>> parseAllAsync(ParseContext context, Component component, List<String> contents) {
+		List<ParsedResult<User>> results = new ArrayList<>(contents.size());
+		
+		RetrievalCache<Long, User> retrievalCache = this.retrievalCache;
+		
+		long[] missing = new long[contents.size()];
+		List<Long> keys = new ArrayList<>();
+		
+		for(int i = 0; i < contents.size(); i++) {
+			String content = contents.get(i);
+			
+			ParsedResult<User> parsed = this.parseCached(context, component, content);
+			results.add(parsed);
+			
+			missing[i] = -1L;
+			if(!parsed.isValid() && retrievalCache != null) {
+				missing[i] = ArgumentUtility.getId(content, MentionType.USER);
+				if(missing[i] != -1L) {
+					keys.add(missing[i]);
+				}
+			}
+		}
+		
+		if(keys.isEmpty()) {
+			return CompletableFuture.completedFuture(results);
+		}
+		
+		JDA jda = context.getMessage().getJDA();
+		
+		return retrievalCache.retrieveAll(keys, (retrieve) -> {
+			return RetrievalCache.retrieveEach(retrieve, RetrievalCache.DEFAULT_PARALLELISM, (id) -> {
+				return ArgumentUtility.submitOrNull(jda.retrieveUserById(id), ErrorResponse.UNKNOWN_USER);
+			});
+		}).thenApply((users) -> {
+			for(int i = 0; i < missing.length; i++) {
+				if(missing[i] == -1L) {
+					continue;
+				}
+				
+				User user = users.get(missing[i]);
+				if(user != null) {
+					results.set(i, new ParsedResult<>(true, user));
+				}
+			}
+			
+			return results;
+		});
+	}
+	
+	/**
+	 * The timeout is scaled with the amount of contents since the users are retrieved one by one
+	 */
+	@Override
+	public long getTimeout(int count) {
+		return this.getTimeout() * Math.max(1, (count + RetrievalCache.DEFAULT_PARALLELISM - 1) / RetrievalCache.DEFAULT_PARALLELISM);
+	}
+	
+	/**
+	 * Parse the content using only the mentions of the message and the user cache
+	 * 
+	 * @param context the context
+	 * @param component the component this parser is attached to
+	 * @param content the content to parse
+	 * 
+	 * @return the parsed user
+	 */
+	@Nonnull
+	protected ParsedResult<User> parseCached(ParseContext context, Component component, String content) {
+		User mentioned = ArgumentUtility.getMentionedUser(context.getMessage(), content);
+		if(mentioned != null) {
+			return new ParsedResult<>(true, mentioned);
+		}
+		
 		JDA jda = context.getMessage().getJDA();
 		
 		List<User> users = null;
 		if(this.useShardManager && jda.getAccountType().equals(AccountType.BOT)) {
 			ShardManager shardManager = jda.getShardManager();
 			if(shardManager != null) {
-				users = ArgumentUtility.getUsersByIdOrName(shardManager, content, true);
+				if(this.index != null) {
+					users = ArgumentUtility.getUsersByIdOrName(shardManager, content, true, this.index);
+				}else{
+					users = ArgumentUtility.getUsersByIdOrName(shardManager, content, true);
+				}
 			}
 		}
 		
 		if(users == null) {
-			users = ArgumentUtility.getUsersByIdOrName(jda, content, true);
+			if(this.index != null) {
+				users = ArgumentUtility.getUsersByIdOrName(jda, content, true, this.index);
+			}else{
+				users = ArgumentUtility.getUsersByIdOrName(jda, content, true);
+			}
 		}
 		
 		if(users.size() == 1) {
@@ -61,5 +236,10 @@ public class UserParser<Component> implements IParser<User, Component> {
 		}else{
 			return new ParsedResult<>(false, null);
 		}
-	}	
+	}
+	
+	@Override
+	public ParserGuard getGuard() {
+		return GUARD;
+	}
 }
\ No newline at end of file
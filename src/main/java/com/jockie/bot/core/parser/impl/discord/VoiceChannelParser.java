@@ -2,23 +2,61 @@ package com.jockie.bot.core.parser.impl.discord;
 
 import java.util.List;
 
-import com.jockie.bot.core.command.parser.ParseContext;
-import com.jockie.bot.core.parser.IParser;
-import com.jockie.bot.core.parser.ParsedResult;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import com.jockie.bot.core.cache.EntityIndex;
+import com.jockie.bot.core.cache.GuildEntityIndex;
+import com.jockie.bot.core.cache.NameIndex;
+import com.jockie.bot.core.parser.ParserGuard;
 import com.jockie.bot.core.utility.ArgumentUtility;
 
+import net.dv8tion.jda.api.entities.Guild;
 import net.dv8tion.jda.api.entities.VoiceChannel;
 
-public class VoiceChannelParser<Component> implements IParser<VoiceChannel, Component> {
-
+public class VoiceChannelParser<Component> extends GuildEntityParser<VoiceChannel, Component> {
+	
+	/**
+	 * Only allows ids and names which are at most 100 characters
+	 */
+	public static final ParserGuard GUARD = ParserGuard.ofLength(1, 100);
+	
+	public VoiceChannelParser() {
+		super();
+	}
+	
+	/**
+	 * @param index the index to look up voice channels in, if this is null the voice channel cache of the guild will be scanned instead
+	 */
+	public VoiceChannelParser(@Nullable EntityIndex index) {
+		super(index);
+	}
+	
+	/**
+	 * @param index the index to look up voice channels in
+	 * @param prefixSearch whether or not the voice channel whose name starts with the content should be used 
+	 * if there is no exact match, this is only done if there is exactly one such voice channel
+	 */
+	public VoiceChannelParser(@Nonnull EntityIndex index, boolean prefixSearch) {
+		super(index, prefixSearch);
+	}
+	
 	@Override
-	public ParsedResult<VoiceChannel> parse(ParseContext context, Component component, String content) {
-		List<VoiceChannel> channels = ArgumentUtility.getVoiceChannelsByIdOrName(context.getMessage().getGuild(), content, true);
-		
-		if(channels.size() == 1) {
-			return new ParsedResult<>(true, channels.get(0));
-		}else{
-			return new ParsedResult<>(false, null);
+	protected List<VoiceChannel> getByIdOrName(Guild guild, String content, GuildEntityIndex index) {
+		if(index == null) {
+			return ArgumentUtility.getVoiceChannelsByIdOrName(guild, content, true);
 		}
-	}	
+		
+		return ArgumentUtility.getVoiceChannelsByIdOrName(guild, content, true, index);
+	}
+	
+	@Override
+	protected NameIndex<VoiceChannel> getNameIndex(Guild guild, GuildEntityIndex index) {
+		return index.getVoiceChannels(guild);
+	}
+	
+	@Override
+	public ParserGuard getGuard() {
+		return GUARD;
+	}
 }
\ No newline at end of file
@@ -0,0 +1,50 @@
+package com.jockie.bot.core.parser.impl.essential;
+
+import javax.annotation.Nonnull;
+
+import com.jockie.bot.core.parser.IParser;
+import com.jockie.bot.core.utility.NumberScanner;
+
+/**
+ * The base of the number parsers, numbers are scanned through a {@link NumberScanner} 
+ * with the flags of the parser
+ * <br><br>
+ * <b>NOTE:</b> A {@link NumberScanner} is not thread-safe, each thread parsing through 
+ * this parser is therefore given its own scanner which is re-used for every parse. 
+ * The primitive parsers also override parse to scan the content directly, the default 
+ * would need a new PrimitiveResult for every parse
+ */
+public abstract class AbstractNumberParser<Type extends Number, Component> implements IParser<Type, Component> {
+	
+	protected final int flags;
+	
+	private final ThreadLocal<NumberScanner> scanner;
+	
+	public AbstractNumberParser() {
+		this(0);
+	}
+	
+	/**
+	 * @param flags the {@link NumberScanner} flags, such as {@link NumberScanner#THOUSANDS_SEPARATORS} 
+	 * and {@link NumberScanner#SUFFIXES}, which should be allowed when parsing
+	 */
+	public AbstractNumberParser(int flags) {
+		this.flags = flags;
+		this.scanner = ThreadLocal.withInitial(() -> new NumberScanner(flags));
+	}
+	
+	/**
+	 * @return the {@link NumberScanner} flags this parser uses
+	 */
+	public int getFlags() {
+		return this.flags;
+	}
+	
+	/**
+	 * @return the {@link NumberScanner} of the current thread, this has the flags of this parser
+	 */
+	@Nonnull
+	protected NumberScanner getScanner() {
+		return this.scanner.get();
+	}
+}
\ No newline at end of file
@@ -1,17 +1,30 @@
 package com.jockie.bot.core.parser.impl.essential;
 
 import com.jockie.bot.core.command.parser.ParseContext;
-import com.jockie.bot.core.parser.IParser;
 import com.jockie.bot.core.parser.ParsedResult;
+import com.jockie.bot.core.utility.NumberScanner;
 
-public class ByteParser<Component> implements IParser<Byte, Component> {
-
+public class ByteParser<Component> extends AbstractNumberParser<Byte, Component> {
+	
+	public ByteParser() {
+		super();
+	}
+	
+	/**
+	 * @param flags the {@link NumberScanner} flags, such as {@link NumberScanner#THOUSANDS_SEPARATORS} 
+	 * and {@link NumberScanner#SUFFIXES}, which should be allowed when parsing
+	 */
+	public ByteParser(int flags) {
+		super(flags);
+	}
+	
 	@Override
 	public ParsedResult<Byte> parse(ParseContext context, Component component, String content) {
-		try {
-			return new ParsedResult<>(true, Byte.parseByte(content));
-		}catch(NumberFormatException e) {
+		NumberScanner scanner = this.getScanner();
+		if(!scanner.scanLong(content, Byte.MIN_VALUE, Byte.MAX_VALUE)) {
 			return new ParsedResult<>(false, null);
 		}
+		
+		return new ParsedResult<>(true, (byte) scanner.getLong());
 	}
 }
\ No newline at end of file
@@ -1,17 +1,44 @@
 package com.jockie.bot.core.parser.impl.essential;
 
 import com.jockie.bot.core.command.parser.ParseContext;
-import com.jockie.bot.core.parser.IParser;
+import com.jockie.bot.core.parser.IDoubleParser;
 import com.jockie.bot.core.parser.ParsedResult;
+import com.jockie.bot.core.parser.PrimitiveResult;
+import com.jockie.bot.core.utility.NumberScanner;
 
-public class DoubleParser<Component> implements IParser<Double, Component> {
-
+public class DoubleParser<Component> extends AbstractNumberParser<Double, Component> implements IDoubleParser<Component> {
+	
+	public DoubleParser() {
+		super();
+	}
+	
+	/**
+	 * @param flags the {@link NumberScanner} flags, such as {@link NumberScanner#THOUSANDS_SEPARATORS} 
+	 * and {@link NumberScanner#SUFFIXES}, which should be allowed when parsing
+	 */
+	public DoubleParser(int flags) {
+		super(flags);
+	}
+	
+	@Override
+	public boolean parseDouble(ParseContext context, Component component, String content, PrimitiveResult result) {
+		NumberScanner scanner = this.getScanner();
+		if(!scanner.scanDouble(content)) {
+			return false;
+		}
+		
+		result.setDouble(scanner.getDouble());
+		
+		return true;
+	}
+	
 	@Override
 	public ParsedResult<Double> parse(ParseContext context, Component component, String content) {
-		try {
-			return new ParsedResult<>(true, Double.parseDouble(content));
-		}catch(NumberFormatException e) {
+		NumberScanner scanner = this.getScanner();
+		if(!scanner.scanDouble(content)) {
 			return new ParsedResult<>(false, null);
 		}
+		
+		return new ParsedResult<>(true, scanner.getDouble());
 	}
 }
\ No newline at end of file
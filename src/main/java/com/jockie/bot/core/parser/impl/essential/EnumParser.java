@@ -1,19 +1,166 @@
 package com.jockie.bot.core.parser.impl.essential;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
 import com.jockie.bot.core.command.parser.ParseContext;
 import com.jockie.bot.core.parser.IGenericParser;
 import com.jockie.bot.core.parser.IParsableComponent;
 import com.jockie.bot.core.parser.ParsedResult;
 
+import net.dv8tion.jda.internal.utils.Checks;
+
 public class EnumParser<Type extends Enum<?>, Component extends IParsableComponent<Type, Component>> implements IGenericParser<Type, Component> {
 	
+	/**
+	 * A case-insensitive hash index over the names of the constants of an enum, 
+	 * the lookup does not allocate anything and does not have to go through every constant
+	 */
+	protected static class EnumIndex {
+		
+		private final String[] keys;
+		private final Enum<?>[] values;
+		
+		private final int mask;
+		
+		public EnumIndex(Map<String, Enum<?>> entries) {
+			int capacity = Integer.highestOneBit(Math.max(entries.size(), 1) * 2 - 1) << 1;
+			
+			this.keys = new String[capacity];
+			this.values = new Enum<?>[capacity];
+			this.mask = capacity - 1;
+			
+			for(Map.Entry<String, Enum<?>> entry : entries.entrySet()) {
+				String key = entry.getKey();
+				
+				int index = EnumIndex.hash(key) & this.mask;
+				while(this.keys[index] != null) {
+					/* The first entry takes precedence, this is the same as the constants being checked in order */
+					if(this.keys[index].equalsIgnoreCase(key)) {
+						break;
+					}
+					
+					index = (index + 1) & this.mask;
+				}
+				
+				if(this.keys[index] == null) {
+					this.keys[index] = key;
+					this.values[index] = entry.getValue();
+				}
+			}
+		}
+		
+		/* Folds the characters the same way String#equalsIgnoreCase compares them */
+		private static int hash(String content) {
+			int hash = 0;
+			for(int i = 0; i < content.length(); i++) {
+				hash = 31 * hash + Character.toLowerCase(Character.toUpperCase(content.charAt(i)));
+			}
+			
+			return hash ^ (hash >>> 16);
+		}
+		
+		@Nullable
+		public Enum<?> get(@Nonnull String content) {
+			int index = EnumIndex.hash(content) & this.mask;
+			
+			String key;
+			while((key = this.keys[index]) != null) {
+				if(key.equalsIgnoreCase(content)) {
+					return this.values[index];
+				}
+				
+				index = (index + 1) & this.mask;
+			}
+			
+			return null;
+		}
+	}
+	
+	protected Map<Class<?>, Map<String, Enum<?>>> aliases = new ConcurrentHashMap<>();
+	
+	/* Replaced whenever the aliases change which invalidates every index */
+	protected volatile ClassValue<EnumIndex> indexes = this.createIndexes();
+	
+	protected ClassValue<EnumIndex> createIndexes() {
+		return new ClassValue<EnumIndex>() {
+			@Override
+			protected EnumIndex computeValue(Class<?> type) {
+				return EnumParser.this.createIndex(type);
+			}
+		};
+	}
+	
+	protected EnumIndex createIndex(Class<?> type) {
+		Map<String, Enum<?>> entries = new LinkedHashMap<>();
+		
+		Object[] constants = type.getEnumConstants();
+		for(Object constant : constants) {
+			Enum<?> enumEntry = (Enum<?>) constant;
+			entries.putIfAbsent(enumEntry.name(), enumEntry);
+		}
+		
+		for(Object constant : constants) {
+			Enum<?> enumEntry = (Enum<?>) constant;
+			entries.putIfAbsent(enumEntry.name().replace("_", " "), enumEntry);
+		}
+		
+		for(Map.Entry<String, Enum<?>> alias : this.aliases.getOrDefault(type, Collections.emptyMap()).entrySet()) {
+			entries.putIfAbsent(alias.getKey(), alias.getValue());
+		}
+		
+		return new EnumIndex(entries);
+	}
+	
+	/**
+	 * Add an alias for an enum constant, aliases are case-insensitive and 
+	 * never take precedence over the name of a constant
+	 * 
+	 * @param constant the constant the alias should resolve to
+	 * @param alias the alias
+	 * 
+	 * @return the {@link EnumParser} instance, useful for chaining
+	 */
+	@Nonnull
+	public synchronized EnumParser<Type, Component> addAlias(@Nonnull Enum<?> constant, @Nonnull String alias) {
+		Checks.notNull(constant, "constant");
+		Checks.notNull(alias, "alias");
+		
+		this.aliases.computeIfAbsent(constant.getDeclaringClass(), (key) -> new ConcurrentHashMap<>()).put(alias, constant);
+		this.indexes = this.createIndexes();
+		
+		return this;
+	}
+	
+	/**
+	 * Remove a previously added alias
+	 * 
+	 * @param type the enum type the alias was added for
+	 * @param alias the alias
+	 * 
+	 * @return the {@link EnumParser} instance, useful for chaining
+	 */
+	@Nonnull
+	public synchronized EnumParser<Type, Component> removeAlias(@Nullable Class<?> type, @Nullable String alias) {
+		Map<String, Enum<?>> aliases = type != null ? this.aliases.get(type) : null;
+		if(aliases != null && aliases.remove(alias) != null) {
+			this.indexes = this.createIndexes();
+		}
+		
+		return this;
+	}
+	
 	@Override
+	@SuppressWarnings("unchecked")
 	public ParsedResult<Type> parse(ParseContext context, Class<Type> type, Component component, String content) {
-		for(Type enumEntry : type.getEnumConstants()) {
-			String name = enumEntry.name();
-			if(name.equalsIgnoreCase(content) || name.replace("_", " ").equalsIgnoreCase(content)) {
-				return new ParsedResult<>(true, enumEntry);
-			}
+		Type enumEntry = (Type) this.indexes.get(type).get(content);
+		if(enumEntry != null) {
+			return new ParsedResult<>(true, enumEntry);
 		}
 		
 		return new ParsedResult<>(false, null);
@@ -1,17 +1,30 @@
 package com.jockie.bot.core.parser.impl.essential;
 
 import com.jockie.bot.core.command.parser.ParseContext;
-import com.jockie.bot.core.parser.IParser;
 import com.jockie.bot.core.parser.ParsedResult;
+import com.jockie.bot.core.utility.NumberScanner;
 
-public class FloatParser<Component> implements IParser<Float, Component> {
-
+public class FloatParser<Component> extends AbstractNumberParser<Float, Component> {
+	
+	public FloatParser() {
+		super();
+	}
+	
+	/**
+	 * @param flags the {@link NumberScanner} flags, such as {@link NumberScanner#THOUSANDS_SEPARATORS} 
+	 * and {@link NumberScanner#SUFFIXES}, which should be allowed when parsing
+	 */
+	public FloatParser(int flags) {
+		super(flags);
+	}
+	
 	@Override
 	public ParsedResult<Float> parse(ParseContext context, Component component, String content) {
-		try {
-			return new ParsedResult<>(true, Float.parseFloat(content));
-		}catch(NumberFormatException e) {
+		NumberScanner scanner = this.getScanner();
+		if(!scanner.scanFloat(content)) {
 			return new ParsedResult<>(false, null);
 		}
+		
+		return new ParsedResult<>(true, scanner.getFloat());
 	}
 }
\ No newline at end of file
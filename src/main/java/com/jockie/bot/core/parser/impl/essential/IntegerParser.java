@@ -1,17 +1,44 @@
 package com.jockie.bot.core.parser.impl.essential;
 
 import com.jockie.bot.core.command.parser.ParseContext;
-import com.jockie.bot.core.parser.IParser;
+import com.jockie.bot.core.parser.IIntParser;
 import com.jockie.bot.core.parser.ParsedResult;
+import com.jockie.bot.core.parser.PrimitiveResult;
+import com.jockie.bot.core.utility.NumberScanner;
 
-public class IntegerParser<Component> implements IParser<Integer, Component> {
-
+public class IntegerParser<Component> extends AbstractNumberParser<Integer, Component> implements IIntParser<Component> {
+	
+	public IntegerParser() {
+		super();
+	}
+	
+	/**
+	 * @param flags the {@link NumberScanner} flags, such as {@link NumberScanner#THOUSANDS_SEPARATORS} 
+	 * and {@link NumberScanner#SUFFIXES}, which should be allowed when parsing
+	 */
+	public IntegerParser(int flags) {
+		super(flags);
+	}
+	
+	@Override
+	public boolean parseInt(ParseContext context, Component component, String content, PrimitiveResult result) {
+		NumberScanner scanner = this.getScanner();
+		if(!scanner.scanLong(content, Integer.MIN_VALUE, Integer.MAX_VALUE)) {
+			return false;
+		}
+		
+		result.setInt((int) scanner.getLong());
+		
+		return true;
+	}
+	
 	@Override
 	public ParsedResult<Integer> parse(ParseContext context, Component component, String content) {
-		try {
-			return new ParsedResult<>(true, Integer.parseInt(content));
-		}catch(NumberFormatException e) {
+		NumberScanner scanner = this.getScanner();
+		if(!scanner.scanLong(content, Integer.MIN_VALUE, Integer.MAX_VALUE)) {
 			return new ParsedResult<>(false, null);
 		}
+		
+		return new ParsedResult<>(true, (int) scanner.getLong());
 	}
 }
\ No newline at end of file
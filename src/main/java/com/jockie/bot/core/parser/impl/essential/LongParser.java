@@ -1,17 +1,44 @@
 package com.jockie.bot.core.parser.impl.essential;
 
 import com.jockie.bot.core.command.parser.ParseContext;
-import com.jockie.bot.core.parser.IParser;
+import com.jockie.bot.core.parser.ILongParser;
 import com.jockie.bot.core.parser.ParsedResult;
+import com.jockie.bot.core.parser.PrimitiveResult;
+import com.jockie.bot.core.utility.NumberScanner;
 
-public class LongParser<Component> implements IParser<Long, Component> {
-
+public class LongParser<Component> extends AbstractNumberParser<Long, Component> implements ILongParser<Component> {
+	
+	public LongParser() {
+		super();
+	}
+	
+	/**
+	 * @param flags the {@link NumberScanner} flags, such as {@link NumberScanner#THOUSANDS_SEPARATORS} 
+	 * and {@link NumberScanner#SUFFIXES}, which should be allowed when parsing
+	 */
+	public LongParser(int flags) {
+		super(flags);
+	}
+	
+	@Override
+	public boolean parseLong(ParseContext context, Component component, String content, PrimitiveResult result) {
+		NumberScanner scanner = this.getScanner();
+		if(!scanner.scanLong(content, Long.MIN_VALUE, Long.MAX_VALUE)) {
+			return false;
+		}
+		
+		result.setLong(scanner.getLong());
+		
+		return true;
+	}
+	
 	@Override
 	public ParsedResult<Long> parse(ParseContext context, Component component, String content) {
-		try {
-			return new ParsedResult<>(true, Long.parseLong(content));
-		}catch(NumberFormatException e) {
+		NumberScanner scanner = this.getScanner();
+		if(!scanner.scanLong(content, Long.MIN_VALUE, Long.MAX_VALUE)) {
 			return new ParsedResult<>(false, null);
 		}
+		
+		return new ParsedResult<>(true, scanner.getLong());
 	}
 }
\ No newline at end of file
@@ -1,17 +1,30 @@
 package com.jockie.bot.core.parser.impl.essential;
 
 import com.jockie.bot.core.command.parser.ParseContext;
-import com.jockie.bot.core.parser.IParser;
 import com.jockie.bot.core.parser.ParsedResult;
+import com.jockie.bot.core.utility.NumberScanner;
 
-public class ShortParser<Component> implements IParser<Short, Component> {
-
+public class ShortParser<Component> extends AbstractNumberParser<Short, Component> {
+	
+	public ShortParser() {
+		super();
+	}
+	
+	/**
+	 * @param flags the {@link NumberScanner} flags, such as {@link NumberScanner#THOUSANDS_SEPARATORS} 
+	 * and {@link NumberScanner#SUFFIXES}, which should be allowed when parsing
+	 */
+	public ShortParser(int flags) {
+		super(flags);
+	}
+	
 	@Override
 	public ParsedResult<Short> parse(ParseContext context, Component component, String content) {
-		try {
-			return new ParsedResult<>(true, Short.parseShort(content));
-		}catch(NumberFormatException e) {
+		NumberScanner scanner = this.getScanner();
+		if(!scanner.scanLong(content, Short.MIN_VALUE, Short.MAX_VALUE)) {
 			return new ParsedResult<>(false, null);
 		}
+		
+		return new ParsedResult<>(true, (short) scanner.getLong());
 	}
 }
\ No newline at end of file
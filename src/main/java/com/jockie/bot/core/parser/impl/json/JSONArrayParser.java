@@ -8,9 +8,17 @@ import org.json.JSONTokener;
 import com.jockie.bot.core.command.parser.ParseContext;
 import com.jockie.bot.core.parser.IParser;
 import com.jockie.bot.core.parser.ParsedResult;
+import com.jockie.bot.core.parser.ParserGuard;
 
 public class JSONArrayParser<Component> implements IParser<JSONArray, Component> {
 	
+	/**
+	 * Only allows content which starts with a <b>[</b>, leading whitespace is skipped by the parser
+	 */
+	public static final ParserGuard GUARD = new ParserGuard.Builder()
+		.setLeadingCharacter((character) -> character == '[' || character <= ' ')
+		.build();
+	
 	public int getIndex(JSONTokener tokener) {
 		String string = tokener.toString().substring(4);
 		string = string.substring(0, string.indexOf(" "));
@@ -71,4 +79,9 @@ public class JSONArrayParser<Component> implements IParser<JSONArray, Component>
 	public boolean isHandleAll() {
 		return true;
 	}
+	
+	@Override
+	public ParserGuard getGuard() {
+		return GUARD;
+	}
 }
\ No newline at end of file
@@ -7,9 +7,17 @@ import org.json.JSONTokener;
 import com.jockie.bot.core.command.parser.ParseContext;
 import com.jockie.bot.core.parser.IParser;
 import com.jockie.bot.core.parser.ParsedResult;
+import com.jockie.bot.core.parser.ParserGuard;
 
 public class JSONObjectParser<Component> implements IParser<JSONObject, Component> {
 	
+	/**
+	 * Only allows content which starts with a <b>{</b>, leading whitespace is skipped by the parser
+	 */
+	public static final ParserGuard GUARD = new ParserGuard.Builder()
+		.setLeadingCharacter((character) -> character == '{' || character <= ' ')
+		.build();
+	
 	public int getIndex(JSONTokener tokener) {
 		String string = tokener.toString().substring(4);
 		string = string.substring(0, string.indexOf(" "));
@@ -79,4 +87,9 @@ public class JSONObjectParser<Component> implements IParser<JSONObject, Componen
 	public boolean isHandleAll() {
 		return true;
 	}
+	
+	@Override
+	public ParserGuard getGuard() {
+		return GUARD;
+	}
 }
\ No newline at end of file
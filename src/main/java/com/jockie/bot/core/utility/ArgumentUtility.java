@@ -1,28 +1,40 @@
 package com.jockie.bot.core.utility;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-import java.util.regex.Matcher;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.regex.Pattern;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import com.jockie.bot.core.cache.GuildEntityIndex;
+import com.jockie.bot.core.cache.GuildIndex;
+import com.jockie.bot.core.cache.GuildMemberIndex;
+import com.jockie.bot.core.cache.UserIndex;
 
 import net.dv8tion.jda.api.JDA;
 import net.dv8tion.jda.api.entities.Category;
 import net.dv8tion.jda.api.entities.Emote;
 import net.dv8tion.jda.api.entities.Guild;
+import net.dv8tion.jda.api.entities.ISnowflake;
 import net.dv8tion.jda.api.entities.Member;
+import net.dv8tion.jda.api.entities.Message;
 import net.dv8tion.jda.api.entities.Message.MentionType;
 import net.dv8tion.jda.api.entities.Role;
 import net.dv8tion.jda.api.entities.TextChannel;
 import net.dv8tion.jda.api.entities.User;
 import net.dv8tion.jda.api.entities.VoiceChannel;
+import net.dv8tion.jda.api.exceptions.ErrorResponseException;
+import net.dv8tion.jda.api.requests.ErrorResponse;
 import net.dv8tion.jda.api.requests.RestAction;
 import net.dv8tion.jda.api.sharding.ShardManager;
 import net.dv8tion.jda.internal.JDAImpl;
 import net.dv8tion.jda.internal.entities.EmoteImpl;
 import net.dv8tion.jda.internal.requests.CompletedRestAction;
 import net.dv8tion.jda.internal.utils.Checks;
-import net.dv8tion.jda.internal.utils.Helpers;
 
 public class ArgumentUtility {
 	
@@ -30,18 +42,203 @@ public class ArgumentUtility {
 	
 	public static final Pattern USER_NAME_PATTERN = Pattern.compile("(.{2,32})#([0-9]{4})");
 	
+	/**
+	 * Get the id of a mention or a raw snowflake
+	 * 
+	 * @param value the mention or id
+	 * @param type the type of mention which should be accepted
+	 * 
+	 * @return the id or -1 if the value was neither a mention of the provided type nor a snowflake
+	 */
+	public static long getId(@Nonnull String value, @Nonnull MentionType type) {
+		Checks.notNull(value, "value");
+		Checks.notNull(type, "type");
+		
+		MentionScanner scanner = new MentionScanner();
+		if(scanner.scan(value, type)) {
+			return scanner.getId();
+		}
+		
+		return -1L;
+	}
+	
+	/**
+	 * @param value the value to check
+	 * 
+	 * @return whether or not the value is a tag, a name between 2 and 32 characters followed 
+	 * by a # and a four digit discriminator, this is the same as matching {@link #USER_NAME_PATTERN}
+	 */
+	public static boolean isTag(@Nonnull String value) {
+		Checks.notNull(value, "value");
+		
+		int separator = value.length() - 5;
+		if(separator < 2 || separator > 32 || value.charAt(separator) != '#') {
+			return false;
+		}
+		
+		for(int i = separator + 1; i < value.length(); i++) {
+			char character = value.charAt(i);
+			if(character < '0' || character > '9') {
+				return false;
+			}
+		}
+		
+		for(int i = 0; i < separator; i++) {
+			switch(value.charAt(i)) {
+				case '\n': case '\r': case '\u0085': case '\u2028': case '\u2029': return false;
+			}
+		}
+		
+		return true;
+	}
+	
+	private static boolean isTag(@Nonnull String value, @Nonnull User user) {
+		int separator = value.length() - 5;
+		
+		String name = user.getName();
+		return name.length() == separator 
+			&& value.regionMatches(separator + 1, user.getDiscriminator(), 0, 4) 
+			&& value.regionMatches(0, name, 0, separator);
+	}
+	
+	/**
+	 * Submit a request for an entity, if Discord responds that the entity does not exist 
+	 * the future is completed with null instead of failing
+	 * 
+	 * @param action the request
+	 * @param unknownResponses the error responses which mean that the entity does not exist, 
+	 * for instance {@link ErrorResponse#UNKNOWN_MEMBER}
+	 * 
+	 * @return a future which completes with the entity, null if it does not exist
+	 */
 	@Nonnull
-	private static String getGroup(@Nonnull Pattern pattern, int group, @Nonnull String value) {
-		Matcher matcher = pattern.matcher(value);
-		if(matcher.find()) {
-			return matcher.group(group);
+	public static <T> CompletableFuture<T> submitOrNull(@Nonnull RestAction<T> action, @Nonnull ErrorResponse... unknownResponses) {
+		Checks.notNull(action, "action");
+		Checks.notNull(unknownResponses, "unknownResponses");
+		
+		return action.submit().handle((value, failure) -> {
+			if(failure == null) {
+				return value;
+			}
+			
+			Throwable cause = failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+			if(cause instanceof ErrorResponseException) {
+				ErrorResponse response = ((ErrorResponseException) cause).getErrorResponse();
+				for(ErrorResponse unknownResponse : unknownResponses) {
+					if(unknownResponse == response) {
+						return null;
+					}
+				}
+			}
+			
+			throw failure instanceof CompletionException ? (CompletionException) failure : new CompletionException(failure);
+		});
+	}
+	
+	private static long getMentionId(String value, MentionType type) {
+		MentionScanner scanner = new MentionScanner();
+		if(scanner.scan(value) && scanner.getType() == type) {
+			return scanner.getId();
+		}
+		
+		return -1L;
+	}
+	
+	private static <T extends ISnowflake> T getById(List<T> entities, long id) {
+		for(int i = 0; i < entities.size(); i++) {
+			T entity = entities.get(i);
+			if(entity.getIdLong() == id) {
+				return entity;
+			}
 		}
 		
 		return null;
 	}
 	
-	private static boolean isSnowflake(@Nonnull String value) {
-		return value.length() <= 20 && Helpers.isNumeric(value);
+	/**
+	 * Get a member from the mentions of a message, the mentioned entities are sent by Discord 
+	 * as a part of the message which means this does not depend on the member cache
+	 * 
+	 * @param message the message which the value is from
+	 * @param value the mention of the member
+	 * 
+	 * @return the found member, null if the value was not a mention or the member was not mentioned in the message
+	 */
+	@Nullable
+	public static Member getMentionedMember(@Nonnull Message message, @Nonnull String value) {
+		Checks.notNull(message, "message");
+		Checks.notNull(value, "value");
+		
+		long id = ArgumentUtility.getMentionId(value, MentionType.USER);
+		if(id == -1L || !message.isFromGuild()) {
+			return null;
+		}
+		
+		return ArgumentUtility.getById(message.getMentionedMembers(), id);
+	}
+	
+	/**
+	 * Get a user from the mentions of a message, the mentioned entities are sent by Discord 
+	 * as a part of the message which means this does not depend on the user cache
+	 * 
+	 * @param message the message which the value is from
+	 * @param value the mention of the user
+	 * 
+	 * @return the found user, null if the value was not a mention or the user was not mentioned in the message
+	 */
+	@Nullable
+	public static User getMentionedUser(@Nonnull Message message, @Nonnull String value) {
+		Checks.notNull(message, "message");
+		Checks.notNull(value, "value");
+		
+		long id = ArgumentUtility.getMentionId(value, MentionType.USER);
+		if(id == -1L) {
+			return null;
+		}
+		
+		return ArgumentUtility.getById(message.getMentionedUsers(), id);
+	}
+	
+	/**
+	 * Get a role from the mentions of a message
+	 * 
+	 * @param message the message which the value is from
+	 * @param value the mention of the role
+	 * 
+	 * @return the found role, null if the value was not a mention or the role was not mentioned in the message
+	 */
+	@Nullable
+	public static Role getMentionedRole(@Nonnull Message message, @Nonnull String value) {
+		Checks.notNull(message, "message");
+		Checks.notNull(value, "value");
+		
+		long id = ArgumentUtility.getMentionId(value, MentionType.ROLE);
+		if(id == -1L || !message.isFromGuild()) {
+			return null;
+		}
+		
+		return ArgumentUtility.getById(message.getMentionedRoles(), id);
+	}
+	
+	/**
+	 * Get a text channel from the mentions of a message
+	 * 
+	 * @param message the message which the value is from
+	 * @param value the mention of the text channel
+	 * 
+	 * @return the found text channel, null if the value was not a mention or the text channel was not mentioned in the message
+	 */
+	@Nullable
+	public static TextChannel getMentionedTextChannel(@Nonnull Message message, @Nonnull String value) {
+		Checks.notNull(message, "message");
+		Checks.notNull(value, "value");
+		
+		long id = ArgumentUtility.getMentionId(value, MentionType.CHANNEL);
+		if(id == -1L || !message.isFromGuild()) {
+			return null;
+		}
+		
+		return ArgumentUtility.getById(message.getMentionedChannels(), id);
 	}
 	
 	/**
@@ -57,10 +254,8 @@ public class ArgumentUtility {
 		Checks.notNull(guild, "guild");
 		Checks.notNull(value, "value");
 		
-		String id = ArgumentUtility.getGroup(MentionType.ROLE.getPattern(), 1, value);
-		id = id != null ? id : value;
-		
-		if(ArgumentUtility.isSnowflake(id)) {
+		long id = ArgumentUtility.getId(value, MentionType.ROLE);
+		if(id != -1L) {
 			return guild.getRoleById(id);
 		}
 		
@@ -80,10 +275,8 @@ public class ArgumentUtility {
 		Checks.notNull(guild, "guild");
 		Checks.notNull(value, "value");
 		
-		String id = ArgumentUtility.getGroup(MentionType.USER.getPattern(), 1, value);
-		id = id != null ? id : value;
-		
-		if(ArgumentUtility.isSnowflake(id)) {
+		long id = ArgumentUtility.getId(value, MentionType.USER);
+		if(id != -1L) {
 			return guild.getMemberById(id);
 		}
 		
@@ -103,10 +296,8 @@ public class ArgumentUtility {
 		Checks.notNull(guild, "guild");
 		Checks.notNull(value, "value");
 		
-		String id = ArgumentUtility.getGroup(MentionType.CHANNEL.getPattern(), 1, value);
-		id = id != null ? id : value;
-		
-		if(ArgumentUtility.isSnowflake(id)) {
+		long id = ArgumentUtility.getId(value, MentionType.CHANNEL);
+		if(id != -1L) {
 			return guild.getTextChannelById(id);
 		}
 		
@@ -126,25 +317,21 @@ public class ArgumentUtility {
 		Checks.notNull(guild, "guild");
 		Checks.notNull(value, "value");
 		
-		Matcher matcher = MentionType.EMOTE.getPattern().matcher(value);
+		MentionScanner scanner = new MentionScanner();
+		if(!scanner.scan(value, MentionType.EMOTE)) {
+			return null;
+		}
 		
-		String id = matcher.matches() ? matcher.group(2) : null;
-		id = id != null ? id : value;
+		Emote emote = guild.getEmoteById(scanner.getId());
 		
-		if(ArgumentUtility.isSnowflake(id)) {
-			long snowflake = Long.parseLong(id);
-			
-			Emote emote = guild.getEmoteById(snowflake);
-			if(emote == null) {
-				return new EmoteImpl(snowflake, (JDAImpl) guild.getJDA())
-					.setName(matcher.group(1))
-					.setAnimated(value.startsWith("<a:"));
-			}
-			
-			return emote;
+		/* Emotes from other guilds can still be used if they were mentioned, a raw id does not have a name */
+		if(emote == null && scanner.isMention()) {
+			return new EmoteImpl(scanner.getId(), (JDAImpl) guild.getJDA())
+				.setName(scanner.getName())
+				.setAnimated(scanner.isAnimated());
 		}
 		
-		return null;
+		return emote;
 	}
 	
 	/**
@@ -160,10 +347,8 @@ public class ArgumentUtility {
 		Checks.notNull(jda, "jda");
 		Checks.notNull(value, "value");
 		
-		String id = ArgumentUtility.getGroup(MentionType.USER.getPattern(), 1, value);
-		id = id != null ? id : value;
-		
-		if(ArgumentUtility.isSnowflake(id)) {
+		long id = ArgumentUtility.getId(value, MentionType.USER);
+		if(id != -1L) {
 			return jda.getUserById(id);
 		}
 		
@@ -183,10 +368,8 @@ public class ArgumentUtility {
 		Checks.notNull(shardManager, "shardManager");
 		Checks.notNull(value, "value");
 		
-		String id = ArgumentUtility.getGroup(MentionType.USER.getPattern(), 1, value);
-		id = id != null ? id : value;
-		
-		if(ArgumentUtility.isSnowflake(id)) {
+		long id = ArgumentUtility.getId(value, MentionType.USER);
+		if(id != -1L) {
 			return shardManager.getUserById(id);
 		}
 		
@@ -207,10 +390,8 @@ public class ArgumentUtility {
 		Checks.notNull(jda, "jda");
 		Checks.notNull(value, "value");
 		
-		String id = ArgumentUtility.getGroup(MentionType.USER.getPattern(), 1, value);
-		id = id != null ? id : value;
-		
-		if(ArgumentUtility.isSnowflake(id)) {
+		long id = ArgumentUtility.getId(value, MentionType.USER);
+		if(id != -1L) {
 			return jda.retrieveUserById(id);
 		}
 		
@@ -231,10 +412,8 @@ public class ArgumentUtility {
 		Checks.notNull(shardManager, "shardManager");
 		Checks.notNull(value, "value");
 		
-		String id = ArgumentUtility.getGroup(MentionType.USER.getPattern(), 1, value);
-		id = id != null ? id : value;
-		
-		if(ArgumentUtility.isSnowflake(id)) {
+		long id = ArgumentUtility.getId(value, MentionType.USER);
+		if(id != -1L) {
 			return shardManager.retrieveUserById(id);
 		}
 		
@@ -258,18 +437,14 @@ public class ArgumentUtility {
 		Checks.notNull(jda, "jda");
 		Checks.notNull(value, "value");
 		
-		String id = ArgumentUtility.getGroup(MentionType.USER.getPattern(), 1, value);
-		id = id != null ? id : value;
-		
-		if(ArgumentUtility.isSnowflake(id)) {
-			long snowflake = Long.parseLong(id);
-			
-			User user = shardManager.getUserById(snowflake);
+		long id = ArgumentUtility.getId(value, MentionType.USER);
+		if(id != -1L) {
+			User user = shardManager.getUserById(id);
 			if(user != null) {
 				return new CompletedRestAction<User>(user.getJDA(), user);
 			}
 			
-			return jda.retrieveUserById(snowflake);
+			return jda.retrieveUserById(id);
 		}
 		
 		return new CompletedRestAction<User>(jda, (User) null);
@@ -297,14 +472,9 @@ public class ArgumentUtility {
 			}
 		}
 		
-		Matcher matcher = USER_NAME_PATTERN.matcher(value);
-		if(matcher.matches()) {
-			String name = matcher.group(1);
-			String descriminator = matcher.group(2);
-			
+		if(ArgumentUtility.isTag(value)) {
 			Member member = guild.getMemberCache().stream()
-				.filter(a -> a.getUser().getDiscriminator().equals(descriminator))
-				.filter(a -> a.getUser().getName().equals(name))
+				.filter(a -> ArgumentUtility.isTag(value, a.getUser()))
 				.findFirst()
 				.orElse(null);
 			
@@ -316,6 +486,41 @@ public class ArgumentUtility {
 		return guild.getMembersByEffectiveName(value, ignoreCase);
 	}
 	
+	/**
+	 * Get members by id, mention, effective name or tag using an index of the guild's members, 
+	 * this is the same as {@link #getMembersByIdOrName(Guild, String, boolean)} but without scanning the member cache
+	 * If a member was found by id it will not check for names
+	 * 
+	 * @param guild the guild to search for the members in
+	 * @param value the mention, id or tag of the member to search for
+	 * @param ignoreCase whether or not the name should be case sensitive
+	 * @param index the index of the guild's members
+	 * 
+	 * @return the found members
+	 */
+	@Nonnull
+	public static List<Member> getMembersByIdOrName(@Nonnull Guild guild, @Nonnull String value, boolean ignoreCase, @Nonnull GuildMemberIndex index) {
+		Checks.notNull(guild, "guild");
+		Checks.notNull(value, "value");
+		Checks.notNull(index, "index");
+		
+		{
+			Member member = ArgumentUtility.getMemberById(guild, value);
+			if(member != null) {
+				return List.of(member);
+			}
+		}
+		
+		if(ArgumentUtility.isTag(value)) {
+			Member member = index.getMemberByTag(value);
+			if(member != null) {
+				return List.of(member);
+			}
+		}
+		
+		return index.getMembersByEffectiveName(value, ignoreCase);
+	}
+	
 	/**
 	 * Get roles by id, mention or name
 	 * If a role was found by id it will not check for names
@@ -331,10 +536,8 @@ public class ArgumentUtility {
 		Checks.notNull(guild, "guild");
 		Checks.notNull(value, "value");
 		
-		String id = ArgumentUtility.getGroup(MentionType.ROLE.getPattern(), 1, value);
-		id = id != null ? id : value;
-		
-		if(ArgumentUtility.isSnowflake(id)) {
+		long id = ArgumentUtility.getId(value, MentionType.ROLE);
+		if(id != -1L) {
 			Role role = guild.getRoleById(id);
 			if(role != null) {
 				return List.of(role);
@@ -344,6 +547,34 @@ public class ArgumentUtility {
 		return guild.getRolesByName(value, ignoreCase);
 	}
 	
+	/**
+	 * Get roles by mention, id or name using an index of the guild's roles, 
+	 * this is the same as {@link #getRolesByIdOrName(Guild, String, boolean)} but without scanning the role cache.
+	 * If a role was found by id it will not check for names
+	 * 
+	 * @param guild the guild to search for the roles in
+	 * @param value the mention, id or name of the role to search for
+	 * @param ignoreCase whether or not the name should be case sensitive
+	 * @param index the index of the guild
+	 * 
+	 * @return the found roles
+	 */
+	@Nonnull
+	public static List<Role> getRolesByIdOrName(@Nonnull Guild guild, @Nonnull String value, boolean ignoreCase, @Nonnull GuildEntityIndex index) {
+		Checks.notNull(guild, "guild");
+		Checks.notNull(value, "value");
+		Checks.notNull(index, "index");
+		
+		{
+			Role role = ArgumentUtility.getRoleById(guild, value);
+			if(role != null) {
+				return List.of(role);
+			}
+		}
+		
+		return index.getRoles(guild).getByName(value, ignoreCase);
+	}
+	
 	/**
 	 * Get emotes by id, mention or name
 	 * If a category was found by id it will not check for names
@@ -367,6 +598,34 @@ public class ArgumentUtility {
 		return guild.getEmotesByName(value, ignoreCase);
 	}
 	
+	/**
+	 * Get emotes by mention, id or name using an index of the guild's emotes, 
+	 * this is the same as {@link #getEmotesByIdOrName(Guild, String, boolean)} but without scanning the emote cache.
+	 * If a emote was found by id it will not check for names
+	 * 
+	 * @param guild the guild to search for the emotes in
+	 * @param value the mention, id or name of the emote to search for
+	 * @param ignoreCase whether or not the name should be case sensitive
+	 * @param index the index of the guild
+	 * 
+	 * @return the found emotes
+	 */
+	@Nonnull
+	public static List<Emote> getEmotesByIdOrName(@Nonnull Guild guild, @Nonnull String value, boolean ignoreCase, @Nonnull GuildEntityIndex index) {
+		Checks.notNull(guild, "guild");
+		Checks.notNull(value, "value");
+		Checks.notNull(index, "index");
+		
+		{
+			Emote emote = ArgumentUtility.getEmoteById(guild, value);
+			if(emote != null) {
+				return List.of(emote);
+			}
+		}
+		
+		return index.getEmotes(guild).getByName(value, ignoreCase);
+	}
+	
 	/**
 	 * Get text channels by id, mention or name
 	 * If a text channel was found by id it will not check for names
@@ -390,6 +649,34 @@ public class ArgumentUtility {
 		return guild.getTextChannelsByName(value, ignoreCase);
 	}
 	
+	/**
+	 * Get text channels by mention, id or name using an index of the guild's text channels, 
+	 * this is the same as {@link #getTextChannelsByIdOrName(Guild, String, boolean)} but without scanning the text channel cache.
+	 * If a text channel was found by id it will not check for names
+	 * 
+	 * @param guild the guild to search for the text channels in
+	 * @param value the mention, id or name of the text channel to search for
+	 * @param ignoreCase whether or not the name should be case sensitive
+	 * @param index the index of the guild
+	 * 
+	 * @return the found text channels
+	 */
+	@Nonnull
+	public static List<TextChannel> getTextChannelsByIdOrName(@Nonnull Guild guild, @Nonnull String value, boolean ignoreCase, @Nonnull GuildEntityIndex index) {
+		Checks.notNull(guild, "guild");
+		Checks.notNull(value, "value");
+		Checks.notNull(index, "index");
+		
+		{
+			TextChannel channel = ArgumentUtility.getTextChannelById(guild, value);
+			if(channel != null) {
+				return List.of(channel);
+			}
+		}
+		
+		return index.getTextChannels(guild).getByName(value, ignoreCase);
+	}
+	
 	/**
 	 * Get voice channels by id or name
 	 * If a voice channel was found by id it will not check for names
@@ -405,8 +692,9 @@ public class ArgumentUtility {
 		Checks.notNull(guild, "guild");
 		Checks.notNull(value, "value");
 		
-		if(ArgumentUtility.isSnowflake(value)) {
-			VoiceChannel channel = guild.getVoiceChannelById(value);
+		long id = MentionScanner.parseSnowflake(value);
+		if(id != -1L) {
+			VoiceChannel channel = guild.getVoiceChannelById(id);
 			if(channel != null) {
 				return List.of(channel);
 			}
@@ -415,6 +703,35 @@ public class ArgumentUtility {
 		return guild.getVoiceChannelsByName(value, ignoreCase);
 	}
 	
+	/**
+	 * Get voice channels by id or name using an index of the guild's voice channels, 
+	 * this is the same as {@link #getVoiceChannelsByIdOrName(Guild, String, boolean)} but without scanning the voice channel cache.
+	 * If a voice channel was found by id it will not check for names
+	 * 
+	 * @param guild the guild to search for the voice channels in
+	 * @param value the id or name of the voice channel to search for
+	 * @param ignoreCase whether or not the name should be case sensitive
+	 * @param index the index of the guild
+	 * 
+	 * @return the found voice channels
+	 */
+	@Nonnull
+	public static List<VoiceChannel> getVoiceChannelsByIdOrName(@Nonnull Guild guild, @Nonnull String value, boolean ignoreCase, @Nonnull GuildEntityIndex index) {
+		Checks.notNull(guild, "guild");
+		Checks.notNull(value, "value");
+		Checks.notNull(index, "index");
+		
+		long id = MentionScanner.parseSnowflake(value);
+		if(id != -1L) {
+			VoiceChannel channel = guild.getVoiceChannelById(id);
+			if(channel != null) {
+				return List.of(channel);
+			}
+		}
+		
+		return index.getVoiceChannels(guild).getByName(value, ignoreCase);
+	}
+	
 	/**
 	 * Get categories by id or name.
 	 * If a category was found by id it will not check for names
@@ -430,8 +747,9 @@ public class ArgumentUtility {
 		Checks.notNull(guild, "guild");
 		Checks.notNull(value, "value");
 		
-		if(ArgumentUtility.isSnowflake(value)) {
-			Category category = guild.getCategoryById(value);
+		long id = MentionScanner.parseSnowflake(value);
+		if(id != -1L) {
+			Category category = guild.getCategoryById(id);
 			if(category != null) {
 				return List.of(category);
 			}
@@ -440,6 +758,35 @@ public class ArgumentUtility {
 		return guild.getCategoriesByName(value, ignoreCase);
 	}
 	
+	/**
+	 * Get categories by id or name using an index of the guild's categories, 
+	 * this is the same as {@link #getCategoriesByIdOrName(Guild, String, boolean)} but without scanning the category cache.
+	 * If a category was found by id it will not check for names
+	 * 
+	 * @param guild the guild to search for the categories in
+	 * @param value the id or name of the category to search for
+	 * @param ignoreCase whether or not the name should be case sensitive
+	 * @param index the index of the guild
+	 * 
+	 * @return the found categories
+	 */
+	@Nonnull
+	public static List<Category> getCategoriesByIdOrName(@Nonnull Guild guild, @Nonnull String value, boolean ignoreCase, @Nonnull GuildEntityIndex index) {
+		Checks.notNull(guild, "guild");
+		Checks.notNull(value, "value");
+		Checks.notNull(index, "index");
+		
+		long id = MentionScanner.parseSnowflake(value);
+		if(id != -1L) {
+			Category category = guild.getCategoryById(id);
+			if(category != null) {
+				return List.of(category);
+			}
+		}
+		
+		return index.getCategories(guild).getByName(value, ignoreCase);
+	}
+	
 	/**
 	 * Get users by id, mention, name or tag.
 	 * If a user was found by id it will not check for names
@@ -462,14 +809,9 @@ public class ArgumentUtility {
 			}
 		}
 		
-		Matcher matcher = USER_NAME_PATTERN.matcher(value);
-		if(matcher.matches()) {
-			String name = matcher.group(1);
-			String descriminator = matcher.group(2);
-			
+		if(ArgumentUtility.isTag(value)) {
 			User user = jda.getUserCache().stream()
-				.filter(a -> a.getDiscriminator().equals(descriminator))
-				.filter(a -> a.getName().equals(name))
+				.filter(a -> ArgumentUtility.isTag(value, a))
 				.findFirst()
 				.orElse(null);
 			
@@ -481,6 +823,34 @@ public class ArgumentUtility {
 		return jda.getUserCache().getElementsByName(value, ignoreCase);
 	}
 	
+	/**
+	 * Get users by id, mention, name or tag using an index of the users, this is the same as 
+	 * {@link #getUsersByIdOrName(JDA, String, boolean)} but without scanning the user cache.
+	 * If a user was found by id it will not check for names
+	 * 
+	 * @param jda the JDA instance to search for the users in
+	 * @param value the id or name of the user to search for
+	 * @param ignoreCase whether or not the name should be case sensitive
+	 * @param index the index of the users
+	 * 
+	 * @return the found users
+	 */
+	@Nonnull
+	public static List<User> getUsersByIdOrName(@Nonnull JDA jda, @Nonnull String value, boolean ignoreCase, @Nonnull UserIndex index) {
+		Checks.notNull(jda, "jda");
+		Checks.notNull(value, "value");
+		Checks.notNull(index, "index");
+		
+		{
+			User user = ArgumentUtility.getUserById(jda, value);
+			if(user != null) {
+				return List.of(user);
+			}
+		}
+		
+		return ArgumentUtility.getUsersByName(value, ignoreCase, index);
+	}
+	
 	/**
 	 * Get users by id, mention, name or tag. 
 	 * If a user is found by id it will not check for names
@@ -503,14 +873,9 @@ public class ArgumentUtility {
 			}
 		}
 		
-		Matcher matcher = USER_NAME_PATTERN.matcher(value);
-		if(matcher.matches()) {
-			String name = matcher.group(1);
-			String descriminator = matcher.group(2);
-			
+		if(ArgumentUtility.isTag(value)) {
 			User user = shardManager.getUserCache().stream()
-				.filter(a -> a.getDiscriminator().equals(descriminator))
-				.filter(a -> a.getName().equals(name))
+				.filter(a -> ArgumentUtility.isTag(value, a))
 				.findFirst()
 				.orElse(null);
 			
@@ -522,6 +887,45 @@ public class ArgumentUtility {
 		return shardManager.getUserCache().getElementsByName(value, ignoreCase);
 	}
 	
+	/**
+	 * Get users by id, mention, name or tag using an index of the users, this is the same as 
+	 * {@link #getUsersByIdOrName(ShardManager, String, boolean)} but without scanning the user cache of every shard.
+	 * If a user is found by id it will not check for names
+	 * 
+	 * @param shardManager the shard manager instance to search for the users in
+	 * @param value the id or name of the user to search for
+	 * @param ignoreCase whether or not the name should be case sensitive
+	 * @param index the index of the users
+	 * 
+	 * @return the found users
+	 */
+	@Nonnull
+	public static List<User> getUsersByIdOrName(@Nonnull ShardManager shardManager, @Nonnull String value, boolean ignoreCase, @Nonnull UserIndex index) {
+		Checks.notNull(shardManager, "shardManager");
+		Checks.notNull(value, "value");
+		Checks.notNull(index, "index");
+		
+		{
+			User user = ArgumentUtility.getUserById(shardManager, value);
+			if(user != null) {
+				return List.of(user);
+			}
+		}
+		
+		return ArgumentUtility.getUsersByName(value, ignoreCase, index);
+	}
+	
+	private static List<User> getUsersByName(String value, boolean ignoreCase, UserIndex index) {
+		if(ArgumentUtility.isTag(value)) {
+			User user = index.getUserByTag(value);
+			if(user != null) {
+				return List.of(user);
+			}
+		}
+		
+		return index.getUsersByName(value, ignoreCase);
+	}
+	
 	/**
 	 * Get guilds by id or name. 
 	 * If a guild is found by id it will not check for names
@@ -537,8 +941,9 @@ public class ArgumentUtility {
 		Checks.notNull(jda, "jda");
 		Checks.notNull(value, "value");
 		
-		if(ArgumentUtility.isSnowflake(value)) {
-			Guild guild = jda.getGuildById(value);
+		long id = MentionScanner.parseSnowflake(value);
+		if(id != -1L) {
+			Guild guild = jda.getGuildById(id);
 			if(guild != null) {
 				return List.of(guild);
 			}
@@ -562,8 +967,8 @@ public class ArgumentUtility {
 		Checks.notNull(shardManager, "shardManager");
 		Checks.notNull(value, "value");
 		
-		if(ArgumentUtility.isSnowflake(value)) {
-			Guild guild = shardManager.getGuildById(value);
+		{
+			Guild guild = ArgumentUtility.getGuildById(shardManager, value);
 			if(guild != null) {
 				return List.of(guild);
 			}
@@ -571,4 +976,104 @@ public class ArgumentUtility {
 		
 		return shardManager.getGuildsByName(value, ignoreCase);
 	}
+	
+	/**
+	 * Get guilds by id or name, this is the same as {@link #getGuildsByIdOrName(JDA, String, boolean)} 
+	 * but without scanning the guild cache for the name
+	 * <br><br>
+	 * <b>NOTE:</b> The index may have been created for a {@link ShardManager}, 
+	 * only the guilds which belong to the provided JDA instance are returned
+	 * 
+	 * @param jda the JDA instance to search for the guilds in
+	 * @param value the id or name of the guild to search for
+	 * @param ignoreCase whether or not the name should be case sensitive
+	 * @param index the index of the guilds
+	 * 
+	 * @return the found guilds
+	 */
+	@Nonnull
+	public static List<Guild> getGuildsByIdOrName(@Nonnull JDA jda, @Nonnull String value, boolean ignoreCase, @Nonnull GuildIndex index) {
+		Checks.notNull(jda, "jda");
+		Checks.notNull(value, "value");
+		Checks.notNull(index, "index");
+		
+		long id = MentionScanner.parseSnowflake(value);
+		if(id != -1L) {
+			Guild guild = jda.getGuildById(id);
+			if(guild != null) {
+				return List.of(guild);
+			}
+		}
+		
+		List<Guild> guilds = index.getGuildsByName(value, ignoreCase);
+		
+		List<Guild> result = new ArrayList<>(guilds.size());
+		for(Guild guild : guilds) {
+			if(guild.getJDA() == jda) {
+				result.add(guild);
+			}
+		}
+		
+		return Collections.unmodifiableList(result);
+	}
+	
+	/**
+	 * Get guilds by id or name, this is the same as {@link #getGuildsByIdOrName(ShardManager, String, boolean)} 
+	 * but without scanning the guild cache of every shard for the name
+	 * 
+	 * @param shardManager the shard manager instance to search for the guilds in
+	 * @param value the id or name of the guild to search for
+	 * @param ignoreCase whether or not the name should be case sensitive
+	 * @param index the index of the guilds
+	 * 
+	 * @return the found guilds
+	 */
+	@Nonnull
+	public static List<Guild> getGuildsByIdOrName(@Nonnull ShardManager shardManager, @Nonnull String value, boolean ignoreCase, @Nonnull GuildIndex index) {
+		Checks.notNull(shardManager, "shardManager");
+		Checks.notNull(value, "value");
+		Checks.notNull(index, "index");
+		
+		{
+			Guild guild = ArgumentUtility.getGuildById(shardManager, value);
+			if(guild != null) {
+				return List.of(guild);
+			}
+		}
+		
+		return index.getGuildsByName(value, ignoreCase);
+	}
+	
+	/**
+	 * Get a guild by id, the shard the guild belongs to is computed from the id 
+	 * (<code>(id >> 22) % shardsTotal</code>) which means only that shard's guild cache is checked
+	 * 
+	 * @param shardManager the shard manager instance to search for the guild in
+	 * @param value the id of the guild
+	 * 
+	 * @return the found guild, may be null
+	 */
+	@Nullable
+	public static Guild getGuildById(@Nonnull ShardManager shardManager, @Nonnull String value) {
+		Checks.notNull(shardManager, "shardManager");
+		Checks.notNull(value, "value");
+		
+		long id = MentionScanner.parseSnowflake(value);
+		if(id == -1L) {
+			return null;
+		}
+		
+		int shardsTotal = shardManager.getShardsTotal();
+		if(shardsTotal <= 0) {
+			return shardManager.getGuildById(id);
+		}
+		
+		/* The shard is not running, the guild can not be in the cache of any other shard */
+		JDA shard = shardManager.getShardById((int) ((id >>> 22) % shardsTotal));
+		if(shard == null) {
+			return null;
+		}
+		
+		return shard.getGuildById(id);
+	}
 }
\ No newline at end of file
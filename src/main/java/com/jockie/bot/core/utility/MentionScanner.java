@@ -0,0 +1,258 @@
+package com.jockie.bot.core.utility;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import net.dv8tion.jda.api.entities.Message.MentionType;
+import net.dv8tion.jda.internal.utils.Checks;
+
+/**
+ * A scanner for mentions and snowflakes which does not use any regular expressions, 
+ * the id is read directly as a long without creating any intermediate objects. 
+ * <br><br>
+ * The following formats are recognized
+ * <ul>
+ * 	<li><b>&lt;@id&gt;</b> and <b>&lt;@!id&gt;</b> ({@link MentionType#USER})</li>
+ * 	<li><b>&lt;@&amp;id&gt;</b> ({@link MentionType#ROLE})</li>
+ * 	<li><b>&lt;#id&gt;</b> ({@link MentionType#CHANNEL})</li>
+ * 	<li><b>&lt;:name:id&gt;</b> and <b>&lt;a:name:id&gt;</b> ({@link MentionType#EMOTE})</li>
+ * 	<li>raw snowflakes, such as <b>190551803669118976</b></li>
+ * </ul>
+ * <b>NOTE:</b> A scanner is not thread-safe, the value of the last successful scan is stored in the scanner
+ * until the next scan
+ */
+public class MentionScanner {
+	
+	private CharSequence content;
+	
+	private MentionType type;
+	private long id;
+	private boolean animated;
+	
+	private int nameStart;
+	private int nameEnd;
+	
+	/**
+	 * Parse a snowflake from a span of content
+	 * 
+	 * @param content the content to parse
+	 * @param start the index to start parsing from, inclusive
+	 * @param end the index to stop parsing at, exclusive
+	 * 
+	 * @return the snowflake or -1 if the span was not a valid snowflake
+	 */
+	public static long parseSnowflake(@Nonnull CharSequence content, int start, int end) {
+		Checks.notNull(content, "content");
+		
+		if(start >= end) {
+			return -1L;
+		}
+		
+		long value = 0;
+		for(int i = start; i < end; i++) {
+			int digit = content.charAt(i) - '0';
+			if(digit < 0 || digit > 9) {
+				return -1L;
+			}
+			
+			if(value > (Long.MAX_VALUE - digit) / 10) {
+				return -1L;
+			}
+			
+			value = value * 10 + digit;
+		}
+		
+		return value;
+	}
+	
+	/**
+	 * @see #parseSnowflake(CharSequence, int, int)
+	 */
+	public static long parseSnowflake(@Nonnull CharSequence content) {
+		Checks.notNull(content, "content");
+		
+		return MentionScanner.parseSnowflake(content, 0, content.length());
+	}
+	
+	private static boolean isEmoteNameCharacter(char character) {
+		return (character >= 'a' && character <= 'z') || (character >= 'A' && character <= 'Z') 
+			|| (character >= '0' && character <= '9') || character == '_';
+	}
+	
+	/**
+	 * Scan a mention or a raw snowflake, the whole span has to be the mention
+	 * 
+	 * @param content the content to scan
+	 * @param start the index to start scanning from, inclusive
+	 * @param end the index to stop scanning at, exclusive
+	 * 
+	 * @return whether or not the span was a valid mention or snowflake, 
+	 * if it was the id can be retrieved through {@link #getId()} and the type through {@link #getType()}
+	 */
+	public boolean scan(@Nonnull CharSequence content, int start, int end) {
+		Checks.notNull(content, "content");
+		
+		if(start >= end) {
+			return false;
+		}
+		
+		if(content.charAt(start) != '<') {
+			long id = MentionScanner.parseSnowflake(content, start, end);
+			if(id == -1L) {
+				return false;
+			}
+			
+			this.set(content, null, id, false, -1, -1);
+			
+			return true;
+		}
+		
+		/* The shortest mention is <@0> */
+		if(end - start < 4 || content.charAt(end - 1) != '>') {
+			return false;
+		}
+		
+		int i = start + 1;
+		
+		char character = content.charAt(i++);
+		if(character == '@') {
+			MentionType type = MentionType.USER;
+			
+			char next = content.charAt(i);
+			if(next == '!') {
+				i++;
+			}else if(next == '&') {
+				type = MentionType.ROLE;
+				i++;
+			}
+			
+			long id = MentionScanner.parseSnowflake(content, i, end - 1);
+			if(id == -1L) {
+				return false;
+			}
+			
+			this.set(content, type, id, false, -1, -1);
+			
+			return true;
+		}
+		
+		if(character == '#') {
+			long id = MentionScanner.parseSnowflake(content, i, end - 1);
+			if(id == -1L) {
+				return false;
+			}
+			
+			this.set(content, MentionType.CHANNEL, id, false, -1, -1);
+			
+			return true;
+		}
+		
+		boolean animated = false;
+		if(character == 'a') {
+			animated = true;
+			character = content.charAt(i++);
+		}
+		
+		if(character != ':') {
+			return false;
+		}
+		
+		int nameStart = i;
+		while(i < end - 1 && MentionScanner.isEmoteNameCharacter(content.charAt(i))) {
+			i++;
+		}
+		
+		int nameEnd = i;
+		if(nameEnd == nameStart || i >= end - 1 || content.charAt(i) != ':') {
+			return false;
+		}
+		
+		long id = MentionScanner.parseSnowflake(content, i + 1, end - 1);
+		if(id == -1L) {
+			return false;
+		}
+		
+		this.set(content, MentionType.EMOTE, id, animated, nameStart, nameEnd);
+		
+		return true;
+	}
+	
+	/**
+	 * @see #scan(CharSequence, int, int)
+	 */
+	public boolean scan(@Nonnull CharSequence content) {
+		Checks.notNull(content, "content");
+		
+		return this.scan(content, 0, content.length());
+	}
+	
+	/**
+	 * Scan a mention of a specific type or a raw snowflake
+	 * 
+	 * @param content the content to scan
+	 * @param type the type of mention which should be accepted
+	 * 
+	 * @return whether or not the content was a valid mention of the provided type or a raw snowflake, 
+	 * if it was the id can be retrieved through {@link #getId()}
+	 */
+	public boolean scan(@Nonnull CharSequence content, @Nonnull MentionType type) {
+		Checks.notNull(type, "type");
+		
+		if(!this.scan(content)) {
+			return false;
+		}
+		
+		return this.type == null || this.type == type;
+	}
+	
+	private void set(CharSequence content, MentionType type, long id, boolean animated, int nameStart, int nameEnd) {
+		this.content = content;
+		this.type = type;
+		this.id = id;
+		this.animated = animated;
+		this.nameStart = nameStart;
+		this.nameEnd = nameEnd;
+	}
+	
+	/**
+	 * @return the type of the last scanned mention or null if it was a raw snowflake
+	 */
+	@Nullable
+	public MentionType getType() {
+		return this.type;
+	}
+	
+	/**
+	 * @return whether or not the last scan was a mention, as opposed to a raw snowflake
+	 */
+	public boolean isMention() {
+		return this.type != null;
+	}
+	
+	/**
+	 * @return the id of the last successful scan
+	 */
+	public long getId() {
+		return this.id;
+	}
+	
+	/**
+	 * @return whether or not the last scanned mention was an animated emote
+	 */
+	public boolean isAnimated() {
+		return this.animated;
+	}
+	
+	/**
+	 * @return the name of the last scanned emote mention or null if it was not an emote mention, 
+	 * this is the only part of the scan which creates a new object
+	 */
+	@Nullable
+	public String getName() {
+		if(this.nameStart == -1) {
+			return null;
+		}
+		
+		return this.content.subSequence(this.nameStart, this.nameEnd).toString();
+	}
+}
\ No newline at end of file
@@ -0,0 +1,628 @@
+package com.jockie.bot.core.utility;
+
+import javax.annotation.Nonnull;
+
+import net.dv8tion.jda.internal.utils.Checks;
+
+/**
+ * A scanner for numbers which does not throw any exceptions for invalid input, 
+ * numbers can be scanned from a span of any {@link CharSequence} without having to create a substring
+ * <br><br>
+ * <b>NOTE:</b> A scanner is not thread-safe, the value of the last successful scan is stored in the scanner
+ * until the next scan
+ */
+public class NumberScanner {
+	
+	/**
+	 * Whether or not thousands separators should be allowed, for instance, <b>1,000,000</b>
+	 */
+	public static final int THOUSANDS_SEPARATORS = 1;
+	
+	/**
+	 * Whether or not the <b>k</b> (thousand), <b>m</b> (million) and <b>b</b> (billion) suffixes should be allowed, 
+	 * for instance, <b>1.5k</b>
+	 */
+	public static final int SUFFIXES = 1 << 1;
+	
+	private static final long[] LONG_POWERS_OF_TEN = {
+		1L, 10L, 100L, 1000L, 10000L, 100000L, 1000000L, 10000000L, 100000000L, 1000000000L
+	};
+	
+	private static final double[] DOUBLE_POWERS_OF_TEN = {
+		1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 
+		1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+	};
+	
+	private static final float[] FLOAT_POWERS_OF_TEN = {
+		1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f
+	};
+	
+	/* The maximum number of significant digits kept in the mantissa of a decimal number */
+	private static final int MAX_SIGNIFICANT_DIGITS = 18;
+	
+	private static final int DECIMAL_INVALID = 0;
+	private static final int DECIMAL_NUMBER = 1;
+	private static final int DECIMAL_NAN = 2;
+	private static final int DECIMAL_INFINITY = 3;
+	private static final int DECIMAL_HEXADECIMAL = 4;
+	
+	protected final int flags;
+	
+	private long longValue;
+	private double doubleValue;
+	private float floatValue;
+	
+	/* The state of the last scanned decimal number */
+	private boolean negative;
+	private long mantissa;
+	private int exponent;
+	private boolean truncated;
+	private int mantissaStart;
+	private int mantissaEnd;
+	private int explicitExponent;
+	
+	public NumberScanner() {
+		this(0);
+	}
+	
+	/**
+	 * @param flags the flags, {@link #THOUSANDS_SEPARATORS} and {@link #SUFFIXES}, 
+	 * which this scanner should use
+	 */
+	public NumberScanner(int flags) {
+		this.flags = flags;
+	}
+	
+	/**
+	 * @return the flags of this scanner
+	 */
+	public int getFlags() {
+		return this.flags;
+	}
+	
+	private boolean isFlag(int flag) {
+		return (this.flags & flag) != 0;
+	}
+	
+	private static int getSuffixExponent(char character) {
+		switch(character) {
+			case 'k': case 'K': return 3;
+			case 'm': case 'M': return 6;
+			case 'b': case 'B': return 9;
+			default: return 0;
+		}
+	}
+	
+	private static boolean regionEquals(CharSequence content, int start, int end, String value) {
+		if(end - start != value.length()) {
+			return false;
+		}
+		
+		for(int i = 0; i < value.length(); i++) {
+			if(content.charAt(start + i) != value.charAt(i)) {
+				return false;
+			}
+		}
+		
+		return true;
+	}
+	
+	/**
+	 * Scan a whole number, the same as {@link Long#parseLong(String)} but without throwing any exceptions
+	 * 
+	 * @param content the content to scan
+	 * @param start the index to start scanning from, inclusive
+	 * @param end the index to stop scanning at, exclusive
+	 * @param min the minimum value the number may have
+	 * @param max the maximum value the number may have
+	 * 
+	 * @return whether or not the span was a valid number within the range, 
+	 * if it was the number can be retrieved through {@link #getLong()}
+	 */
+	public boolean scanLong(@Nonnull CharSequence content, int start, int end, long min, long max) {
+		Checks.notNull(content, "content");
+		
+		int i = start;
+		if(i >= end) {
+			return false;
+		}
+		
+		boolean negative = false;
+		
+		char first = content.charAt(i);
+		if(first == '-' || first == '+') {
+			negative = first == '-';
+			
+			if(++i >= end) {
+				return false;
+			}
+		}
+		
+		/* Accumulate negatively, the same as Long#parseLong, as the negative range is larger */
+		long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+		long multiplyLimit = limit / 10;
+		long result = 0;
+		
+		int digits = 0, group = 0;
+		boolean separated = false;
+		
+		for(; i < end; i++) {
+			char character = content.charAt(i);
+			
+			int digit = Character.digit(character, 10);
+			if(digit >= 0) {
+				if(result < multiplyLimit) {
+					return false;
+				}
+				
+				result *= 10;
+				if(result < limit + digit) {
+					return false;
+				}
+				
+				result -= digit;
+				digits++;
+				group++;
+				
+				continue;
+			}
+			
+			if(character == ',' && this.isFlag(THOUSANDS_SEPARATORS)) {
+				if(group == 0 || group > 3 || (separated && group != 3)) {
+					return false;
+				}
+				
+				separated = true;
+				group = 0;
+				
+				continue;
+			}
+			
+			break;
+		}
+		
+		if(digits == 0 || (separated && group != 3)) {
+			return false;
+		}
+		
+		if(i < end && this.isFlag(SUFFIXES)) {
+			long fraction = 0;
+			int fractionDigits = 0;
+			
+			if(content.charAt(i) == '.') {
+				for(i++; i < end; i++) {
+					int digit = Character.digit(content.charAt(i), 10);
+					if(digit < 0) {
+						break;
+					}
+					
+					/* There is no suffix large enough to make any more digits a whole number */
+					if(fractionDigits == 9) {
+						return false;
+					}
+					
+					fraction = fraction * 10 + digit;
+					fractionDigits++;
+				}
+				
+				/* A fraction is only allowed if it is followed by a suffix */
+				if(fractionDigits == 0 || i >= end) {
+					return false;
+				}
+			}
+			
+			int suffixExponent = NumberScanner.getSuffixExponent(content.charAt(i++));
+			if(suffixExponent == 0) {
+				return false;
+			}
+			
+			long multiplier = LONG_POWERS_OF_TEN[suffixExponent];
+			long scale = LONG_POWERS_OF_TEN[fractionDigits];
+			
+			if((fraction * multiplier) % scale != 0) {
+				return false;
+			}
+			
+			if(result < limit / multiplier) {
+				return false;
+			}
+			
+			result *= multiplier;
+			
+			long fractionValue = (fraction * multiplier) / scale;
+			if(result < limit + fractionValue) {
+				return false;
+			}
+			
+			result -= fractionValue;
+		}
+		
+		if(i != end) {
+			return false;
+		}
+		
+		long value = negative ? result : -result;
+		if(value < min || value > max) {
+			return false;
+		}
+		
+		this.longValue = value;
+		
+		return true;
+	}
+	
+	/**
+	 * @see #scanLong(CharSequence, int, int, long, long)
+	 */
+	public boolean scanLong(@Nonnull CharSequence content, long min, long max) {
+		Checks.notNull(content, "content");
+		
+		return this.scanLong(content, 0, content.length(), min, max);
+	}
+	
+	/**
+	 * @return the value of the last successful {@link #scanLong(CharSequence, int, int, long, long)}
+	 */
+	public long getLong() {
+		return this.longValue;
+	}
+	
+	private int scanDecimal(CharSequence content, int start, int end) {
+		this.negative = false;
+		this.mantissa = 0;
+		this.exponent = 0;
+		this.truncated = false;
+		this.explicitExponent = 0;
+		
+		int i = start;
+		
+		char first = content.charAt(i);
+		if(first == '-' || first == '+') {
+			this.negative = first == '-';
+			
+			if(++i >= end) {
+				return DECIMAL_INVALID;
+			}
+		}
+		
+		if(NumberScanner.regionEquals(content, i, end, "NaN")) {
+			return DECIMAL_NAN;
+		}
+		
+		if(NumberScanner.regionEquals(content, i, end, "Infinity")) {
+			return DECIMAL_INFINITY;
+		}
+		
+		if(i + 1 < end && content.charAt(i) == '0' && (content.charAt(i + 1) == 'x' || content.charAt(i + 1) == 'X')) {
+			return DECIMAL_HEXADECIMAL;
+		}
+		
+		this.mantissaStart = i;
+		
+		int digits = 0, significant = 0, group = 0;
+		boolean separated = false;
+		
+		for(; i < end; i++) {
+			char character = content.charAt(i);
+			if(character >= '0' && character <= '9') {
+				int digit = character - '0';
+				
+				digits++;
+				group++;
+				
+				if(this.mantissa == 0 && digit == 0) {
+					continue;
+				}
+				
+				if(significant < MAX_SIGNIFICANT_DIGITS) {
+					this.mantissa = this.mantissa * 10 + digit;
+					significant++;
+				}else{
+					this.truncated |= digit != 0;
+					this.exponent++;
+				}
+				
+				continue;
+			}
+			
+			if(character == ',' && this.isFlag(THOUSANDS_SEPARATORS)) {
+				if(group == 0 || group > 3 || (separated && group != 3)) {
+					return DECIMAL_INVALID;
+				}
+				
+				separated = true;
+				group = 0;
+				
+				continue;
+			}
+			
+			break;
+		}
+		
+		if(separated && group != 3) {
+			return DECIMAL_INVALID;
+		}
+		
+		if(i < end && content.charAt(i) == '.') {
+			for(i++; i < end; i++) {
+				char character = content.charAt(i);
+				if(character < '0' || character > '9') {
+					break;
+				}
+				
+				int digit = character - '0';
+				
+				digits++;
+				
+				if(this.mantissa == 0 && digit == 0) {
+					this.exponent--;
+					
+					continue;
+				}
+				
+				if(significant < MAX_SIGNIFICANT_DIGITS) {
+					this.mantissa = this.mantissa * 10 + digit;
+					this.exponent--;
+					significant++;
+				}else{
+					this.truncated |= digit != 0;
+				}
+			}
+		}
+		
+		if(digits == 0) {
+			return DECIMAL_INVALID;
+		}
+		
+		this.mantissaEnd = i;
+		
+		if(i < end && (content.charAt(i) == 'e' || content.charAt(i) == 'E')) {
+			if(++i >= end) {
+				return DECIMAL_INVALID;
+			}
+			
+			boolean negativeExponent = false;
+			
+			char sign = content.charAt(i);
+			if(sign == '-' || sign == '+') {
+				negativeExponent = sign == '-';
+				
+				if(++i >= end) {
+					return DECIMAL_INVALID;
+				}
+			}
+			
+			int exponentDigits = 0, explicitExponent = 0;
+			for(; i < end; i++) {
+				char character = content.charAt(i);
+				if(character < '0' || character > '9') {
+					break;
+				}
+				
+				/* Anything larger than this is going to be either 0 or infinity regardless */
+				if(explicitExponent < 100000000) {
+					explicitExponent = explicitExponent * 10 + (character - '0');
+				}
+				
+				exponentDigits++;
+			}
+			
+			if(exponentDigits == 0) {
+				return DECIMAL_INVALID;
+			}
+			
+			this.explicitExponent = negativeExponent ? -explicitExponent : explicitExponent;
+		}
+		
+		if(i < end) {
+			char character = content.charAt(i);
+			
+			int suffixExponent = this.isFlag(SUFFIXES) ? NumberScanner.getSuffixExponent(character) : 0;
+			if(suffixExponent != 0) {
+				this.explicitExponent += suffixExponent;
+				i++;
+			}else if(character == 'f' || character == 'F' || character == 'd' || character == 'D') {
+				/* The same type suffixes as Double#parseDouble accepts */
+				i++;
+			}
+		}
+		
+		if(i != end) {
+			return DECIMAL_INVALID;
+		}
+		
+		this.exponent += this.explicitExponent;
+		
+		return DECIMAL_NUMBER;
+	}
+	
+	/* Only used for numbers which can not be computed exactly from the mantissa, the scanned content is always valid here */
+	private String getNormalizedDecimal(CharSequence content) {
+		StringBuilder builder = new StringBuilder(this.mantissaEnd - this.mantissaStart + 16);
+		if(this.negative) {
+			builder.append('-');
+		}
+		
+		for(int i = this.mantissaStart; i < this.mantissaEnd; i++) {
+			char character = content.charAt(i);
+			if(character != ',') {
+				builder.append(character);
+			}
+		}
+		
+		return builder.append('E').append(this.explicitExponent).toString();
+	}
+	
+	/**
+	 * Scan a decimal number, the same as {@link Double#parseDouble(String)} but without throwing any exceptions
+	 * for invalid input
+	 * 
+	 * @param content the content to scan
+	 * @param start the index to start scanning from, inclusive
+	 * @param end the index to stop scanning at, exclusive
+	 * 
+	 * @return whether or not the span was a valid number, if it was the number 
+	 * can be retrieved through {@link #getDouble()}
+	 */
+	public boolean scanDouble(@Nonnull CharSequence content, int start, int end) {
+		Checks.notNull(content, "content");
+		
+		/* Double#parseDouble ignores any leading and trailing whitespace */
+		while(start < end && content.charAt(start) <= ' ') {
+			start++;
+		}
+		
+		while(end > start && content.charAt(end - 1) <= ' ') {
+			end--;
+		}
+		
+		if(start >= end) {
+			return false;
+		}
+		
+		switch(this.scanDecimal(content, start, end)) {
+			case DECIMAL_NAN: {
+				this.doubleValue = Double.NaN;
+				
+				return true;
+			}
+			case DECIMAL_INFINITY: {
+				this.doubleValue = this.negative ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
+				
+				return true;
+			}
+			case DECIMAL_HEXADECIMAL: {
+				/* Hexadecimal floating point numbers are rare enough to not warrant a scanner of their own */
+				try {
+					this.doubleValue = Double.parseDouble(content.subSequence(start, end).toString());
+					
+					return true;
+				}catch(NumberFormatException e) {
+					return false;
+				}
+			}
+			case DECIMAL_NUMBER: {
+				double value;
+				if(this.mantissa == 0) {
+					value = 0D;
+				}else if(!this.truncated && this.mantissa < (1L << 53) && this.exponent >= -22 && this.exponent <= 22) {
+					/* Both the mantissa and the power of ten are exact so a single operation is correctly rounded */
+					value = this.mantissa;
+					value = this.exponent >= 0 ? value * DOUBLE_POWERS_OF_TEN[this.exponent] : value / DOUBLE_POWERS_OF_TEN[-this.exponent];
+				}else{
+					this.doubleValue = Double.parseDouble(this.getNormalizedDecimal(content));
+					
+					return true;
+				}
+				
+				this.doubleValue = this.negative ? -value : value;
+				
+				return true;
+			}
+			default: {
+				return false;
+			}
+		}
+	}
+	
+	/**
+	 * @see #scanDouble(CharSequence, int, int)
+	 */
+	public boolean scanDouble(@Nonnull CharSequence content) {
+		Checks.notNull(content, "content");
+		
+		return this.scanDouble(content, 0, content.length());
+	}
+	
+	/**
+	 * @return the value of the last successful {@link #scanDouble(CharSequence, int, int)}
+	 */
+	public double getDouble() {
+		return this.doubleValue;
+	}
+	
+	/**
+	 * Scan a decimal number, the same as {@link Float#parseFloat(String)} but without throwing any exceptions
+	 * for invalid input
+	 * 
+	 * @param content the content to scan
+	 * @param start the index to start scanning from, inclusive
+	 * @param end the index to stop scanning at, exclusive
+	 * 
+	 * @return whether or not the span was a valid number, if it was the number 
+	 * can be retrieved through {@link #getFloat()}
+	 */
+	public boolean scanFloat(@Nonnull CharSequence content, int start, int end) {
+		Checks.notNull(content, "content");
+		
+		while(start < end && content.charAt(start) <= ' ') {
+			start++;
+		}
+		
+		while(end > start && content.charAt(end - 1) <= ' ') {
+			end--;
+		}
+		
+		if(start >= end) {
+			return false;
+		}
+		
+		switch(this.scanDecimal(content, start, end)) {
+			case DECIMAL_NAN: {
+				this.floatValue = Float.NaN;
+				
+				return true;
+			}
+			case DECIMAL_INFINITY: {
+				this.floatValue = this.negative ? Float.NEGATIVE_INFINITY : Float.POSITIVE_INFINITY;
+				
+				return true;
+			}
+			case DECIMAL_HEXADECIMAL: {
+				try {
+					this.floatValue = Float.parseFloat(content.subSequence(start, end).toString());
+					
+					return true;
+				}catch(NumberFormatException e) {
+					return false;
+				}
+			}
+			case DECIMAL_NUMBER: {
+				float value;
+				if(this.mantissa == 0) {
+					value = 0F;
+				}else if(!this.truncated && this.mantissa < (1L << 24) && this.exponent >= -10 && this.exponent <= 10) {
+					value = this.mantissa;
+					value = this.exponent >= 0 ? value * FLOAT_POWERS_OF_TEN[this.exponent] : value / FLOAT_POWERS_OF_TEN[-this.exponent];
+				}else{
+					this.floatValue = Float.parseFloat(this.getNormalizedDecimal(content));
+					
+					return true;
+				}
+				
+				this.floatValue = this.negative ? -value : value;
+				
+				return true;
+			}
+			default: {
+				return false;
+			}
+		}
+	}
+	
+	/**
+	 * @see #scanFloat(CharSequence, int, int)
+	 */
+	public boolean scanFloat(@Nonnull CharSequence content) {
+		Checks.notNull(content, "content");
+		
+		return this.scanFloat(content, 0, content.length());
+	}
+	
+	/**
+	 * @return the value of the last successful {@link #scanFloat(CharSequence, int, int)}
+	 */
+	public float getFloat() {
+		return this.floatValue;
+	}
+}
\ No newline at end of file
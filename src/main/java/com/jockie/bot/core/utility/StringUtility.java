@@ -15,6 +15,36 @@ public class StringUtility {
 	
 	private StringUtility() {}
 	
+	/**
+	 * Fold the case of a String the same way {@link String#equalsIgnoreCase(String)} compares 
+	 * characters, two Strings are equal ignoring case if and only if their folded Strings are equal, 
+	 * this allows Strings to be looked up ignoring case in a hash based map
+	 * 
+	 * @param string the String to fold
+	 * 
+	 * @return the folded String
+	 */
+	@Nonnull
+	public static String foldCase(@Nonnull String string) {
+		Checks.notNull(string, "string");
+		
+		char[] characters = null;
+		for(int i = 0; i < string.length(); i++) {
+			char character = string.charAt(i);
+			char folded = Character.toLowerCase(Character.toUpperCase(character));
+			
+			if(folded != character) {
+				if(characters == null) {
+					characters = string.toCharArray();
+				}
+				
+				characters[i] = folded;
+			}
+		}
+		
+		return characters != null ? new String(characters) : string;
+	}
+	
 	/**
 	 * Removes all leading spaces from the provided string
 	 * 
@@ -157,16 +187,36 @@ public class StringUtility {
 	 */
 	@Nullable
 	public static String parseWrapped(@Nonnull String wrappedString, char wrapStart, char wrapEnd) {
-		if(wrappedString.length() > 0 && wrappedString.charAt(0) == wrapStart) {
-			int nextWrap = 0;
-			while((nextWrap = wrappedString.indexOf(wrapEnd, nextWrap + 1)) != -1 && wrappedString.charAt(nextWrap - 1) == '\\');
+		int end = StringUtility.parseWrappedEnd(wrappedString, 0, wrapStart, wrapEnd);
+		if(end != -1) {
+			return wrappedString.substring(0, end);
+		}
+		
+		return null;
+	}
+	
+	/**
+	 * Find the end of a wrapped String starting at the provided index, this is the same as 
+	 * {@link #parseWrapped(String, char, char)} but without having to create a substring
+	 * 
+	 * @param string the String containing the wrapped String
+	 * @param start the index the wrapped String starts at
+	 * @param wrapStart the start character which it is wrapped by
+	 * @param wrapEnd the end character which it is wrapped by
+	 * 
+	 * @return the index after the wrapEnd character, or -1 if there is no wrapped String at the index
+	 */
+	public static int parseWrappedEnd(@Nonnull String string, int start, char wrapStart, char wrapEnd) {
+		if(start < string.length() && string.charAt(start) == wrapStart) {
+			int nextWrap = start;
+			while((nextWrap = string.indexOf(wrapEnd, nextWrap + 1)) != -1 && string.charAt(nextWrap - 1) == '\\');
 			
 			if(nextWrap != -1) {
-				return wrappedString.substring(0, nextWrap + 1);
+				return nextWrap + 1;
 			}
 		}
 		
-		return null;
+		return -1;
 	}
 	
 	/**
@@ -0,0 +1,57 @@
+package test;
+
+public class TestResults {
+	
+	private final String name;
+	
+	private final StringBuilder successfulBuilder = new StringBuilder(), unsuccessfulBuilder = new StringBuilder();
+	
+	private int total, successful;
+	
+	public TestResults(String name) {
+		this.name = name;
+	}
+	
+	public TestResults check(String test, boolean status) {
+		if(status) {
+			this.successfulBuilder.append("+ [Passed] " + test + "\n");
+			this.successful += 1;
+		}else{
+			this.unsuccessfulBuilder.append("- [Failed] " + test + "\n");
+		}
+		
+		this.total += 1;
+		
+		return this;
+	}
+	
+	public boolean isSuccessful() {
+		return this.total == this.successful;
+	}
+	
+	/* Prints the results in the same format as CommandRunTests, the process fails if any of the tests failed */
+	public void print() {
+		StringBuilder result = new StringBuilder();
+		result.append("----------------------------\n");
+		result.append(this.name + "\n\n");
+		
+		if(this.successfulBuilder.length() > 0) {
+			result.append(this.successfulBuilder);
+			result.append("\n");
+		}
+		
+		if(this.unsuccessfulBuilder.length() > 0) {
+			result.append(this.unsuccessfulBuilder);
+			result.append("\n");
+		}
+		
+		result.append((this.isSuccessful() ? "+" : "-") + " Result [" + this.successful + "/" + this.total + "]");
+		result.append("\n----------------------------");
+		
+		System.out.println(result.toString());
+		
+		if(!this.isSuccessful()) {
+			System.exit(1);
+		}
+	}
+}
\ No newline at end of file
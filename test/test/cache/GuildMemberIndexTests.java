@@ -0,0 +1,246 @@
+package test.cache;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import com.jockie.bot.core.cache.GuildMemberIndex;
+import com.jockie.bot.core.cache.GuildMemberIndex.Match;
+
+import net.dv8tion.jda.api.entities.Member;
+import net.dv8tion.jda.api.entities.User;
+import test.TestResults;
+
+public class GuildMemberIndexTests {
+	
+	private static long nextId = 1;
+	
+	/* Only the parts of a member which are used by the index are implemented */
+	private static Member createMember(String name, String nickname) {
+		long id = GuildMemberIndexTests.nextId++;
+		
+		User user = (User) Proxy.newProxyInstance(User.class.getClassLoader(), new Class<?>[] { User.class }, (proxy, method, args) -> {
+			switch(method.getName()) {
+				case "getName": return name;
+				case "getAsTag": return name + "#0000";
+				case "getIdLong": return id;
+				case "getId": return Long.toString(id);
+				case "equals": return proxy == args[0];
+				case "hashCode": return System.identityHashCode(proxy);
+				case "toString": return name;
+				default: throw new UnsupportedOperationException(method.getName());
+			}
+		});
+		
+		return (Member) Proxy.newProxyInstance(Member.class.getClassLoader(), new Class<?>[] { Member.class }, (proxy, method, args) -> {
+			switch(method.getName()) {
+				case "getUser": return user;
+				case "getNickname": return nickname;
+				case "getEffectiveName": return nickname != null ? nickname : name;
+				case "getIdLong": return id;
+				case "getId": return Long.toString(id);
+				case "equals": return proxy == args[0];
+				case "hashCode": return System.identityHashCode(proxy);
+				case "toString": return name + (nickname != null ? " (" + nickname + ")" : "");
+				default: throw new UnsupportedOperationException(method.getName());
+			}
+		});
+	}
+	
+	private static int getDistance(String first, String second) {
+		int[] previous = new int[second.length() + 1], current = new int[second.length() + 1];
+		for(int j = 0; j <= second.length(); j++) {
+			previous[j] = j;
+		}
+		
+		for(int i = 1; i <= first.length(); i++) {
+			current[0] = i;
+			
+			for(int j = 1; j <= second.length(); j++) {
+				int cost = first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1;
+				
+				current[j] = Math.min(Math.min(previous[j] + 1, current[j - 1] + 1), previous[j - 1] + cost);
+			}
+			
+			int[] swap = previous;
+			previous = current;
+			current = swap;
+		}
+		
+		return previous[second.length()];
+	}
+	
+	private static int getDistance(String query, Member member) {
+		return Math.min(GuildMemberIndexTests.getDistance(query, member.getUser().getName()),
+			GuildMemberIndexTests.getDistance(query, member.getEffectiveName()));
+	}
+	
+	/* The search has to find the same distances as comparing the query to every member, a tie at the limit may be broken either way */
+	private static boolean isCorrect(List<Member> members, List<Match> matches, String query, int maxDistance, int limit) {
+		List<Integer> expected = new ArrayList<>();
+		for(Member member : members) {
+			int distance = GuildMemberIndexTests.getDistance(query, member);
+			if(distance <= maxDistance) {
+				expected.add(distance);
+			}
+		}
+		
+		Collections.sort(expected);
+		if(expected.size() > limit) {
+			expected = expected.subList(0, limit);
+		}
+		
+		List<Integer> actual = new ArrayList<>();
+		Set<Member> found = new HashSet<>();
+		for(Match match : matches) {
+			if(!found.add(match.getMember()) || GuildMemberIndexTests.getDistance(query, match.getMember()) != match.getDistance()) {
+				return false;
+			}
+			
+			actual.add(match.getDistance());
+		}
+		
+		return expected.equals(actual);
+	}
+	
+	private static List<String> getNames(List<Match> matches) {
+		List<String> names = new ArrayList<>();
+		for(Match match : matches) {
+			names.add(match.getMember().getUser().getName());
+		}
+		
+		return names;
+	}
+	
+	private static String createName(Random random, char[] alphabet, int maxLength) {
+		char[] name = new char[1 + random.nextInt(maxLength)];
+		for(int i = 0; i < name.length; i++) {
+			name[i] = alphabet[random.nextInt(alphabet.length)];
+		}
+		
+		return new String(name);
+	}
+	
+	private static boolean testRandom(long seed, char[] alphabet) {
+		Random random = new Random(seed);
+		
+		List<Member> members = new ArrayList<>();
+		GuildMemberIndex index = new GuildMemberIndex(0L);
+		for(int i = 0; i < 300; i++) {
+			String nickname = random.nextInt(4) == 0 ? GuildMemberIndexTests.createName(random, alphabet, 6) : null;
+			Member member = GuildMemberIndexTests.createMember(GuildMemberIndexTests.createName(random, alphabet, 6), nickname);
+			
+			members.add(member);
+			index.add(member);
+		}
+		
+		for(int i = 0; i < 500; i++) {
+			String query = GuildMemberIndexTests.createName(random, alphabet, 6);
+			int maxDistance = random.nextInt(4);
+			int limit = 1 + random.nextInt(5);
+			
+			if(!GuildMemberIndexTests.isCorrect(members, index.search(query, maxDistance, limit), query, maxDistance, limit)) {
+				return false;
+			}
+		}
+		
+		return true;
+	}
+	
+	public static void main(String[] args) {
+		TestResults results = new TestResults("GuildMemberIndex");
+		
+		{
+			GuildMemberIndex index = new GuildMemberIndex(0L);
+			for(String name : new String[] { "bat", "cab", "cat", "cut" }) {
+				index.add(GuildMemberIndexTests.createMember(name, null));
+			}
+			
+			List<Match> matches = index.search("cat", 2, 2);
+			results.check("closer match replaces a full limit", GuildMemberIndexTests.getNames(matches).equals(List.of("cat", "bat"))
+				&& matches.get(0).getDistance() == 0 && matches.get(1).getDistance() == 1);
+			
+			matches = index.search("CAT", 0, 1);
+			results.check("exact match ignoring case", GuildMemberIndexTests.getNames(matches).equals(List.of("cat")));
+			
+			matches = index.search("dog", 1, 5);
+			results.check("no match within the distance", matches.isEmpty());
+		}
+		
+		{
+			/* Every name is one edit away, only the first ones found within the limit are kept */
+			List<Member> members = new ArrayList<>();
+			GuildMemberIndex index = new GuildMemberIndex(0L);
+			for(String name : new String[] { "bat", "cab", "cut", "hat", "car" }) {
+				Member member = GuildMemberIndexTests.createMember(name, null);
+				
+				members.add(member);
+				index.add(member);
+			}
+			
+			List<Match> matches = index.search("cat", 3, 3);
+			results.check("ties at the limit", matches.size() == 3 && GuildMemberIndexTests.isCorrect(members, matches, "cat", 3, 3));
+			results.check("ties at the limit keep the first found", GuildMemberIndexTests.getNames(matches).equals(List.of("bat", "cab", "car")));
+		}
+		
+		{
+			/* The first names fill the limit with far matches, the bound then has to shrink without skipping the closer ones */
+			List<Member> members = new ArrayList<>();
+			GuildMemberIndex index = new GuildMemberIndex(0L);
+			for(String name : new String[] { "aaxx", "abxx", "acxx", "abcd", "abce", "zzzz", "abcz" }) {
+				Member member = GuildMemberIndexTests.createMember(name, null);
+				
+				members.add(member);
+				index.add(member);
+			}
+			
+			List<Match> matches = index.search("abcd", 3, 2);
+			results.check("bound shrinks", GuildMemberIndexTests.isCorrect(members, matches, "abcd", 3, 2)
+				&& GuildMemberIndexTests.getNames(matches).equals(List.of("abcd", "abce")));
+			
+			matches = index.search("abcd", 3, 1);
+			results.check("bound stops at an exact match", GuildMemberIndexTests.getNames(matches).equals(List.of("abcd")));
+		}
+		
+		{
+			/* Names which are pruned at Character.MAX_VALUE can not be skipped by incrementing the last character */
+			String max = String.valueOf(Character.MAX_VALUE);
+			
+			List<Member> members = new ArrayList<>();
+			GuildMemberIndex index = new GuildMemberIndex(0L);
+			for(String name : new String[] { "a" + max, "a" + max + max, "a" + max + "b", "ab", max, max + max + "x", max + "a", "b" }) {
+				Member member = GuildMemberIndexTests.createMember(name, null);
+				
+				members.add(member);
+				index.add(member);
+			}
+			
+			results.check("max value prefix before a match", GuildMemberIndexTests.getNames(index.search("b", 0, 5)).equals(List.of("b")));
+			results.check("max value prefix before a longer match", GuildMemberIndexTests.getNames(index.search("ab", 0, 5)).equals(List.of("ab")));
+			results.check("max value prefix match", GuildMemberIndexTests.getNames(index.search(max + max + "x", 0, 5)).equals(List.of(max + max + "x")));
+			results.check("max value prefix within distance", GuildMemberIndexTests.isCorrect(members, index.search("a" + max + "c", 2, 10), "a" + max + "c", 2, 10));
+		}
+		
+		{
+			GuildMemberIndex index = new GuildMemberIndex(0L);
+			
+			Member member = GuildMemberIndexTests.createMember("someone", "nick");
+			index.add(member);
+			
+			List<Match> matches = index.search("nick", 0, 5);
+			results.check("effective name", matches.size() == 1 && matches.get(0).getMember() == member);
+			
+			index.remove(member.getUser().getIdLong());
+			results.check("removed member", index.search("nick", 0, 5).isEmpty());
+		}
+		
+		results.check("random against every member", GuildMemberIndexTests.testRandom(0L, "abc".toCharArray()));
+		results.check("random with max value characters", GuildMemberIndexTests.testRandom(1L, new char[] { 'a', 'b', Character.MAX_VALUE }));
+		
+		results.print();
+	}
+}
\ No newline at end of file
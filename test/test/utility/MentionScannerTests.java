@@ -0,0 +1,70 @@
+package test.utility;
+
+import java.util.Objects;
+
+import com.jockie.bot.core.utility.MentionScanner;
+
+import net.dv8tion.jda.api.entities.Message.MentionType;
+import test.TestResults;
+
+public class MentionScannerTests {
+	
+	private static boolean testScan(MentionScanner scanner, String content, MentionType type, long id, boolean animated, String name) {
+		return scanner.scan(content) && scanner.getType() == type && scanner.getId() == id
+			&& scanner.isAnimated() == animated && Objects.equals(scanner.getName(), name);
+	}
+	
+	private static boolean testScan(MentionScanner scanner, String content, MentionType type, long id) {
+		return MentionScannerTests.testScan(scanner, content, type, id, false, null);
+	}
+	
+	public static void main(String[] args) {
+		TestResults results = new TestResults("MentionScanner");
+		
+		MentionScanner scanner = new MentionScanner();
+		
+		/* Every mention form */
+		results.check("user", MentionScannerTests.testScan(scanner, "<@190551803669118976>", MentionType.USER, 190551803669118976L));
+		results.check("user nickname", MentionScannerTests.testScan(scanner, "<@!190551803669118976>", MentionType.USER, 190551803669118976L));
+		results.check("role", MentionScannerTests.testScan(scanner, "<@&190551803669118976>", MentionType.ROLE, 190551803669118976L));
+		results.check("channel", MentionScannerTests.testScan(scanner, "<#190551803669118976>", MentionType.CHANNEL, 190551803669118976L));
+		results.check("emote", MentionScannerTests.testScan(scanner, "<:smile_2:190551803669118976>", MentionType.EMOTE, 190551803669118976L, false, "smile_2"));
+		results.check("animated emote", MentionScannerTests.testScan(scanner, "<a:dance:190551803669118976>", MentionType.EMOTE, 190551803669118976L, true, "dance"));
+		results.check("snowflake", MentionScannerTests.testScan(scanner, "190551803669118976", null, 190551803669118976L) && !scanner.isMention());
+		results.check("shortest mention", MentionScannerTests.testScan(scanner, "<@0>", MentionType.USER, 0L));
+		
+		/* Overflowing ids */
+		results.check("max id", MentionScannerTests.testScan(scanner, "<@9223372036854775807>", MentionType.USER, Long.MAX_VALUE));
+		results.check("overflowing id", !scanner.scan("<@9223372036854775808>"));
+		results.check("overflowing snowflake", !scanner.scan("9223372036854775808"));
+		results.check("overflowing emote id", !scanner.scan("<:smile:99999999999999999999>"));
+		results.check("overflowing parseSnowflake", MentionScanner.parseSnowflake("99999999999999999999") == -1L);
+		
+		/* Incomplete mentions */
+		String[] invalid = { "", "<", "<>", "<@>", "<@!>", "<@&>", "<#>", "<a:>", "<::>", "<a::>", "<:smile:>", "<a:smile>",
+			"<:smile190551803669118976>", "<:sm-ile:190551803669118976>", "<b:smile:190551803669118976>", "<@190551803669118976",
+			"@190551803669118976>", "<@-1>", "<@ 1>", "<@1> ", "<@!&1>", "-1", "1a" };
+		
+		for(String content : invalid) {
+			results.check("invalid \"" + content + "\"", !scanner.scan(content));
+		}
+		
+		/* A failed scan has to keep the values of the last successful one */
+		scanner.scan("<#1>");
+		scanner.scan("<@>");
+		results.check("failed scan keeps the last value", scanner.getType() == MentionType.CHANNEL && scanner.getId() == 1L);
+		
+		/* Spans */
+		String content = "hello <@!5> world";
+		results.check("span", scanner.scan(content, 6, 11) && scanner.getType() == MentionType.USER && scanner.getId() == 5L);
+		results.check("span emote name", scanner.scan("x<:ab:1>x", 1, 8) && "ab".equals(scanner.getName()));
+		results.check("empty span", !scanner.scan(content, 6, 6));
+		
+		/* Scans of a specific type, raw snowflakes are accepted for any type */
+		results.check("type", scanner.scan("<@&1>", MentionType.ROLE));
+		results.check("other type", !scanner.scan("<@&1>", MentionType.USER));
+		results.check("type snowflake", scanner.scan("1", MentionType.CHANNEL));
+		
+		results.print();
+	}
+}
\ No newline at end of file
@@ -0,0 +1,164 @@
+package test.utility;
+
+import java.util.Random;
+
+import com.jockie.bot.core.utility.NumberScanner;
+
+import test.TestResults;
+
+public class NumberScannerTests {
+	
+	private static boolean testLong(NumberScanner scanner, String content, long min, long max, Long expected) {
+		boolean scanned = scanner.scanLong(content, min, max);
+		if(expected == null) {
+			return !scanned;
+		}
+		
+		return scanned && scanner.getLong() == expected;
+	}
+	
+	private static boolean testLong(NumberScanner scanner, String content, Long expected) {
+		return NumberScannerTests.testLong(scanner, content, Long.MIN_VALUE, Long.MAX_VALUE, expected);
+	}
+	
+	/* The scanned value has to be exactly the same as the one Double#parseDouble gives, including the sign of zero */
+	private static boolean testDouble(NumberScanner scanner, String content) {
+		double expected;
+		try {
+			expected = Double.parseDouble(content);
+		}catch(NumberFormatException e) {
+			return !scanner.scanDouble(content);
+		}
+		
+		return scanner.scanDouble(content) && Double.doubleToRawLongBits(scanner.getDouble()) == Double.doubleToRawLongBits(expected);
+	}
+	
+	private static boolean testFloat(NumberScanner scanner, String content) {
+		float expected;
+		try {
+			expected = Float.parseFloat(content);
+		}catch(NumberFormatException e) {
+			return !scanner.scanFloat(content);
+		}
+		
+		return scanner.scanFloat(content) && Float.floatToRawIntBits(scanner.getFloat()) == Float.floatToRawIntBits(expected);
+	}
+	
+	private static boolean testDouble(NumberScanner scanner, String content, double expected) {
+		return scanner.scanDouble(content) && Double.compare(scanner.getDouble(), expected) == 0;
+	}
+	
+	public static void main(String[] args) {
+		TestResults results = new TestResults("NumberScanner");
+		
+		NumberScanner scanner = new NumberScanner();
+		NumberScanner suffixScanner = new NumberScanner(NumberScanner.SUFFIXES);
+		NumberScanner separatorScanner = new NumberScanner(NumberScanner.THOUSANDS_SEPARATORS);
+		
+		/* Whole numbers */
+		results.check("long 0", NumberScannerTests.testLong(scanner, "0", 0L));
+		results.check("long +15", NumberScannerTests.testLong(scanner, "+15", 15L));
+		results.check("long -15", NumberScannerTests.testLong(scanner, "-15", -15L));
+		results.check("long empty", NumberScannerTests.testLong(scanner, "", null));
+		results.check("long sign only", NumberScannerTests.testLong(scanner, "-", null));
+		results.check("long trailing character", NumberScannerTests.testLong(scanner, "15a", null));
+		results.check("long decimal", NumberScannerTests.testLong(scanner, "1.5", null));
+		
+		/* Overflow */
+		results.check("long max", NumberScannerTests.testLong(scanner, "9223372036854775807", Long.MAX_VALUE));
+		results.check("long min", NumberScannerTests.testLong(scanner, "-9223372036854775808", Long.MIN_VALUE));
+		results.check("long max + 1", NumberScannerTests.testLong(scanner, "9223372036854775808", null));
+		results.check("long min - 1", NumberScannerTests.testLong(scanner, "-9223372036854775809", null));
+		results.check("long many digits", NumberScannerTests.testLong(scanner, "92233720368547758070", null));
+		results.check("int max", NumberScannerTests.testLong(scanner, "2147483647", Integer.MIN_VALUE, Integer.MAX_VALUE, (long) Integer.MAX_VALUE));
+		results.check("int max + 1", NumberScannerTests.testLong(scanner, "2147483648", Integer.MIN_VALUE, Integer.MAX_VALUE, null));
+		results.check("int min - 1", NumberScannerTests.testLong(scanner, "-2147483649", Integer.MIN_VALUE, Integer.MAX_VALUE, null));
+		
+		/* Thousands separators */
+		results.check("separators", NumberScannerTests.testLong(separatorScanner, "1,000,000", 1000000L));
+		results.check("separators disabled", NumberScannerTests.testLong(scanner, "1,000", null));
+		results.check("separators short group", NumberScannerTests.testLong(separatorScanner, "1,00", null));
+		results.check("separators long group", NumberScannerTests.testLong(separatorScanner, "1000,000", null));
+		results.check("separators leading", NumberScannerTests.testLong(separatorScanner, ",100", null));
+		results.check("separators trailing", NumberScannerTests.testLong(separatorScanner, "100,", null));
+		results.check("separators decimal", NumberScannerTests.testDouble(separatorScanner, "1,234.5", 1234.5D));
+		
+		/* Suffixes */
+		results.check("suffix k", NumberScannerTests.testLong(suffixScanner, "15k", 15000L));
+		results.check("suffix M", NumberScannerTests.testLong(suffixScanner, "2M", 2000000L));
+		results.check("suffix b", NumberScannerTests.testLong(suffixScanner, "-3b", -3000000000L));
+		results.check("suffix fraction", NumberScannerTests.testLong(suffixScanner, "1.5k", 1500L));
+		results.check("suffix fraction not whole", NumberScannerTests.testLong(suffixScanner, "1.2345k", null));
+		results.check("suffix fraction without suffix", NumberScannerTests.testLong(suffixScanner, "1.5", null));
+		results.check("suffix fraction too long", NumberScannerTests.testLong(suffixScanner, "1.0000000000b", null));
+		results.check("suffix unknown", NumberScannerTests.testLong(suffixScanner, "15x", null));
+		results.check("suffix disabled", NumberScannerTests.testLong(scanner, "15k", null));
+		results.check("suffix overflow", NumberScannerTests.testLong(suffixScanner, "9223372036854776k", null));
+		results.check("suffix fraction min", NumberScannerTests.testLong(suffixScanner, "-9223372036854775.808k", Long.MIN_VALUE));
+		results.check("suffix fraction max + 1", NumberScannerTests.testLong(suffixScanner, "9223372036854775.808k", null));
+		results.check("suffix int range", NumberScannerTests.testLong(suffixScanner, "3b", Integer.MIN_VALUE, Integer.MAX_VALUE, null));
+		results.check("suffix double", NumberScannerTests.testDouble(suffixScanner, "1.5k", 1500D));
+		results.check("suffix double exponent", NumberScannerTests.testDouble(suffixScanner, "1e2k", 100000D));
+		results.check("suffix double disabled", !scanner.scanDouble("1.5k"));
+		
+		/* The fast path, an exact mantissa and power of ten */
+		String[] fast = { "0", "-0", "0.0", "1", "1.5", "-1.5", "0.1", "3.14159", "123456789.125", "1e22", "1e-22",
+			"9007199254740991", "4.35d", "4.35F", " 7.5 ", "000123.4500" };
+		
+		for(String content : fast) {
+			results.check("double fast path " + content.trim(), NumberScannerTests.testDouble(scanner, content));
+		}
+		
+		/* The fallback, anything which can not be computed with a single correctly rounded operation */
+		String[] fallback = { "9007199254740993", "1e23", "1e-23", "123456789012345678901234567890",
+			"0.30000000000000000000000000001", "1.7976931348623157e308", "1.8e308", "4.9e-324", "2e-324",
+			"2.2250738585072011e-308", "1e100000000000", "1e-100000000000", "-1e400" };
+		
+		for(String content : fallback) {
+			results.check("double fallback " + content, NumberScannerTests.testDouble(scanner, content));
+		}
+		
+		/* Special values and invalid content */
+		String[] special = { "NaN", "-Infinity", "+Infinity", "0x1.8p1", "0x", "", " ", "-", ".", "1.", ".5", "1e",
+			"1e+", "e5", "1.5.5", "1ee5", "nan", "1d5", "--1" };
+		
+		for(String content : special) {
+			results.check("double special \"" + content + "\"", NumberScannerTests.testDouble(scanner, content));
+		}
+		
+		String[] floats = { "1.1", "-0.5", "16777215", "16777217", "1e10", "1e11", "3.4028235e38", "3.5e38", "1.4e-45", "0.1f" };
+		for(String content : floats) {
+			results.check("float " + content, NumberScannerTests.testFloat(scanner, content));
+		}
+		
+		/* Random numbers hit both paths, every one of them has to match Double#parseDouble */
+		Random random = new Random(0);
+		
+		boolean randomDoubles = true, randomFloats = true;
+		for(int i = 0; i < 100000; i++) {
+			StringBuilder builder = new StringBuilder();
+			if(random.nextBoolean()) {
+				builder.append('-');
+			}
+			
+			builder.append(Math.abs(random.nextLong()) % (random.nextBoolean() ? 1000L : Long.MAX_VALUE));
+			if(random.nextBoolean()) {
+				builder.append('.').append(random.nextInt(Integer.MAX_VALUE));
+			}
+			
+			if(random.nextInt(4) == 0) {
+				builder.append('e').append(random.nextInt(80) - 40);
+			}
+			
+			String content = builder.toString();
+			
+			randomDoubles &= NumberScannerTests.testDouble(scanner, content);
+			randomFloats &= NumberScannerTests.testFloat(scanner, content);
+		}
+		
+		results.check("random doubles", randomDoubles);
+		results.check("random floats", randomFloats);
+		
+		results.print();
+	}
+}
\ No newline at end of file